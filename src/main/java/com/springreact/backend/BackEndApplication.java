@@ -2,6 +2,7 @@ package com.springreact.backend;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * BackEndApplication
@@ -16,8 +17,10 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  * DATE             AUTHOR              DESCRIPTION
  * -------------------------------------------------
  * 07-06-2021       ThanhBT11           Create
+ * 19-10-2026       ThanhBT11           Enable scheduling for change event relay
  */
 @SpringBootApplication
+@EnableScheduling
 public class BackEndApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,99 @@
+package com.springreact.backend.cache;
+
+import com.springreact.backend.entity.EChangeAggregate;
+
+import java.util.Set;
+
+/**
+ * CachedResponse
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ * 19-10-2026       ThanhBT11           Entity tag for gzipped body
+ */
+public final class CachedResponse {
+
+    private final byte[] identityBody;
+    private final byte[] gzipBody;
+    private final String eTag;
+    private final String gzipETag;
+    private final Set<EChangeAggregate> dependencies;
+
+    /**
+     * CachedResponse constructor(byte[], byte[], String, Set<EChangeAggregate>)
+     *
+     * @param identityBody serialized body
+     * @param gzipBody     gzipped serialized body
+     * @param digest       digest of serialized body, entity tags are built from it
+     * @param dependencies aggregates which invalidate this response when they change
+     */
+    CachedResponse(byte[] identityBody, byte[] gzipBody, String digest, Set<EChangeAggregate> dependencies) {
+        this.identityBody = identityBody;
+        this.gzipBody = gzipBody;
+        this.eTag = "\"" + digest + "\"";
+        this.gzipETag = "\"" + digest + "-gzip\"";
+        this.dependencies = dependencies;
+    }
+
+    /**
+     * Get serialized body
+     *
+     * @return serialized body
+     */
+    public byte[] getIdentityBody() {
+        return identityBody;
+    }
+
+    /**
+     * Get gzipped serialized body
+     *
+     * @return gzipped body
+     */
+    public byte[] getGzipBody() {
+        return gzipBody;
+    }
+
+    /**
+     * Get entity tag
+     *
+     * @return strong entity tag of serialized body
+     */
+    public String getETag() {
+        return eTag;
+    }
+
+    /**
+     * Get entity tag of gzipped body, a strong tag must differ for each content encoding
+     *
+     * @return strong entity tag of gzipped body
+     */
+    public String getGzipETag() {
+        return gzipETag;
+    }
+
+    /**
+     * Get dependencies
+     *
+     * @return aggregates which invalidate this response when they change
+     */
+    public Set<EChangeAggregate> getDependencies() {
+        return dependencies;
+    }
+
+    /**
+     * Bytes held by this response
+     *
+     * @return size of both bodies
+     */
+    public long size() {
+        return identityBody.length + gzipBody.length;
+    }
+}
@@ -0,0 +1,381 @@
+package com.springreact.backend.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springreact.backend.config.datasource.ReplicationRoutingDataSource;
+import com.springreact.backend.entity.ChangeEvent;
+import com.springreact.backend.entity.EChangeAggregate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * ResponseBodyCache
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ * 19-10-2026       ThanhBT11           Coalesce concurrent loads
+ * 19-10-2026       ThanhBT11           Negotiate cbor and smile encodings
+ * 19-10-2026       ThanhBT11           Prefill cached bodies before readiness
+ * 19-10-2026       ThanhBT11           Entity tag for each content encoding, fill cache from primary
+ */
+@Component
+public class ResponseBodyCache {
+
+    private static final String GZIP = "gzip";
+
+    /**
+     * Encoding of a cached body
+     */
+    private static final class Format {
+
+        private final MediaType mediaType;
+        private final ObjectMapper objectMapper;
+
+        private Format(MediaType mediaType, ObjectMapper objectMapper) {
+            this.mediaType = mediaType;
+            this.objectMapper = objectMapper;
+        }
+    }
+
+    //First one is the default when client does not ask for another encoding
+    private final List<Format> formats;
+
+    private final SingleFlight singleFlight;
+
+    private final long maxBytes;
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    //Access ordered, so the first entry is the least recently used one
+    private final LinkedHashMap<String, CachedResponse> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    //Bumped on every change of an aggregate, a body loaded before the bump is not stored
+    private final long[] generations = new long[EChangeAggregate.values().length];
+
+    private long totalBytes;
+
+    /**
+     * ResponseBodyCache constructor(ObjectMapper, MappingJackson2CborHttpMessageConverter,
+     * MappingJackson2SmileHttpMessageConverter, SingleFlight, long)
+     *
+     * @param objectMapper   objectMapper
+     * @param cborConverter  cborConverter
+     * @param smileConverter smileConverter
+     * @param singleFlight   singleFlight
+     * @param maxBytes       max bytes of all cached bodies
+     */
+    public ResponseBodyCache(ObjectMapper objectMapper,
+                             MappingJackson2CborHttpMessageConverter cborConverter,
+                             MappingJackson2SmileHttpMessageConverter smileConverter,
+                             SingleFlight singleFlight,
+                             @Value("${reactCrud.app.responseCache.maxBytes:33554432}") long maxBytes) {
+        this.formats = Arrays.asList(
+                new Format(MediaType.APPLICATION_JSON, objectMapper),
+                new Format(MediaType.APPLICATION_CBOR, cborConverter.getObjectMapper()),
+                new Format(new MediaType("application", "x-jackson-smile"), smileConverter.getObjectMapper()));
+        this.singleFlight = singleFlight;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Build cache key of an endpoint and its parameters
+     *
+     * @param endpoint request mapping of endpoint
+     * @param params   request parameters which change the body
+     * @return cache key
+     */
+    public static String key(String endpoint, Object... params) {
+        StringBuilder key = new StringBuilder(endpoint);
+        for (Object param : params) {
+            key.append('|').append(param);
+        }
+        return key.toString();
+    }
+
+    /**
+     * Respond with cached body, body is loaded and serialized only if it is not cached.
+     * Body is encoded as json, cbor or smile following client's Accept, each encoding is cached apart.
+     * Return null when client's If-None-Match matches, status 304 is already set
+     *
+     * @param key          cache key
+     * @param webRequest   current request
+     * @param loader       load body when it is not cached
+     * @param dependencies aggregates which invalidate this body when they change
+     * @return response with serialized body, gzipped if client accepts it
+     */
+    public ResponseEntity<byte[]> respond(String key,
+                                          WebRequest webRequest,
+                                          Supplier<?> loader,
+                                          EChangeAggregate... dependencies) {
+        Format format = negotiate(webRequest);
+        String formatKey = key + "|" + format.mediaType;
+
+        CachedResponse cachedResponse = get(formatKey);
+        if (cachedResponse == null) {
+            Set<EChangeAggregate> dependencySet = dependencySetOf(dependencies);
+            long generation = generationOf(dependencySet);
+
+            //Concurrent misses share one load, generation is part of the key
+            //so a caller never joins a load started before the latest write
+            cachedResponse = singleFlight.execute(
+                    SingleFlight.scopedKey(formatKey) + "|" + generation,
+                    () -> load(formatKey, format, loader, dependencySet, generation));
+        }
+
+        boolean gzip = acceptsGzip(webRequest);
+        String eTag = gzip ? cachedResponse.getGzipETag() : cachedResponse.getETag();
+
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(format.mediaType)
+                .eTag(eTag)
+                .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+
+        if (gzip) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, GZIP)
+                    .body(cachedResponse.getGzipBody());
+        }
+        return builder.body(cachedResponse.getIdentityBody());
+    }
+
+    /**
+     * Load body once and cache it in every encoding, so the first requests after startup are hits.
+     * Encodings which are already cached are kept
+     *
+     * @param key          cache key, the same as the endpoint uses
+     * @param loader       load body
+     * @param dependencies aggregates which invalidate this body when they change
+     */
+    public void prefill(String key, Supplier<?> loader, EChangeAggregate... dependencies) {
+        Set<EChangeAggregate> dependencySet = dependencySetOf(dependencies);
+        long generation = generationOf(dependencySet);
+        Object body = ReplicationRoutingDataSource.onPrimary(loader);
+
+        for (Format format : formats) {
+            String formatKey = key + "|" + format.mediaType;
+            if (get(formatKey) == null) {
+                load(formatKey, format, () -> body, dependencySet, generation);
+            }
+        }
+    }
+
+    /**
+     * Drop cached bodies which depend on the changed aggregate, after the change is committed
+     *
+     * @param changeEvent recorded change
+     */
+    @TransactionalEventListener
+    public void onChange(ChangeEvent changeEvent) {
+        invalidate(changeEvent.getAggregate());
+    }
+
+    /**
+     * Drop cached bodies which depend on an aggregate
+     *
+     * @param aggregate changed aggregate
+     */
+    public synchronized void invalidate(EChangeAggregate aggregate) {
+        generations[aggregate.ordinal()]++;
+
+        Iterator<CachedResponse> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            CachedResponse cachedResponse = iterator.next();
+            if (cachedResponse.getDependencies().contains(aggregate)) {
+                totalBytes -= cachedResponse.size();
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Get cached body
+     *
+     * @param key cache key
+     * @return cached body, null if it is not cached
+     */
+    private synchronized CachedResponse get(String key) {
+        return entries.get(key);
+    }
+
+    /**
+     * Load, serialize and gzip body, then store it if no dependency changed meanwhile
+     *
+     * @param key           cache key
+     * @param format        encoding of body
+     * @param loader        load body
+     * @param dependencySet aggregates which invalidate this body when they change
+     * @param generation    generation of dependencies before body is loaded
+     * @return loaded body
+     */
+    private CachedResponse load(String key,
+                                Format format,
+                                Supplier<?> loader,
+                                Set<EChangeAggregate> dependencySet,
+                                long generation) {
+        byte[] identityBody;
+        try {
+            //Replica may not have the change which invalidated this body yet, read it from primary
+            identityBody = format.objectMapper.writeValueAsBytes(ReplicationRoutingDataSource.onPrimary(loader));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        String digest = DigestUtils.md5DigestAsHex(identityBody);
+        CachedResponse cachedResponse = new CachedResponse(identityBody, gzip(identityBody), digest, dependencySet);
+
+        put(key, cachedResponse, generation);
+        return cachedResponse;
+    }
+
+    /**
+     * Store body and evict least recently used bodies until total size is under the limit
+     *
+     * @param key            cache key
+     * @param cachedResponse loaded body
+     * @param generation     generation of dependencies before body was loaded
+     */
+    private synchronized void put(String key, CachedResponse cachedResponse, long generation) {
+        if (generation != generationOf(cachedResponse.getDependencies())) {
+            //A dependency changed while loading, body may be stale
+            return;
+        }
+        if (cachedResponse.size() > maxBytes) {
+            logger.warn("Response of " + key + " is too large to cache: " + cachedResponse.size() + " bytes");
+            return;
+        }
+
+        CachedResponse previous = entries.put(key, cachedResponse);
+        if (previous != null) {
+            totalBytes -= previous.size();
+        }
+        totalBytes += cachedResponse.size();
+
+        Iterator<Map.Entry<String, CachedResponse>> iterator = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && iterator.hasNext()) {
+            totalBytes -= iterator.next().getValue().size();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Copy dependencies to an enum set
+     *
+     * @param dependencies aggregates
+     * @return dependency set, empty if there is no dependency
+     */
+    private static Set<EChangeAggregate> dependencySetOf(EChangeAggregate... dependencies) {
+        return dependencies.length == 0
+                ? EnumSet.noneOf(EChangeAggregate.class)
+                : EnumSet.copyOf(Arrays.asList(dependencies));
+    }
+
+    /**
+     * Sum of generations of dependencies, it only changes when one of them changes
+     *
+     * @param dependencies aggregates
+     * @return generation
+     */
+    private synchronized long generationOf(Set<EChangeAggregate> dependencies) {
+        long generation = 0L;
+        for (EChangeAggregate aggregate : dependencies) {
+            generation += generations[aggregate.ordinal()];
+        }
+        return generation;
+    }
+
+    /**
+     * Pick the encoding of the most preferred type in client's Accept, json if none of them is supported
+     *
+     * @param webRequest current request
+     * @return negotiated encoding
+     */
+    private Format negotiate(WebRequest webRequest) {
+        String accept = webRequest.getHeader(HttpHeaders.ACCEPT);
+        if (!StringUtils.hasText(accept)) {
+            return formats.get(0);
+        }
+
+        List<MediaType> acceptedTypes;
+        try {
+            acceptedTypes = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return formats.get(0);
+        }
+        MediaType.sortBySpecificityAndQuality(acceptedTypes);
+
+        for (MediaType acceptedType : acceptedTypes) {
+            if (acceptedType.getQualityValue() == 0.0) {
+                continue;
+            }
+            for (Format format : formats) {
+                if (acceptedType.includes(format.mediaType)) {
+                    return format;
+                }
+            }
+        }
+        return formats.get(0);
+    }
+
+    /**
+     * Check client accepts gzip encoding
+     *
+     * @param webRequest current request
+     * @return true if Accept-Encoding contains gzip
+     */
+    private static boolean acceptsGzip(WebRequest webRequest) {
+        String acceptEncoding = webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.toLowerCase().contains(GZIP);
+    }
+
+    /**
+     * Gzip a body
+     *
+     * @param body serialized body
+     * @return gzipped body
+     */
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            gzipOutputStream.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return outputStream.toByteArray();
+    }
+}
@@ -0,0 +1,161 @@
+package com.springreact.backend.cache;
+
+import com.springreact.backend.logging.RateLimitedLogger;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * SingleFlight
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ * 19-10-2026       ThanhBT11           Bound wait of coalesced callers
+ */
+@Component
+public class SingleFlight {
+
+    private static final String METRIC_NAME = "single.flight.calls";
+
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter leaderCounter;
+
+    private final Counter coalescedCounter;
+
+    private final Counter fallbackCounter;
+
+    private final long waitTimeoutMs;
+
+    private final RateLimitedLogger logger = RateLimitedLogger.getLogger(this.getClass());
+
+    /**
+     * SingleFlight constructor(MeterRegistry, long)
+     *
+     * @param meterRegistry meterRegistry
+     * @param waitTimeoutMs max time a caller waits for a computation in flight before loading on its own
+     */
+    public SingleFlight(MeterRegistry meterRegistry,
+                        @Value("${reactCrud.app.singleFlight.waitTimeoutMs:5000}") long waitTimeoutMs) {
+        this.leaderCounter = Counter.builder(METRIC_NAME)
+                .description("Calls which ran the computation")
+                .tag("result", "leader")
+                .register(meterRegistry);
+        this.coalescedCounter = Counter.builder(METRIC_NAME)
+                .description("Calls which waited for a computation already in flight")
+                .tag("result", "coalesced")
+                .register(meterRegistry);
+        this.fallbackCounter = Counter.builder(METRIC_NAME)
+                .description("Calls which stopped waiting for a computation in flight and ran their own")
+                .tag("result", "fallback")
+                .register(meterRegistry);
+        this.waitTimeoutMs = waitTimeoutMs;
+    }
+
+    /**
+     * Build key of an endpoint, its parameters and authorities of current caller,
+     * so callers with different permissions never share a result
+     *
+     * @param endpoint request mapping of endpoint
+     * @param params   request parameters
+     * @return scoped key
+     */
+    public static String scopedKey(String endpoint, Object... params) {
+        List<String> authorities = new ArrayList<>();
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null) {
+            for (GrantedAuthority authority : authentication.getAuthorities()) {
+                authorities.add(authority.getAuthority());
+            }
+            Collections.sort(authorities);
+        }
+        return ResponseBodyCache.key(endpoint, params) + "|" + String.join(",", authorities);
+    }
+
+    /**
+     * Run loader, or wait for the result of the same key if it is already running.
+     * A caller waits at most waitTimeoutMs, then runs loader itself without sharing its result,
+     * so a stuck computation never holds every caller of its key
+     *
+     * @param key    scoped key
+     * @param loader computation
+     * @param <T>    result type
+     * @return result of the only computation in flight for this key
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Supplier<T> loader) {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(key, future);
+
+        if (running != null) {
+            coalescedCounter.increment();
+            try {
+                return (T) running.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+            } catch (ExecutionException e) {
+                throw unwrap(e);
+            } catch (TimeoutException e) {
+                logger.warn("execute.TimeoutException",
+                        "Computation of key {} still running after {} ms, loading separately", key, waitTimeoutMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                logger.warn("execute.InterruptedException",
+                        "Interrupted while waiting for key {}, loading separately", key);
+            }
+            fallbackCounter.increment();
+            return loader.get();
+        }
+
+        leaderCounter.increment();
+        try {
+            T result = loader.get();
+            future.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            //Later callers start a new computation, they must not get a result older than their request
+            inFlight.remove(key, future);
+        }
+    }
+
+    /**
+     * Rethrow failure of leader in waiting callers
+     *
+     * @param e execution exception
+     * @return runtime exception to throw
+     */
+    private static RuntimeException unwrap(ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return new IllegalStateException(cause);
+    }
+}
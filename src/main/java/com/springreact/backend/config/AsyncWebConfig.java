@@ -0,0 +1,159 @@
+package com.springreact.backend.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ConcurrentTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AsyncWebConfig
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ * 19-10-2026       ThanhBT11           Call Callable results directly in SYNC mode
+ */
+@Configuration
+public class AsyncWebConfig implements WebMvcConfigurer {
+
+    /**
+     * Where controller methods returning Callable are executed
+     * SYNC: called on the Tomcat worker, no async request is started (default, same as before)
+     * POOL: on a dedicated bounded thread pool
+     * VIRTUAL: one virtual thread per request (JDK 21+, fall back to POOL)
+     */
+    public enum ExecutionMode {
+        SYNC,
+        POOL,
+        VIRTUAL
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    @Value("${reactCrud.app.async.mode:SYNC}")
+    private ExecutionMode mode;
+
+    @Value("${reactCrud.app.async.poolSize:200}")
+    private int poolSize;
+
+    @Value("${reactCrud.app.async.queueCapacity:2000}")
+    private int queueCapacity;
+
+    @Value("${reactCrud.app.async.timeoutMs:30000}")
+    private long timeoutMs;
+
+    /**
+     * Executor service for blocking controller work
+     *
+     * @return executor service base on execution mode
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService blockingExecutorService() {
+        switch (mode) {
+            case POOL:
+                return threadPoolExecutor();
+            case VIRTUAL:
+                return virtualThreadExecutor();
+            default:
+                return new DirectExecutorService();
+        }
+    }
+
+    /**
+     * Task executor for blocking controller work
+     *
+     * @param blockingExecutorService blockingExecutorService
+     * @return async task executor
+     */
+    @Bean
+    public AsyncTaskExecutor blockingTaskExecutor(ExecutorService blockingExecutorService) {
+        return new ConcurrentTaskExecutor(blockingExecutorService);
+    }
+
+    /**
+     * In SYNC mode, call Callable results on the request thread instead of starting an async request
+     * which would only run them on the same thread and dispatch the request a second time
+     *
+     * @return bean post processor installing SyncCallableReturnValueHandler
+     */
+    @Bean
+    @ConditionalOnProperty(name = "reactCrud.app.async.mode", havingValue = "SYNC", matchIfMissing = true)
+    public static BeanPostProcessor syncCallableInstaller() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof RequestMappingHandlerAdapter) {
+                    SyncCallableReturnValueHandler.install((RequestMappingHandlerAdapter) bean);
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Configure Spring MVC to run Callable results on blocking task executor
+     *
+     * @param configurer AsyncSupportConfigurer
+     */
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(blockingTaskExecutor(blockingExecutorService()));
+        configurer.setDefaultTimeout(timeoutMs);
+        logger.info("Blocking endpoints run in {} mode", mode);
+    }
+
+    /**
+     * Bounded thread pool, rejects new work when the queue is full
+     *
+     * @return thread pool executor
+     */
+    private ExecutorService threadPoolExecutor() {
+        return new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                60L,
+                TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("blocking-io-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    /**
+     * Virtual thread executor, looked up by reflection because we still compile for Java 8
+     *
+     * @return virtual thread per task executor, or thread pool if JVM does not support it
+     */
+    private ExecutorService virtualThreadExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            logger.warn("Virtual threads are not supported by this JVM, using thread pool instead");
+            return threadPoolExecutor();
+        }
+    }
+}
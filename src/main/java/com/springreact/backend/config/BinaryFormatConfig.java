@@ -0,0 +1,51 @@
+package com.springreact.backend.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * BinaryFormatConfig
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ */
+@Configuration
+public class BinaryFormatConfig {
+
+    /**
+     * CBOR converter, selected by Accept: application/cbor.
+     * Built from the application's builder so it uses the same modules and settings as json,
+     * response serializers only use the generator api so they write all encodings
+     *
+     * @param builder Jackson2ObjectMapperBuilder
+     * @return cbor message converter
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    /**
+     * Smile converter, selected by Accept: application/x-jackson-smile
+     *
+     * @param builder Jackson2ObjectMapperBuilder
+     * @return smile message converter
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
@@ -0,0 +1,86 @@
+package com.springreact.backend.config;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DirectExecutorService
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ */
+public class DirectExecutorService extends AbstractExecutorService {
+
+    private volatile boolean shutdown;
+
+    /**
+     * Run task on the calling thread
+     *
+     * @param command task to run
+     */
+    @Override
+    public void execute(Runnable command) {
+        command.run();
+    }
+
+    /**
+     * Shutdown executor
+     */
+    @Override
+    public void shutdown() {
+        shutdown = true;
+    }
+
+    /**
+     * Shutdown executor, there are never pending tasks
+     *
+     * @return empty list
+     */
+    @Override
+    public List<Runnable> shutdownNow() {
+        shutdown = true;
+        return Collections.emptyList();
+    }
+
+    /**
+     * Check executor is shutdown
+     *
+     * @return true if shutdown
+     */
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    /**
+     * Check executor is terminated
+     *
+     * @return true if shutdown
+     */
+    @Override
+    public boolean isTerminated() {
+        return shutdown;
+    }
+
+    /**
+     * Wait for termination, tasks never outlive their caller
+     *
+     * @param timeout wait time
+     * @param unit    time unit
+     * @return true if shutdown
+     */
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) {
+        return shutdown;
+    }
+}
@@ -0,0 +1,47 @@
+package com.springreact.backend.config;
+
+import com.springreact.backend.logging.RateLimitedLogger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * LoggingConfig
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ * 19-10-2026       ThanhBT11           Flush summaries of ended windows on a timer
+ */
+@Configuration
+public class LoggingConfig {
+
+    /**
+     * Apply limits of rate limited loggers (JWT validation, unauthorized requests, service errors).
+     * Async appenders are configured in logback-spring.xml
+     *
+     * @param windowMs    window length in milliseconds
+     * @param burst       messages of a key written per window
+     * @param sampleEvery one of this many suppressed messages is still written, 0 writes none
+     */
+    public LoggingConfig(@Value("${reactCrud.app.logging.windowMs:10000}") long windowMs,
+                         @Value("${reactCrud.app.logging.burst:5}") int burst,
+                         @Value("${reactCrud.app.logging.sampleEvery:1000}") int sampleEvery) {
+        RateLimitedLogger.configure(windowMs, burst, sampleEvery);
+    }
+
+    /**
+     * Write summaries of suppressed messages of ended windows, keys not logged again are reported too
+     */
+    @Scheduled(fixedDelayString = "${reactCrud.app.logging.windowMs:10000}")
+    public void flushSuppressedMessages() {
+        RateLimitedLogger.flushExpired();
+    }
+}
@@ -0,0 +1,157 @@
+package com.springreact.backend.config;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandlerComposite;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * SyncCallableReturnValueHandler
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ */
+public class SyncCallableReturnValueHandler implements HandlerMethodReturnValueHandler {
+
+    private final HandlerMethodReturnValueHandlerComposite delegate = new HandlerMethodReturnValueHandlerComposite();
+
+    /**
+     * SyncCallableReturnValueHandler constructor(List)
+     *
+     * @param handlers handlers of the Callable result, in adapter order
+     */
+    public SyncCallableReturnValueHandler(List<HandlerMethodReturnValueHandler> handlers) {
+        this.delegate.addHandlers(handlers);
+    }
+
+    /**
+     * Put a SyncCallableReturnValueHandler in front of the return value handlers of an adapter,
+     * so Callable results never reach the async Callable handler
+     *
+     * @param adapter initialized RequestMappingHandlerAdapter
+     */
+    public static void install(RequestMappingHandlerAdapter adapter) {
+        List<HandlerMethodReturnValueHandler> handlers = adapter.getReturnValueHandlers();
+        if (handlers == null) {
+            return;
+        }
+
+        List<HandlerMethodReturnValueHandler> newHandlers = new ArrayList<>(handlers.size() + 1);
+        newHandlers.add(new SyncCallableReturnValueHandler(handlers));
+        newHandlers.addAll(handlers);
+        adapter.setReturnValueHandlers(newHandlers);
+    }
+
+    /**
+     * Support handler methods returning Callable
+     *
+     * @param returnType return type of handler method
+     * @return true if return type is Callable
+     */
+    @Override
+    public boolean supportsReturnType(MethodParameter returnType) {
+        return Callable.class.isAssignableFrom(returnType.getParameterType());
+    }
+
+    /**
+     * Call the Callable on the request thread and handle its result as if the handler method returned it,
+     * no async request is started and the request is not dispatched again
+     *
+     * @param returnValue  Callable returned by handler method
+     * @param returnType   return type of handler method
+     * @param mavContainer ModelAndViewContainer
+     * @param webRequest   current request
+     * @throws Exception exception of the Callable, resolved by exception handlers as usual
+     */
+    @Override
+    public void handleReturnValue(Object returnValue,
+                                  MethodParameter returnType,
+                                  ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest) throws Exception {
+        if (returnValue == null) {
+            mavContainer.setRequestHandled(true);
+            return;
+        }
+
+        Object result = ((Callable<?>) returnValue).call();
+        delegate.handleReturnValue(result, new CallableResultParameter(returnType, result), mavContainer, webRequest);
+    }
+
+    /**
+     * Return type of the Callable result, like the parameter Spring MVC uses for a concurrent result
+     */
+    private static class CallableResultParameter extends MethodParameter {
+
+        private final Object result;
+
+        private final ResolvableType resultType;
+
+        /**
+         * CallableResultParameter constructor(MethodParameter, Object)
+         *
+         * @param returnType return type of handler method, Callable&lt;T&gt;
+         * @param result     result of the Callable
+         */
+        CallableResultParameter(MethodParameter returnType, Object result) {
+            super(returnType);
+            this.result = result;
+            this.resultType = ResolvableType.forType(returnType.getGenericParameterType()).getGeneric();
+        }
+
+        /**
+         * CallableResultParameter copy constructor
+         *
+         * @param original parameter to copy
+         */
+        private CallableResultParameter(CallableResultParameter original) {
+            super(original);
+            this.result = original.result;
+            this.resultType = original.resultType;
+        }
+
+        @Override
+        public Class<?> getParameterType() {
+            if (result != null) {
+                return result.getClass();
+            }
+            Class<?> resolved = resultType.resolve();
+            return resolved != null ? resolved : Object.class;
+        }
+
+        @Override
+        public Type getGenericParameterType() {
+            return resultType.getType();
+        }
+
+        @Override
+        public Class<?> getNestedParameterType() {
+            return getParameterType();
+        }
+
+        @Override
+        public Type getNestedGenericParameterType() {
+            return getGenericParameterType();
+        }
+
+        @Override
+        public CallableResultParameter clone() {
+            return new CallableResultParameter(this);
+        }
+    }
+}
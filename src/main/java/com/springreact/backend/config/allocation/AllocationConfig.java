@@ -0,0 +1,62 @@
+package com.springreact.backend.config.allocation;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * AllocationConfig
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ */
+@Configuration
+@ConditionalOnProperty(name = "reactCrud.app.allocation.enabled", matchIfMissing = true)
+public class AllocationConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(AllocationConfig.class);
+
+    /**
+     * Register allocation filter right after first request filter, so it counts every other filter.
+     * Per endpoint report: /actuator/metrics/http.server.requests.allocated?tag=uri:{pattern}
+     * When the JVM has no thread allocation counters the filter is disabled (no-op registration).
+     *
+     * @param meterRegistry meterRegistry
+     * @return allocation filter registration
+     */
+    @Bean
+    public FilterRegistrationBean<AllocationFilter> allocationFilter(MeterRegistry meterRegistry) {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        FilterRegistrationBean<AllocationFilter> registration;
+
+        if (threadMXBean instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) threadMXBean).isThreadAllocatedMemorySupported()) {
+            com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) threadMXBean;
+            allocationBean.setThreadAllocatedMemoryEnabled(true);
+            registration = new FilterRegistrationBean<>(new AllocationFilter(allocationBean, meterRegistry));
+        } else {
+            logger.warn("Thread allocated memory is not supported by this JVM, allocation filter is disabled");
+            registration = new FilterRegistrationBean<>(new AllocationFilter(null, meterRegistry));
+            registration.setEnabled(false);
+        }
+
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+}
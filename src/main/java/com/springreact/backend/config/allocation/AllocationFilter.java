@@ -0,0 +1,128 @@
+package com.springreact.backend.config.allocation;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * AllocationFilter
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ */
+public class AllocationFilter extends OncePerRequestFilter {
+
+    /**
+     * Request attribute holding the bytes allocated by the request so far (Long)
+     */
+    public static final String ALLOCATED_BYTES_ATTRIBUTE = AllocationFilter.class.getName() + ".ALLOCATED_BYTES";
+
+    public static final String METRIC_NAME = "http.server.requests.allocated";
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final com.sun.management.ThreadMXBean threadMXBean;
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * AllocationFilter constructor(ThreadMXBean, MeterRegistry)
+     *
+     * @param threadMXBean  thread bean with allocated bytes counters enabled, null when not supported
+     * @param meterRegistry meterRegistry
+     */
+    public AllocationFilter(com.sun.management.ThreadMXBean threadMXBean, MeterRegistry meterRegistry) {
+        this.threadMXBean = threadMXBean;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Pass every request when the JVM has no thread allocation counters
+     *
+     * @param request HttpServletRequest
+     * @return true if allocation is not counted
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return threadMXBean == null;
+    }
+
+    /**
+     * Async dispatch of Callable endpoints (login, password, mail) renders the response,
+     * it is counted into the same request
+     *
+     * @return false
+     */
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    /**
+     * Count bytes allocated by the current thread while the request passes the chain.
+     * Every dispatch adds to the request attribute, the total is recorded once the response is complete,
+     * tagged by handler pattern, so /employees/1 and /employees/2 are one endpoint.
+     * Work handed to other threads (POOL and VIRTUAL async modes, dashboard and batch pools) is not counted.
+     *
+     * @param request     HttpServletRequest
+     * @param response    HttpServletResponse
+     * @param filterChain FilterChain
+     * @throws ServletException throw ServletException
+     * @throws IOException      throw IOException
+     */
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        long threadId = Thread.currentThread().getId();
+        long before = threadMXBean.getThreadAllocatedBytes(threadId);
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - before;
+            Long previous = (Long) request.getAttribute(ALLOCATED_BYTES_ATTRIBUTE);
+            long total = previous == null ? allocated : previous + allocated;
+            request.setAttribute(ALLOCATED_BYTES_ATTRIBUTE, total);
+
+            if (!request.isAsyncStarted()) {
+                record(request, response, total);
+            }
+        }
+    }
+
+    /**
+     * Record allocated bytes of a completed request
+     *
+     * @param request  HttpServletRequest
+     * @param response HttpServletResponse
+     * @param total    allocated bytes of all dispatches
+     */
+    private void record(HttpServletRequest request, HttpServletResponse response, long total) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+
+        DistributionSummary.builder(METRIC_NAME)
+                .description("Bytes allocated on the servlet thread per request")
+                .baseUnit("bytes")
+                .tag("method", request.getMethod())
+                .tag("uri", pattern == null ? UNKNOWN_URI : pattern.toString())
+                .tag("status", String.valueOf(response.getStatus()))
+                .register(meterRegistry)
+                .record(total);
+    }
+}
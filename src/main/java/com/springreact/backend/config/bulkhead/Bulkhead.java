@@ -0,0 +1,198 @@
+package com.springreact.backend.config.bulkhead;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bulkhead
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ */
+public class Bulkhead {
+
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+
+    private final String name;
+    private final int maxConcurrent;
+    private final int minConcurrent;
+    private final int queueDepth;
+    private final long queueTimeoutNanos;
+    private final boolean adaptive;
+    private final long targetLatencyNanos;
+
+    private final Counter queueFullCounter;
+    private final Counter queueTimeoutCounter;
+
+    private int limit;
+    private int inFlight;
+    private int queued;
+
+    //Adaptive window, limit is tuned once per "limit" completed requests
+    private int windowSamples;
+    private long windowLatencyNanos;
+    private int windowPeakInFlight;
+
+    /**
+     * Bulkhead constructor(String, int, int, long, boolean, long, MeterRegistry)
+     *
+     * @param name            group name
+     * @param maxConcurrent   max requests running at the same time
+     * @param queueDepth      max requests waiting for a permit
+     * @param queueTimeoutMs  max time a request waits for a permit
+     * @param adaptive        tune limit from observed latency
+     * @param targetLatencyMs latency above which adaptive limit is decreased
+     * @param meterRegistry   meterRegistry
+     */
+    public Bulkhead(String name,
+                    int maxConcurrent,
+                    int queueDepth,
+                    long queueTimeoutMs,
+                    boolean adaptive,
+                    long targetLatencyMs,
+                    MeterRegistry meterRegistry) {
+        this.name = name;
+        this.maxConcurrent = Math.max(1, maxConcurrent);
+        this.minConcurrent = Math.max(1, this.maxConcurrent / 10);
+        this.queueDepth = Math.max(0, queueDepth);
+        this.queueTimeoutNanos = queueTimeoutMs * NANOS_PER_MILLI;
+        this.adaptive = adaptive;
+        this.targetLatencyNanos = targetLatencyMs * NANOS_PER_MILLI;
+        this.limit = this.maxConcurrent;
+
+        Gauge.builder("bulkhead.limit", this, Bulkhead::getLimit)
+                .tag("group", name).register(meterRegistry);
+        Gauge.builder("bulkhead.in.flight", this, Bulkhead::getInFlight)
+                .tag("group", name).register(meterRegistry);
+        Gauge.builder("bulkhead.queued", this, Bulkhead::getQueued)
+                .tag("group", name).register(meterRegistry);
+        this.queueFullCounter = Counter.builder("bulkhead.rejections")
+                .tag("group", name).tag("reason", "queueFull").register(meterRegistry);
+        this.queueTimeoutCounter = Counter.builder("bulkhead.rejections")
+                .tag("group", name).tag("reason", "queueTimeout").register(meterRegistry);
+    }
+
+    /**
+     * Take a permit, wait in queue if all permits are taken
+     *
+     * @return true if permit is taken, false if request is rejected
+     */
+    public synchronized boolean tryAcquire() {
+        if (inFlight < limit) {
+            inFlight++;
+            return true;
+        }
+        if (queued >= queueDepth) {
+            queueFullCounter.increment();
+            return false;
+        }
+
+        queued++;
+        long deadline = System.nanoTime() + queueTimeoutNanos;
+        try {
+            while (inFlight >= limit) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    queueTimeoutCounter.increment();
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            }
+            inFlight++;
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            queueTimeoutCounter.increment();
+            return false;
+        } finally {
+            queued--;
+        }
+    }
+
+    /**
+     * Give back a permit
+     *
+     * @param latencyNanos time the request held the permit
+     */
+    public synchronized void release(long latencyNanos) {
+        if (adaptive) {
+            adjustLimit(latencyNanos);
+        }
+        inFlight--;
+        notifyAll();
+    }
+
+    /**
+     * AIMD: decrease limit by a quarter when average latency of a window is over target,
+     * increase it by one when the window was saturated and fast enough
+     *
+     * @param latencyNanos latency of completed request
+     */
+    private void adjustLimit(long latencyNanos) {
+        windowSamples++;
+        windowLatencyNanos += latencyNanos;
+        windowPeakInFlight = Math.max(windowPeakInFlight, inFlight);
+
+        if (windowSamples < limit) {
+            return;
+        }
+
+        long averageLatencyNanos = windowLatencyNanos / windowSamples;
+        if (averageLatencyNanos > targetLatencyNanos) {
+            limit = Math.max(minConcurrent, limit * 3 / 4);
+        } else if (windowPeakInFlight >= limit) {
+            limit = Math.min(maxConcurrent, limit + 1);
+        }
+
+        windowSamples = 0;
+        windowLatencyNanos = 0L;
+        windowPeakInFlight = 0;
+    }
+
+    /**
+     * Get group name
+     *
+     * @return group name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Get current limit
+     *
+     * @return max requests running at the same time
+     */
+    public synchronized int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Get running requests
+     *
+     * @return number of running requests
+     */
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * Get waiting requests
+     *
+     * @return number of requests waiting for a permit
+     */
+    public synchronized int getQueued() {
+        return queued;
+    }
+}
@@ -0,0 +1,177 @@
+package com.springreact.backend.config.bulkhead;
+
+import com.springreact.backend.constant.Link;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * BulkheadConfig
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ * 19-10-2026       ThanhBT11           Route batch API to crud group
+ * 19-10-2026       ThanhBT11           Route dashboard API to crud group
+ * 19-10-2026       ThanhBT11           Fit queues to Tomcat worker threads
+ */
+@Configuration
+@ConditionalOnProperty(name = "reactCrud.app.bulkhead.enabled", matchIfMissing = true)
+public class BulkheadConfig {
+
+    private static final String PREFIX = "reactCrud.app.bulkhead.";
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    /**
+     * Register bulkhead filter before Spring Security,
+     * so rejected requests do not even load the user of their token.
+     * Group settings: reactCrud.app.bulkhead.{group}.maxConcurrent/queueDepth/queueTimeoutMs/targetLatencyMs
+     *
+     * @param environment   environment
+     * @param meterRegistry meterRegistry
+     * @return bulkhead filter registration
+     */
+    @Bean
+    public FilterRegistrationBean<BulkheadFilter> bulkheadFilter(Environment environment,
+                                                                 MeterRegistry meterRegistry) {
+        boolean adaptive = environment.getProperty(PREFIX + "adaptive", Boolean.class, false);
+
+        GroupSettings auth = settings("auth", 20, 20, 500, environment);
+        GroupSettings mail = settings("mail", 4, 4, 500, environment);
+        GroupSettings search = settings("search", 10, 10, 1000, environment);
+        GroupSettings salary = settings("salary", 8, 8, 2000, environment);
+        GroupSettings crud = settings("crud", 40, 40, 500, environment);
+        fitQueuesToWorkerThreads(Arrays.asList(auth, mail, search, salary, crud), environment);
+
+        Bulkhead authBulkhead = auth.build(adaptive, meterRegistry);
+        Bulkhead mailBulkhead = mail.build(adaptive, meterRegistry);
+        Bulkhead searchBulkhead = search.build(adaptive, meterRegistry);
+        Bulkhead salaryBulkhead = salary.build(adaptive, meterRegistry);
+        Bulkhead crudBulkhead = crud.build(adaptive, meterRegistry);
+
+        //Order matters, search paths are under employee, role and department paths
+        Map<String, Bulkhead> routes = new LinkedHashMap<>();
+        routes.put(Link.BASE_URL + "/auth/**", authBulkhead);
+        routes.put(Link.BASE_URL + "/forgot_password/**", mailBulkhead);
+        routes.put(Link.BASE_URL + "/reset_password/**", mailBulkhead);
+        routes.put(Link.BASE_URL + "/change_password/**", mailBulkhead);
+        routes.put(Link.BASE_URL + "/**/search-*/**", searchBulkhead);
+        routes.put(Link.BASE_URL + "/salary/**", salaryBulkhead);
+        routes.put(Link.BASE_URL + "/employees/**", crudBulkhead);
+        routes.put(Link.BASE_URL + "/roles/**", crudBulkhead);
+        routes.put(Link.BASE_URL + "/departments/**", crudBulkhead);
+        routes.put(Link.BASE_URL + Link.BATCH_URL, crudBulkhead);
+        routes.put(Link.BASE_URL + Link.DASHBOARD_URL, crudBulkhead);
+
+        FilterRegistrationBean<BulkheadFilter> registration =
+                new FilterRegistrationBean<>(new BulkheadFilter(routes));
+        registration.addUrlPatterns(Link.BASE_URL + "/*");
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+        return registration;
+    }
+
+    /**
+     * Read settings of a group from properties
+     *
+     * @param group                group name
+     * @param defaultMaxConcurrent default max running requests
+     * @param defaultQueueDepth    default max waiting requests
+     * @param defaultTargetLatency default target latency in millisecond of adaptive mode
+     * @param environment          environment
+     * @return group settings
+     */
+    private GroupSettings settings(String group,
+                                   int defaultMaxConcurrent,
+                                   int defaultQueueDepth,
+                                   long defaultTargetLatency,
+                                   Environment environment) {
+        String groupPrefix = PREFIX + group + ".";
+        return new GroupSettings(group,
+                environment.getProperty(groupPrefix + "maxConcurrent", Integer.class, defaultMaxConcurrent),
+                environment.getProperty(groupPrefix + "queueDepth", Integer.class, defaultQueueDepth),
+                environment.getProperty(groupPrefix + "queueTimeoutMs", Long.class, 1000L),
+                environment.getProperty(groupPrefix + "targetLatencyMs", Long.class, defaultTargetLatency));
+    }
+
+    /**
+     * Queued requests wait on a Tomcat worker, so running and queued requests of all groups
+     * must leave threads for other paths (health, prefix, ...), otherwise a full queue
+     * starves the whole server instead of rejecting fast. Queues are shrunk to fit.
+     *
+     * @param groups      settings of all groups
+     * @param environment environment
+     */
+    private void fitQueuesToWorkerThreads(List<GroupSettings> groups, Environment environment) {
+        int maxThreads = environment.getProperty("server.tomcat.threads.max", Integer.class, 200);
+        int reservedThreads = environment.getProperty(PREFIX + "reservedThreads", Integer.class, 20);
+        int budget = maxThreads - reservedThreads;
+
+        int running = 0;
+        int queued = 0;
+        for (GroupSettings group : groups) {
+            running += group.maxConcurrent;
+            queued += group.queueDepth;
+        }
+        if (running + queued <= budget) {
+            return;
+        }
+
+        int queueBudget = Math.max(0, budget - running);
+        logger.warn("Bulkheads allow {} running and {} queued requests but only {} of {} worker threads are "
+                + "available, queues are shrunk to {} requests", running, queued, budget, maxThreads, queueBudget);
+        for (GroupSettings group : groups) {
+            group.queueDepth = (int) ((long) group.queueDepth * queueBudget / queued);
+        }
+    }
+
+    /**
+     * Settings of a bulkhead group
+     */
+    private static class GroupSettings {
+
+        private final String group;
+        private final int maxConcurrent;
+        private int queueDepth;
+        private final long queueTimeoutMs;
+        private final long targetLatencyMs;
+
+        GroupSettings(String group, int maxConcurrent, int queueDepth, long queueTimeoutMs, long targetLatencyMs) {
+            this.group = group;
+            this.maxConcurrent = maxConcurrent;
+            this.queueDepth = queueDepth;
+            this.queueTimeoutMs = queueTimeoutMs;
+            this.targetLatencyMs = targetLatencyMs;
+        }
+
+        /**
+         * Build bulkhead of this group
+         *
+         * @param adaptive      tune limit from observed latency
+         * @param meterRegistry meterRegistry
+         * @return bulkhead
+         */
+        Bulkhead build(boolean adaptive, MeterRegistry meterRegistry) {
+            return new Bulkhead(group, maxConcurrent, queueDepth, queueTimeoutMs, adaptive, targetLatencyMs,
+                    meterRegistry);
+        }
+    }
+}
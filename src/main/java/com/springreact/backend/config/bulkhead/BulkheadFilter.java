@@ -0,0 +1,191 @@
+package com.springreact.backend.config.bulkhead;
+
+import com.springreact.backend.constant.Message;
+import com.springreact.backend.logging.RateLimitedLogger;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * BulkheadFilter
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ * 19-10-2026       ThanhBT11           Write 503 directly without error dispatch
+ */
+public class BulkheadFilter extends OncePerRequestFilter {
+
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    //Same shape as ExceptionRestResponse, written once
+    private static final byte[] SERVICE_BUSY_BODY = ("{\"code\":" + HttpServletResponse.SC_SERVICE_UNAVAILABLE
+            + ",\"message\":\"" + Message.SERVICE_BUSY + "\"}").getBytes(StandardCharsets.UTF_8);
+
+    private static final RateLimitedLogger logger = RateLimitedLogger.getLogger(BulkheadFilter.class);
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+
+    //Path pattern to bulkhead, first matching pattern wins
+    private final Map<String, Bulkhead> routes;
+
+    /**
+     * BulkheadFilter constructor(Map<String, Bulkhead>)
+     *
+     * @param routes ordered path pattern to bulkhead
+     */
+    public BulkheadFilter(Map<String, Bulkhead> routes) {
+        this.routes = routes;
+    }
+
+    /**
+     * Run request inside the bulkhead of its group, reject it with 503 when the group is full
+     *
+     * @param request     HttpServletRequest
+     * @param response    HttpServletResponse
+     * @param filterChain FilterChain
+     * @throws ServletException throw ServletException
+     * @throws IOException      throw IOException
+     */
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        Bulkhead bulkhead = findBulkhead(request);
+        if (bulkhead == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        if (!bulkhead.tryAcquire()) {
+            logger.warn("bulkhead." + bulkhead.getName(), "Bulkhead {} is full, reject {}",
+                    bulkhead.getName(), request.getRequestURI());
+            rejectBusy(response);
+            return;
+        }
+
+        long startTime = System.nanoTime();
+        boolean releaseOnAsyncComplete = false;
+        try {
+            filterChain.doFilter(request, response);
+
+            //Callable and DeferredResult keep working after this thread returns
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleaseListener(bulkhead, startTime));
+                releaseOnAsyncComplete = true;
+            }
+        } finally {
+            if (!releaseOnAsyncComplete) {
+                bulkhead.release(System.nanoTime() - startTime);
+            }
+        }
+    }
+
+    /**
+     * Write 503 directly, sendError would dispatch to /error which is not permitted
+     * and the client would get 401 instead
+     *
+     * @param response HttpServletResponse
+     * @throws IOException throw IOException
+     */
+    private void rejectBusy(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(SERVICE_BUSY_BODY.length);
+        response.getOutputStream().write(SERVICE_BUSY_BODY);
+    }
+
+    /**
+     * Find bulkhead of request path
+     *
+     * @param request HttpServletRequest
+     * @return bulkhead, null if request is not limited
+     */
+    private Bulkhead findBulkhead(HttpServletRequest request) {
+        if (HttpMethod.OPTIONS.matches(request.getMethod())) {
+            return null;
+        }
+
+        String path = urlPathHelper.getPathWithinApplication(request);
+        for (Map.Entry<String, Bulkhead> route : routes.entrySet()) {
+            if (pathMatcher.match(route.getKey(), path)) {
+                return route.getValue();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Release permit once when async request completes, fails or times out
+     */
+    private static class ReleaseListener implements AsyncListener {
+
+        private final Bulkhead bulkhead;
+        private final long startTime;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        /**
+         * ReleaseListener constructor(Bulkhead, long)
+         *
+         * @param bulkhead  bulkhead holding the permit
+         * @param startTime time permit was taken
+         */
+        ReleaseListener(Bulkhead bulkhead, long startTime) {
+            this.bulkhead = bulkhead;
+            this.startTime = startTime;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            //Permit is kept until the request completes
+        }
+
+        /**
+         * Release permit only once
+         */
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                bulkhead.release(System.nanoTime() - startTime);
+            }
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.springreact.backend.config.datasource;
+
+/**
+ * DataSourceType
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ */
+public enum DataSourceType {
+    PRIMARY,
+    REPLICA
+}
@@ -0,0 +1,95 @@
+package com.springreact.backend.config.datasource;
+
+import org.springframework.security.authentication.AuthenticationTrustResolver;
+import org.springframework.security.authentication.AuthenticationTrustResolverImpl;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ReadYourWritesGuard
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ * 19-10-2026       ThanhBT11           Do not track anonymous callers
+ */
+public class ReadYourWritesGuard {
+
+    private static final AuthenticationTrustResolver TRUST_RESOLVER = new AuthenticationTrustResolverImpl();
+    private static final int MAX_TRACKED_CALLERS = 10_000;
+
+    private final long replicaLagMs;
+
+    private final Map<String, Long> lastWriteByCaller = new ConcurrentHashMap<>();
+
+    /**
+     * ReadYourWritesGuard constructor(long)
+     *
+     * @param replicaLagMs time after a commit in which the caller keeps reading from primary
+     */
+    public ReadYourWritesGuard(long replicaLagMs) {
+        this.replicaLagMs = replicaLagMs;
+    }
+
+    /**
+     * Remember that current caller just committed a write
+     */
+    public void markWrite() {
+        String caller = currentCaller();
+        if (caller == null) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+
+        //Drop expired callers so the map can not grow without limit
+        if (lastWriteByCaller.size() >= MAX_TRACKED_CALLERS) {
+            lastWriteByCaller.values().removeIf(writeAt -> now - writeAt > replicaLagMs);
+        }
+
+        lastWriteByCaller.put(caller, now);
+    }
+
+    /**
+     * Check current caller wrote recently, so replica may not have its changes yet
+     *
+     * @return true if reads of current caller must go to primary
+     */
+    public boolean isRecentWriter() {
+        String caller = currentCaller();
+        if (caller == null) {
+            return false;
+        }
+
+        Long writeAt = lastWriteByCaller.get(caller);
+        return writeAt != null && System.currentTimeMillis() - writeAt <= replicaLagMs;
+    }
+
+    /**
+     * Get key of current caller from security context.
+     * Anonymous callers have no identity to keep consistent and are not tracked,
+     * one shared key would pin every anonymous read to primary after any anonymous write.
+     *
+     * @return username of authenticated caller, null for anonymous callers
+     */
+    private String currentCaller() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication == null || authentication.getName() == null
+                || TRUST_RESOLVER.isAnonymous(authentication)) {
+            return null;
+        }
+
+        return authentication.getName();
+    }
+}
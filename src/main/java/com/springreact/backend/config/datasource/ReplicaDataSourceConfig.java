@@ -0,0 +1,83 @@
+package com.springreact.backend.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * ReplicaDataSourceConfig
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "reactCrud.app.datasource.replica", name = "url")
+public class ReplicaDataSourceConfig {
+
+    @Value("${reactCrud.app.datasource.replica.url}")
+    private String replicaUrl;
+
+    @Value("${reactCrud.app.datasource.replica.username:${spring.datasource.username}}")
+    private String replicaUsername;
+
+    @Value("${reactCrud.app.datasource.replica.password:${spring.datasource.password}}")
+    private String replicaPassword;
+
+    @Value("${reactCrud.app.datasource.replica.readYourWritesMs:1000}")
+    private long readYourWritesMs;
+
+    /**
+     * Routing data source, read-only transactions go to replica, others go to primary
+     *
+     * @param properties primary data source properties (spring.datasource.*)
+     * @return lazy routing data source
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceProperties properties) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        primary.setPoolName("primary");
+
+        HikariDataSource replica = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(replicaUrl)
+                .username(replicaUsername)
+                .password(replicaPassword)
+                .build();
+        replica.setPoolName("replica");
+        replica.setReadOnly(true);
+
+        Map<Object, Object> targetDataSources = new HashMap<>();
+        targetDataSources.put(DataSourceType.PRIMARY, primary);
+        targetDataSources.put(DataSourceType.REPLICA, replica);
+
+        ReplicationRoutingDataSource routingDataSource =
+                new ReplicationRoutingDataSource(new ReadYourWritesGuard(readYourWritesMs));
+        routingDataSource.setTargetDataSources(targetDataSources);
+        routingDataSource.setDefaultTargetDataSource(primary);
+        routingDataSource.afterPropertiesSet();
+
+        //Delay fetching real connection until transaction read-only flag is known
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
@@ -0,0 +1,87 @@
+package com.springreact.backend.config.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Supplier;
+
+/**
+ * ReplicationRoutingDataSource
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ * 19-10-2026       ThanhBT11           Route reads to primary on demand
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final ThreadLocal<Boolean> FORCE_PRIMARY = new ThreadLocal<>();
+
+    private final ReadYourWritesGuard readYourWritesGuard;
+
+    /**
+     * ReplicationRoutingDataSource constructor(ReadYourWritesGuard)
+     *
+     * @param readYourWritesGuard keep recent writers on primary
+     */
+    public ReplicationRoutingDataSource(ReadYourWritesGuard readYourWritesGuard) {
+        this.readYourWritesGuard = readYourWritesGuard;
+    }
+
+    /**
+     * Send read-only transactions to replica and everything else to primary.
+     * Must be wrapped by LazyConnectionDataSourceProxy, so the transaction
+     * read-only flag is already bound when the real connection is fetched.
+     *
+     * @return data source type
+     */
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return FORCE_PRIMARY.get() != null || readYourWritesGuard.isRecentWriter()
+                    ? DataSourceType.PRIMARY
+                    : DataSourceType.REPLICA;
+        }
+
+        //Remember the writer after commit, so its next reads see its own changes
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    readYourWritesGuard.markWrite();
+                }
+            });
+        }
+
+        return DataSourceType.PRIMARY;
+    }
+
+    /**
+     * Run reads on primary, for results which must include the latest commit, e.g. cache fills.
+     * Only connections fetched inside supplier are routed, does nothing if there is no replica
+     *
+     * @param supplier work to run
+     * @param <T>      result type
+     * @return result of supplier
+     */
+    public static <T> T onPrimary(Supplier<T> supplier) {
+        if (FORCE_PRIMARY.get() != null) {
+            return supplier.get();
+        }
+
+        FORCE_PRIMARY.set(Boolean.TRUE);
+        try {
+            return supplier.get();
+        } finally {
+            FORCE_PRIMARY.remove();
+        }
+    }
+}
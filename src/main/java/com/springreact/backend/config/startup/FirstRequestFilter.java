@@ -0,0 +1,62 @@
+package com.springreact.backend.config.startup;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * FirstRequestFilter
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ */
+public class FirstRequestFilter extends OncePerRequestFilter {
+
+    private final StartupTimer startupTimer;
+
+    /**
+     * FirstRequestFilter constructor(StartupTimer)
+     *
+     * @param startupTimer startup timer
+     */
+    public FirstRequestFilter(StartupTimer startupTimer) {
+        this.startupTimer = startupTimer;
+    }
+
+    /**
+     * Record time to first request when the first request is answered, later requests only pass
+     *
+     * @param request     HttpServletRequest
+     * @param response    HttpServletResponse
+     * @param filterChain FilterChain
+     * @throws ServletException throw ServletException
+     * @throws IOException      throw IOException
+     */
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (startupTimer.isFirstRequestRecorded()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            startupTimer.recordFirstRequest();
+        }
+    }
+}
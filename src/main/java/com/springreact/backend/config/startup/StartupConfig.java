@@ -0,0 +1,84 @@
+package com.springreact.backend.config.startup;
+
+import com.springreact.backend.config.LoggingConfig;
+import com.springreact.backend.security.jwt.AuthTokenFilter;
+import com.springreact.backend.services.ChangeEventRelay;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * StartupConfig
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ * 19-10-2026       ThanhBT11           Keep logging config eager
+ */
+@Configuration
+public class StartupConfig {
+
+    /**
+     * Startup timer, time to ready and time to first request are published as
+     * application.startup.ready and application.startup.first.request (-1 until reached)
+     *
+     * @param exitAfterReady exit the application once it is ready
+     * @param meterRegistry  meterRegistry
+     * @return startup timer
+     */
+    @Bean
+    public StartupTimer startupTimer(@Value("${reactCrud.app.startup.exitAfterReady:false}") boolean exitAfterReady,
+                                     MeterRegistry meterRegistry) {
+        StartupTimer startupTimer = new StartupTimer(exitAfterReady);
+        TimeGauge.builder("application.startup.ready", startupTimer,
+                TimeUnit.MILLISECONDS, StartupTimer::getTimeToReady)
+                .description("Time from JVM start to application ready")
+                .register(meterRegistry);
+        TimeGauge.builder("application.startup.first.request", startupTimer,
+                TimeUnit.MILLISECONDS, StartupTimer::getTimeToFirstRequest)
+                .description("Time from JVM start to end of first request")
+                .register(meterRegistry);
+        return startupTimer;
+    }
+
+    /**
+     * Register first request filter before every other filter
+     *
+     * @param startupTimer startup timer
+     * @return first request filter registration
+     */
+    @Bean
+    public FilterRegistrationBean<FirstRequestFilter> firstRequestFilter(StartupTimer startupTimer) {
+        FilterRegistrationBean<FirstRequestFilter> registration =
+                new FilterRegistrationBean<>(new FirstRequestFilter(startupTimer));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    /**
+     * Beans which stay eager with spring.main.lazy-initialization (fast profile).
+     * Scheduled relay is never called if it is not created, token filter is on the path of every request,
+     * logging config applies rate limits before the first request.
+     *
+     * @return lazy initialization exclude filter
+     */
+    @Bean
+    public static LazyInitializationExcludeFilter eagerStartupBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                StartupTimer.class, ChangeEventRelay.class, AuthTokenFilter.class, LoggingConfig.class);
+    }
+}
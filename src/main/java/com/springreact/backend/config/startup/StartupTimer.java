@@ -0,0 +1,108 @@
+package com.springreact.backend.config.startup;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * StartupTimer
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ */
+public class StartupTimer implements ApplicationListener<ApplicationReadyEvent> {
+
+    private static final long NOT_YET = -1;
+
+    private static final Logger logger = LoggerFactory.getLogger(StartupTimer.class);
+
+    //Milliseconds from JVM start
+    private final AtomicLong timeToReady = new AtomicLong(NOT_YET);
+    private final AtomicLong timeToFirstRequest = new AtomicLong(NOT_YET);
+
+    //Stop the application once it is ready, used by the AppCDS training run
+    private final boolean exitAfterReady;
+
+    /**
+     * StartupTimer constructor(boolean)
+     *
+     * @param exitAfterReady exit the application once it is ready
+     */
+    public StartupTimer(boolean exitAfterReady) {
+        this.exitAfterReady = exitAfterReady;
+    }
+
+    /**
+     * Record time to ready, the application accepts requests from now on
+     *
+     * @param event ApplicationReadyEvent
+     */
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        timeToReady.compareAndSet(NOT_YET, uptime());
+        logger.info("Time to ready: " + timeToReady.get() + " ms since JVM start");
+
+        if (exitAfterReady) {
+            logger.info("Exit after ready is set, stop the application");
+            System.exit(SpringApplication.exit(event.getApplicationContext()));
+        }
+    }
+
+    /**
+     * Record time to first request, only the first call counts
+     */
+    public void recordFirstRequest() {
+        if (timeToFirstRequest.compareAndSet(NOT_YET, uptime())) {
+            logger.info("Time to first request: " + timeToFirstRequest.get() + " ms since JVM start");
+        }
+    }
+
+    /**
+     * Check if the first request is already answered
+     *
+     * @return true if first request is recorded
+     */
+    public boolean isFirstRequestRecorded() {
+        return timeToFirstRequest.get() != NOT_YET;
+    }
+
+    /**
+     * Get timeToReady
+     *
+     * @return milliseconds from JVM start to ready, -1 if not ready yet
+     */
+    public long getTimeToReady() {
+        return timeToReady.get();
+    }
+
+    /**
+     * Get timeToFirstRequest
+     *
+     * @return milliseconds from JVM start to end of first request, -1 if no request yet
+     */
+    public long getTimeToFirstRequest() {
+        return timeToFirstRequest.get();
+    }
+
+    /**
+     * Milliseconds from JVM start, class loading before main is counted too
+     *
+     * @return JVM uptime
+     */
+    private static long uptime() {
+        return ManagementFactory.getRuntimeMXBean().getUptime();
+    }
+}
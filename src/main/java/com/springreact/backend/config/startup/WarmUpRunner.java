@@ -0,0 +1,265 @@
+package com.springreact.backend.config.startup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springreact.backend.cache.ResponseBodyCache;
+import com.springreact.backend.constant.Link;
+import com.springreact.backend.dto.response.DepartmentResponse;
+import com.springreact.backend.dto.response.EmployeeResponse;
+import com.springreact.backend.dto.response.RoleResponse;
+import com.springreact.backend.entity.EChangeAggregate;
+import com.springreact.backend.entity.ERole;
+import com.springreact.backend.repository.EmployeesRepository;
+import com.springreact.backend.repository.SalaryRepository;
+import com.springreact.backend.security.jwt.JwtUtils;
+import com.springreact.backend.security.service.UserDetailsImpl;
+import com.springreact.backend.services.DepartmentServices;
+import com.springreact.backend.services.EmployeeServices;
+import com.springreact.backend.services.PrefixService;
+import com.springreact.backend.services.RoleServices;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * WarmUpRunner
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ * 19-10-2026       ThanhBT11           Skip bean when disabled, document jwt step scope
+ */
+@Component
+@ConditionalOnProperty(name = "reactCrud.app.warmup.enabled", matchIfMissing = true)
+public class WarmUpRunner implements ApplicationRunner {
+
+    //Never a real account, only used to exercise token and lookup paths
+    private static final String WARM_UP_EMAIL = "warm-up@localhost";
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final ResponseBodyCache responseBodyCache;
+    private final PrefixService prefixService;
+    private final RoleServices roleServices;
+    private final DepartmentServices departmentServices;
+    private final EmployeeServices employeeServices;
+    private final EmployeesRepository employeesRepository;
+    private final SalaryRepository salaryRepository;
+    private final JwtUtils jwtUtils;
+    private final List<ObjectMapper> objectMappers;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int iterations;
+    private final int queryIterations;
+    private final long timeoutMs;
+
+    //Milliseconds spent in warm-up, -1 until it is finished
+    private final AtomicLong warmUpTime = new AtomicLong(-1);
+
+    /**
+     * WarmUpRunner constructor(ResponseBodyCache, PrefixService, RoleServices, DepartmentServices,
+     * EmployeeServices, EmployeesRepository, SalaryRepository, JwtUtils, ObjectMapper,
+     * MappingJackson2CborHttpMessageConverter, MappingJackson2SmileHttpMessageConverter,
+     * ApplicationEventPublisher, MeterRegistry, int, int, long)
+     *
+     * @param responseBodyCache   responseBodyCache
+     * @param prefixService       prefixService
+     * @param roleServices        roleServices
+     * @param departmentServices  departmentServices
+     * @param employeeServices    employeeServices
+     * @param employeesRepository employeesRepository
+     * @param salaryRepository    salaryRepository
+     * @param jwtUtils            jwtUtils
+     * @param objectMapper        json object mapper
+     * @param cborConverter       cbor converter
+     * @param smileConverter      smile converter
+     * @param eventPublisher      eventPublisher
+     * @param meterRegistry       meterRegistry
+     * @param iterations          invocations of token and serialization paths
+     * @param queryIterations     invocations of each query
+     * @param timeoutMs           max time of warm-up, remaining steps are skipped after it
+     */
+    public WarmUpRunner(ResponseBodyCache responseBodyCache,
+                        PrefixService prefixService,
+                        RoleServices roleServices,
+                        DepartmentServices departmentServices,
+                        EmployeeServices employeeServices,
+                        EmployeesRepository employeesRepository,
+                        SalaryRepository salaryRepository,
+                        JwtUtils jwtUtils,
+                        ObjectMapper objectMapper,
+                        MappingJackson2CborHttpMessageConverter cborConverter,
+                        MappingJackson2SmileHttpMessageConverter smileConverter,
+                        ApplicationEventPublisher eventPublisher,
+                        MeterRegistry meterRegistry,
+                        @Value("${reactCrud.app.warmup.iterations:2000}") int iterations,
+                        @Value("${reactCrud.app.warmup.queryIterations:20}") int queryIterations,
+                        @Value("${reactCrud.app.warmup.timeoutMs:30000}") long timeoutMs) {
+        this.responseBodyCache = responseBodyCache;
+        this.prefixService = prefixService;
+        this.roleServices = roleServices;
+        this.departmentServices = departmentServices;
+        this.employeeServices = employeeServices;
+        this.employeesRepository = employeesRepository;
+        this.salaryRepository = salaryRepository;
+        this.jwtUtils = jwtUtils;
+        this.objectMappers = Arrays.asList(
+                objectMapper, cborConverter.getObjectMapper(), smileConverter.getObjectMapper());
+        this.eventPublisher = eventPublisher;
+        this.iterations = iterations;
+        this.queryIterations = queryIterations;
+        this.timeoutMs = timeoutMs;
+
+        TimeGauge.builder("application.warmup", warmUpTime, TimeUnit.MILLISECONDS, AtomicLong::get)
+                .description("Time spent in warm-up before accepting traffic")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Warm up before readiness. Runners are called before the application is ready,
+     * readiness probe answers ACCEPTING_TRAFFIC only after this method returns.
+     * A failing step is logged and skipped, warm-up never stops the startup.
+     * Not created when reactCrud.app.warmup.enabled is false, as in the fast profile,
+     * where warm-up would create at boot the lazy beans that profile defers
+     *
+     * @param args application arguments
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+        AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+        long startTime = System.nanoTime();
+        long deadline = startTime + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+
+        step("reference data caches", deadline, this::prefillCaches);
+        step("queries", deadline, this::runQueries);
+        step("jwt", deadline, this::runJwt);
+        step("serialization", deadline, this::runSerialization);
+
+        warmUpTime.set(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+        logger.info("Warm-up finished in " + warmUpTime.get() + " ms");
+    }
+
+    /**
+     * Cache reference data bodies of list APIs in every encoding, with the same keys as the controllers
+     */
+    private void prefillCaches() {
+        responseBodyCache.prefill(ResponseBodyCache.key(Link.PREFIX_URL), prefixService::findAllPrefixes);
+        responseBodyCache.prefill(ResponseBodyCache.key(Link.ROLE_URL),
+                () -> RoleResponse.listOf(roleServices.findAllByOrderByRoleAsc()),
+                EChangeAggregate.ROLE);
+        responseBodyCache.prefill(ResponseBodyCache.key(Link.DEPARTMENT_URL),
+                () -> DepartmentResponse.listOf(departmentServices.findAllByOrderByDepartmentAsc()),
+                EChangeAggregate.DEPARTMENT);
+        responseBodyCache.prefill(ResponseBodyCache.key(Link.EMPLOYEE_ROLE_DEPARTMENT_URL),
+                employeeServices::listEmployeeRoleAndDepartment,
+                EChangeAggregate.EMPLOYEE, EChangeAggregate.ROLE, EChangeAggregate.DEPARTMENT);
+    }
+
+    /**
+     * Run read queries of hot paths, Hibernate caches their plans, nothing is written
+     */
+    private void runQueries() {
+        for (int i = 0; i < queryIterations; i++) {
+            //Login and token filter load the user with its role
+            employeesRepository.findWithRoleByEmail(WARM_UP_EMAIL);
+            employeesRepository.findByEmail(WARM_UP_EMAIL);
+            employeesRepository.existsByEmail(WARM_UP_EMAIL);
+            employeeServices.findEmployeePageBefore(Long.MAX_VALUE, 1);
+            salaryRepository.findByEmployee_Email(WARM_UP_EMAIL);
+            salaryRepository.findIntervalPageByEmployeeId(0L, "0000-01-01", "9999-12-31",
+                    "9999-12-31", Long.MAX_VALUE, PageRequest.of(0, 1));
+        }
+    }
+
+    /**
+     * Generate, validate and parse tokens of a synthetic user with JwtUtils.
+     * AuthTokenFilter itself is not run, its first request still pays for the filter and
+     * the security context setup
+     */
+    private void runJwt() {
+        UserDetailsImpl userDetails = new UserDetailsImpl(0L, WARM_UP_EMAIL, "",
+                Collections.singletonList(new SimpleGrantedAuthority(ERole.ROLE_USER.name())));
+        Authentication authentication =
+                new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+
+        for (int i = 0; i < iterations; i++) {
+            String token = jwtUtils.generateJwtToken(authentication);
+            if (jwtUtils.validateJwtToken(token)) {
+                jwtUtils.getUserNameFromJwtToken(token);
+            }
+        }
+    }
+
+    /**
+     * Serialize list responses with json, cbor and smile mappers
+     */
+    private void runSerialization() {
+        List<?> bodies = Arrays.asList(
+                RoleResponse.listOf(roleServices.findAllByOrderByRoleAsc()),
+                DepartmentResponse.listOf(departmentServices.findAllByOrderByDepartmentAsc()),
+                EmployeeResponse.listOf(employeeServices.findEmployeePageBefore(Long.MAX_VALUE, 50)),
+                prefixService.findAllPrefixes());
+
+        for (int i = 0; i < iterations; i++) {
+            for (ObjectMapper objectMapper : objectMappers) {
+                for (Object body : bodies) {
+                    try {
+                        objectMapper.writeValueAsBytes(body);
+                    } catch (JsonProcessingException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Run a warm-up step and log its time, skip it if the deadline is passed
+     *
+     * @param name     step name
+     * @param deadline nano time after which steps are skipped
+     * @param step     warm-up step
+     */
+    private void step(String name, long deadline, Runnable step) {
+        if (System.nanoTime() > deadline) {
+            logger.warn("Warm-up timeout, skip " + name);
+            return;
+        }
+
+        long startTime = System.nanoTime();
+        try {
+            step.run();
+            logger.info("Warm-up " + name + ": "
+                    + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime) + " ms");
+        } catch (RuntimeException e) {
+            logger.warn("Warm-up " + name + " failed: " + e.getMessage());
+        }
+    }
+}
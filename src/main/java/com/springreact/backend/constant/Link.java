@@ -13,6 +13,13 @@ package com.springreact.backend.constant;
  * DATE             AUTHOR              DESCRIPTION
  * -------------------------------------------------
  * 07-06-2021       ThanhBT11           Create
+ * 19-10-2026       ThanhBT11           Add changes URL
+ * 19-10-2026       ThanhBT11           Add batch API
+ * 19-10-2026       ThanhBT11           Add multi-get API
+ * 19-10-2026       ThanhBT11           Add dashboard API
+ * 19-10-2026       ThanhBT11           Add salary history API
+ * 19-10-2026       ThanhBT11           Add paginated salary history by employee id
+ * 19-10-2026       ThanhBT11           Add flight recorder events
  */
 public final class Link {
 
@@ -40,6 +47,11 @@ public final class Link {
     public final static String SEARCH_BY_KEYWORD_URL = "/employees/search-employees/{keyword}";
     public final static String LOAD_IMAGE_URL = "/employees/image/{email}";
     public final static String SEARCH_ROLE_DEPARTMENT_BY_KEYWORD_URL = "/employees/search-role-department/{keyword}";
+    public final static String EMPLOYEE_CHANGES_URL = "/employees/changes";
+    public final static String EMPLOYEE_BY_IDS_URL = "/employees/by-ids";
+    public final static String EMPLOYEE_BY_EMAILS_URL = "/employees/by-emails";
+    public final static String EMPLOYEE_ROLE_DEPARTMENT_BY_EMAILS_URL =
+            "/employees/employees-role-department/by-emails";
 
     /**
      * Department API
@@ -47,6 +59,7 @@ public final class Link {
     public final static String DEPARTMENT_URL = "/departments";
     public final static String DEPARTMENT_ID_PATH_URL = "/departments/{id}";
     public final static String SEARCH_DEPARTMENT_BY_KEYWORD_URL = "/departments/search-departments/{keyword}";
+    public final static String DEPARTMENT_CHANGES_URL = "/departments/changes";
 
     /**
      * Role API
@@ -54,6 +67,7 @@ public final class Link {
     public final static String ROLE_URL = "/roles";
     public final static String ROLE_ID_PATH_URL = "/roles/{id}";
     public final static String SEARCH_ROLE_BY_KEYWORD_URL = "/roles/search-roles/{keyword}";
+    public final static String ROLE_CHANGES_URL = "/roles/changes";
 
     /**
      * Prefix API
@@ -73,6 +87,10 @@ public final class Link {
     public final static String SALARY_EMPLOYEE_EMAIL_CREATED_DATE_PATH_URL =
             "/salary/employee/{email}/{createdDate}";
     public final static String SALARY_BY_EMPLOYEE_ID_PATH_URL = "/salary/employee/{id}";
+    public final static String SALARY_CHANGES_URL = "/salary/changes";
+    public final static String SALARY_BY_IDS_URL = "/salary/by-ids";
+    public final static String SALARY_HISTORY_BY_EMPLOYEE_EMAIL_PATH_URL = "/salary/employees/{email}/history";
+    public final static String SALARY_HISTORY_BY_EMPLOYEE_ID_PATH_URL = "/salary/employee/{id}/history";
 
     /**
      * Password API
@@ -80,4 +98,34 @@ public final class Link {
     public final static String FORGOT_PASSWORD_EMAIL_PATH_URL = "/forgot_password/{email}";
     public final static String RESET_PASSWORD_TOKEN_PATH_URL = "/reset_password/{token}";
     public final static String CHANGE_PASSWORD_EMAIL_PATH_URL = "/change_password/{email}";
+
+    /**
+     * Stream API
+     */
+    public final static String STREAM_EMPLOYEE_URL = "/stream/employees";
+    public final static String STREAM_EMPLOYEE_ROLE_DEPARTMENT_URL = "/stream/employees-role-department";
+    public final static String STREAM_SALARY_URL = "/stream/salary";
+
+    /**
+     * Change event API
+     */
+    public final static String EVENT_URL = "/events";
+    public final static String EVENT_STREAM_URL = "/events/stream";
+
+    /**
+     * Dashboard API
+     */
+    public final static String DASHBOARD_URL = "/dashboard";
+
+    /**
+     * Batch API
+     */
+    public final static String BATCH_URL = "/batch";
+
+    /**
+     * Flight recording API
+     */
+    public final static String RECORDING_URL = "/recordings";
+    public final static String RECORDING_ID_PATH_URL = "/recordings/{id}";
+    public final static String RECORDING_DUMP_PATH_URL = "/recordings/{id}/dump";
 }
@@ -13,6 +13,13 @@ package com.springreact.backend.constant;
  * DATE             AUTHOR              DESCRIPTION
  * -------------------------------------------------
  * 07-06-2021       ThanhBT11           Create
+ * 19-10-2026       ThanhBT11           Add overload message
+ * 19-10-2026       ThanhBT11           Add invalid field message
+ * 19-10-2026       ThanhBT11           Add batch message
+ * 19-10-2026       ThanhBT11           Add multi-get message
+ * 19-10-2026       ThanhBT11           Add dashboard message
+ * 19-10-2026       ThanhBT11           Add flight recorder events
+ * 19-10-2026       ThanhBT11           Add batch failure and invalid id message
  */
 public final class Message {
 
@@ -79,6 +86,8 @@ public final class Message {
     public final static String NOT_EXIST_ROLE_DEPARTMENT_LIST = "Role and department is empty!";
     public final static String NOT_EXIST_ADDRESS_LIST = "Address list is empty!";
     public final static String PARSE_DATE_ERROR = "There are some errors when process parse date!";
+    public final static String INVALID_FIELD = "Unknown field: ";
+    public final static String TOO_MANY_KEYS = "Too many keys in one request, max is ";
 
     /**
      * Salary message
@@ -86,4 +95,31 @@ public final class Message {
     public final static String DELETE_SALARY_FAIL = "Salary is already inactive!";
     public final static String NOT_EXIST_SALARY_LIST = "Salary list is empty!";
 
+    /**
+     * Overload message
+     */
+    public final static String SERVICE_BUSY = "Service is busy, please try again later!";
+
+    /**
+     * Dashboard message
+     */
+    public final static String DASHBOARD_SECTION_TIMEOUT = "Section is not loaded before deadline";
+    public final static String DASHBOARD_SECTION_FAILED = "Section failed to load";
+    public final static String DASHBOARD_SECTION_BUSY = "Server is busy, section is skipped";
+
+    /**
+     * Batch message
+     */
+    public final static String BATCH_TOO_LARGE = "Too many operations in batch, max is ";
+    public final static String UNKNOWN_OPERATION = "Unknown operation: ";
+    public final static String BATCH_ROLLED_BACK = "Not executed, batch is rolled back";
+    public final static String BATCH_OPERATION_FAILED = "Operation failed, please try again later!";
+    public final static String INVALID_ID = "Id must be a number: ";
+
+    /**
+     * Flight recording message
+     */
+    public final static String NOT_EXIST_RECORDING = "Flight recording does not exist: ";
+    public final static String NOT_EXIST_RECORDING_SETTINGS = "Flight recording settings do not exist: ";
+
 }
@@ -9,6 +9,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.Callable;
+
 /**
  * AuthController
  * <p>
@@ -22,6 +24,7 @@ import org.springframework.web.bind.annotation.*;
  * DATE             AUTHOR              DESCRIPTION
  * -------------------------------------------------
  * 07-06-2021       ThanhBT11           Create
+ * 19-10-2026       ThanhBT11           Run blocking work as Callable
  */
 @CrossOrigin(origins = Link.REACT_URL)
 @RestController
@@ -47,10 +50,13 @@ public class AuthController {
      * @return Return JWT response to save on localstorage
      */
     @PostMapping(Link.SIGN_IN)
-    public ResponseEntity<?> login(
+    public Callable<ResponseEntity<?>> login(
             @RequestBody LoginRequest loginRequest) {
-        JwtResponse jwtResponse = authServices.authenticateUser(loginRequest);
-        return ResponseEntity.ok(jwtResponse);
+        //BCrypt check is slow, run it on blocking task executor
+        return () -> {
+            JwtResponse jwtResponse = authServices.authenticateUser(loginRequest);
+            return ResponseEntity.ok(jwtResponse);
+        };
     }
 
     /**
@@ -60,8 +66,8 @@ public class AuthController {
      * @return MessageResponse
      */
     @PostMapping(Link.SIGN_UP)
-    public ResponseEntity<?> signUp(@RequestBody SignupRequest signUpRequest) {
-        return authServices.registerUser(signUpRequest);
+    public Callable<ResponseEntity<?>> signUp(@RequestBody SignupRequest signUpRequest) {
+        return () -> authServices.registerUser(signUpRequest);
     }
 }
 
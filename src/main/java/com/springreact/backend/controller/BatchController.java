@@ -0,0 +1,444 @@
+package com.springreact.backend.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springreact.backend.constant.Link;
+import com.springreact.backend.constant.Message;
+import com.springreact.backend.dto.request.BatchOperation;
+import com.springreact.backend.dto.request.BatchRequest;
+import com.springreact.backend.dto.request.EmployeeRoleAndDepartment;
+import com.springreact.backend.dto.request.EmployeeSalary;
+import com.springreact.backend.dto.response.BatchResponse;
+import com.springreact.backend.dto.response.BatchResult;
+import com.springreact.backend.dto.response.MessageResponse;
+import com.springreact.backend.entity.Department;
+import com.springreact.backend.entity.Employee;
+import com.springreact.backend.entity.Role;
+import com.springreact.backend.exception.DomainException;
+import com.springreact.backend.exception.ExceptionRestResponse;
+import com.springreact.backend.logging.RateLimitedLogger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.util.UriTemplate;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BatchController
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ * 19-10-2026       ThanhBT11           Map domain exceptions to their status
+ * 19-10-2026       ThanhBT11           Answer 400 for id which is not a number, hide 5xx details
+ */
+@CrossOrigin(origins = Link.REACT_URL)
+@RestController
+@RequestMapping(Link.BASE_URL)
+public class BatchController {
+
+    /**
+     * Invoke the endpoint of a sub-operation
+     */
+    @FunctionalInterface
+    private interface Handler {
+
+        /**
+         * Invoke endpoint
+         *
+         * @param variables path variables
+         * @param operation sub-operation with request parameters and body
+         * @return endpoint response
+         * @throws Exception if endpoint fails
+         */
+        ResponseEntity<?> handle(Map<String, String> variables, BatchOperation operation) throws Exception;
+    }
+
+    /**
+     * Endpoint which can be called inside a batch
+     */
+    private static final class Route {
+
+        private final HttpMethod method;
+        private final UriTemplate template;
+        private final Handler handler;
+
+        private Route(HttpMethod method, String path, Handler handler) {
+            this.method = method;
+            this.template = new UriTemplate(path);
+            this.handler = handler;
+        }
+
+        private boolean matches(BatchOperation operation) {
+            return method.name().equalsIgnoreCase(operation.getMethod()) && template.matches(operation.getPath());
+        }
+
+        private boolean isWrite() {
+            return method != HttpMethod.GET;
+        }
+    }
+
+    private static final RateLimitedLogger logger = RateLimitedLogger.getLogger(BatchController.class);
+
+    private final List<Route> routes = new ArrayList<>();
+
+    private final ObjectMapper objectMapper;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ExecutorService executorService;
+
+    private final int maxOperations;
+
+    /**
+     * BatchController constructor(EmployeeController, RoleController, DepartmentController, SalaryController,
+     * PrefixController, ObjectMapper, PlatformTransactionManager, int, int)
+     *
+     * @param employeeController   employeeController
+     * @param roleController       roleController
+     * @param departmentController departmentController
+     * @param salaryController     salaryController
+     * @param prefixController     prefixController
+     * @param objectMapper         objectMapper
+     * @param transactionManager   transactionManager
+     * @param maxOperations        max operations of a batch
+     * @param parallelism          threads running reads of all batches
+     */
+    @Autowired
+    public BatchController(EmployeeController employeeController,
+                           RoleController roleController,
+                           DepartmentController departmentController,
+                           SalaryController salaryController,
+                           PrefixController prefixController,
+                           ObjectMapper objectMapper,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${reactCrud.app.batch.maxOperations:50}") int maxOperations,
+                           @Value("${reactCrud.app.batch.parallelism:8}") int parallelism) {
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxOperations = maxOperations;
+
+        //Reads run with the security context of the batch caller, a full queue runs them on the caller thread
+        this.executorService = new DelegatingSecurityContextExecutorService(new ThreadPoolExecutor(
+                parallelism,
+                parallelism,
+                60L,
+                TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(parallelism * maxOperations),
+                new CustomizableThreadFactory("batch-"),
+                new ThreadPoolExecutor.CallerRunsPolicy()));
+
+        //Calls go through controller proxies, so @PreAuthorize of each endpoint still applies
+        route(HttpMethod.GET, Link.PREFIX_TITLE_PATH_URL, (variables, operation) ->
+                prefixController.checkPrefixTitle(variables.get("title")));
+        route(HttpMethod.GET, Link.EMPLOYEE_ID_PATH_URL, (variables, operation) ->
+                employeeController.getEmployeeById(idOf(variables), operation.param("fields")));
+        route(HttpMethod.GET, Link.EMPLOYEE_EMAIL_PATH_URL, (variables, operation) ->
+                employeeController.getEmployeeByEmail(variables.get("email"), operation.param("fields")));
+        route(HttpMethod.GET, Link.EMPLOYEE_ROLE_DEPARTMENT_EMAIL_PATH_URL, (variables, operation) ->
+                employeeController.getEmployeeRoleAndDepartmentByEmail(variables.get("email")));
+        route(HttpMethod.GET, Link.ROLE_ID_PATH_URL, (variables, operation) ->
+                roleController.getRoleById(idOf(variables), operation.param("fields")));
+        route(HttpMethod.GET, Link.DEPARTMENT_ID_PATH_URL, (variables, operation) ->
+                departmentController.getDepartmentById(idOf(variables), operation.param("fields")));
+        route(HttpMethod.GET, Link.SALARY_ID_PATH_URL, (variables, operation) ->
+                salaryController.getSalaryById(idOf(variables), operation.param("fields")));
+        route(HttpMethod.GET, Link.SALARY_BY_EMPLOYEE_EMAIL_PATH_URL, (variables, operation) ->
+                salaryController.finAllSalaryByEmail(variables.get("email")));
+        route(HttpMethod.GET, Link.SALARY_BY_EMPLOYEE_ID_PATH_URL, (variables, operation) ->
+                salaryController.getAllSalariesHistoryByEmployeeId(idOf(variables)));
+        route(HttpMethod.GET, Link.SALARY_EMAIL_CREATED_DATE_PATH_URL, (variables, operation) ->
+                salaryController.isSalaryExistByEmailAndCreatedDate(
+                        variables.get("email"), variables.get("createdDate")));
+        route(HttpMethod.GET, Link.SALARY_EMPLOYEE_EMAIL_CREATED_DATE_PATH_URL, (variables, operation) ->
+                salaryController.getSalaryByEmailAndCreatedDate(variables.get("email"), variables.get("createdDate")));
+
+        route(HttpMethod.POST, Link.EMPLOYEE_URL, (variables, operation) ->
+                employeeController.createEmployee(body(operation, Employee.class)));
+        route(HttpMethod.PUT, Link.EMPLOYEE_ID_PATH_URL, (variables, operation) ->
+                employeeController.updateEmployee(body(operation, Employee.class), idOf(variables)));
+        route(HttpMethod.PUT, Link.EMPLOYEE_ROLE_DEPARTMENT_EMAIL_PATH_URL, (variables, operation) ->
+                employeeController.updateEmployeeRoleAndDepartment(
+                        body(operation, EmployeeRoleAndDepartment.class), variables.get("email")));
+        route(HttpMethod.PUT, Link.ROLE_ID_PATH_URL, (variables, operation) ->
+                roleController.updateRole(body(operation, Role.class), idOf(variables)));
+        route(HttpMethod.PUT, Link.DEPARTMENT_ID_PATH_URL, (variables, operation) ->
+                departmentController.updateDepartment(
+                        body(operation, Department.class), idOf(variables)));
+        route(HttpMethod.POST, Link.SALARY_EMAIL_PATH_URL, (variables, operation) ->
+                salaryController.createNewSalary(body(operation, EmployeeSalary.class), variables.get("email")));
+        route(HttpMethod.PUT, Link.SALARY_EMAIL_CREATED_DATE_PATH_URL, (variables, operation) ->
+                salaryController.updateSalary(body(operation, EmployeeSalary.class),
+                        variables.get("email"), variables.get("createdDate")));
+
+        //Fewer variables is more specific: /salary/employees/{email} before /salary/{email}/{createdDate}
+        routes.sort(Comparator.comparingInt(route -> route.template.getVariableNames().size()));
+    }
+
+    /**
+     * Execute sub-operations in order and answer all their results at once.
+     * Reads between two writes run in parallel, writes run one by one after all earlier operations.
+     * A transactional batch runs every operation in one transaction on the caller thread,
+     * it is rolled back at the first failed operation and the remaining ones are not executed
+     *
+     * @param batchRequest operations and transaction mode
+     * @return result of each operation in request order
+     */
+    @PostMapping(Link.BATCH_URL)
+    public ResponseEntity<?> executeBatch(@RequestBody BatchRequest batchRequest) {
+        List<BatchOperation> operations = batchRequest.getOperations() == null
+                ? Collections.emptyList()
+                : batchRequest.getOperations();
+
+        if (operations.size() > maxOperations) {
+            return new ResponseEntity<>(new MessageResponse(Message.BATCH_TOO_LARGE + maxOperations),
+                    HttpStatus.BAD_REQUEST);
+        }
+
+        BatchResponse batchResponse = batchRequest.isTransactional()
+                ? transactionTemplate.execute(status -> executeInTransaction(operations, status))
+                : executeInOrder(operations);
+
+        return new ResponseEntity<>(batchResponse, HttpStatus.OK);
+    }
+
+    /**
+     * Stop batch threads on shutdown
+     */
+    @PreDestroy
+    public void shutdown() {
+        executorService.shutdown();
+    }
+
+    /**
+     * Execute operations one by one in current transaction, mark it rollback only at the first failure
+     *
+     * @param operations operations in order
+     * @param status     current transaction
+     * @return batch response
+     */
+    private BatchResponse executeInTransaction(List<BatchOperation> operations, TransactionStatus status) {
+        List<BatchResult> results = new ArrayList<>(operations.size());
+
+        for (BatchOperation operation : operations) {
+            if (status.isRollbackOnly()) {
+                results.add(new BatchResult(operation.getId(), HttpStatus.FAILED_DEPENDENCY.value(),
+                        Message.BATCH_ROLLED_BACK));
+                continue;
+            }
+
+            BatchResult result = execute(operation, resolve(operation));
+            if (result.getStatus() >= HttpStatus.BAD_REQUEST.value()) {
+                status.setRollbackOnly();
+            }
+            results.add(result);
+        }
+
+        return new BatchResponse(status.isRollbackOnly(), results);
+    }
+
+    /**
+     * Execute operations without a shared transaction, each write is committed by its own service call
+     *
+     * @param operations operations in order
+     * @return batch response
+     */
+    private BatchResponse executeInOrder(List<BatchOperation> operations) {
+        BatchResult[] results = new BatchResult[operations.size()];
+        List<Future<?>> pendingReads = new ArrayList<>();
+
+        for (int i = 0; i < operations.size(); i++) {
+            BatchOperation operation = operations.get(i);
+            Route route = resolve(operation);
+            int index = i;
+
+            if (route != null && !route.isWrite()) {
+                pendingReads.add(executorService.submit(() -> results[index] = execute(operation, route)));
+            } else {
+                //A write must see the effect of every operation before it
+                awaitAll(pendingReads);
+                results[index] = execute(operation, route);
+            }
+        }
+        awaitAll(pendingReads);
+
+        return new BatchResponse(false, Arrays.asList(results));
+    }
+
+    /**
+     * Invoke endpoint of an operation, failures become the status the endpoint would answer
+     *
+     * @param operation operation
+     * @param route     route of the operation, null if no endpoint matches
+     * @return operation result
+     */
+    private BatchResult execute(BatchOperation operation, Route route) {
+        if (route == null) {
+            return new BatchResult(operation.getId(), HttpStatus.NOT_FOUND.value(),
+                    Message.UNKNOWN_OPERATION + operation.getMethod() + " " + operation.getPath());
+        }
+
+        try {
+            ResponseEntity<?> response = route.handler.handle(route.template.match(operation.getPath()), operation);
+            return new BatchResult(operation.getId(), response.getStatusCodeValue(), response.getBody());
+        } catch (Exception e) {
+            int status = statusOf(e);
+            if (status >= HttpStatus.INTERNAL_SERVER_ERROR.value()) {
+                //Do not leak internal details to the client, keep them in the log
+                logger.error("batch." + e.getClass().getSimpleName(), "Batch operation {} {} failed",
+                        operation.getMethod(), operation.getPath(), e);
+                return new BatchResult(operation.getId(), status,
+                        new ExceptionRestResponse(status, Message.BATCH_OPERATION_FAILED));
+            }
+            return new BatchResult(operation.getId(), status, new ExceptionRestResponse(status, messageOf(e)));
+        }
+    }
+
+    /**
+     * Find route of an operation
+     *
+     * @param operation operation
+     * @return route, null if no endpoint matches
+     */
+    private Route resolve(BatchOperation operation) {
+        if (operation.getMethod() == null || operation.getPath() == null) {
+            return null;
+        }
+
+        for (Route route : routes) {
+            if (route.matches(operation)) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Register an endpoint
+     *
+     * @param method  http method
+     * @param path    path template under /api/v1
+     * @param handler invoke the endpoint
+     */
+    private void route(HttpMethod method, String path, Handler handler) {
+        routes.add(new Route(method, path, handler));
+    }
+
+    /**
+     * Read request body of an operation
+     *
+     * @param operation operation
+     * @param type      body type of the endpoint
+     * @param <T>       body type
+     * @return body, null if operation has no body
+     * @throws JsonProcessingException if body does not match the type
+     */
+    private <T> T body(BatchOperation operation, Class<T> type) throws JsonProcessingException {
+        return operation.getBody() == null ? null : objectMapper.treeToValue(operation.getBody(), type);
+    }
+
+    /**
+     * Read id path variable, an id which is not a number is a bad request as for the endpoint called alone
+     *
+     * @param variables path variables of operation
+     * @return id
+     */
+    private static Long idOf(Map<String, String> variables) {
+        String id = variables.get("id");
+        try {
+            return Long.valueOf(id);
+        } catch (NumberFormatException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, Message.INVALID_ID + id);
+        }
+    }
+
+    /**
+     * Message of a failed operation shown to client
+     *
+     * @param exception failure
+     * @return message
+     */
+    private static String messageOf(Exception exception) {
+        if (exception instanceof ResponseStatusException) {
+            return ((ResponseStatusException) exception).getReason();
+        }
+        return exception.getMessage();
+    }
+
+    /**
+     * Status of a failed operation, same as the endpoint answers when it is called alone
+     *
+     * @param exception failure
+     * @return http status code
+     */
+    private static int statusOf(Exception exception) {
+        if (exception instanceof DomainException) {
+            return ((DomainException) exception).getStatus().value();
+        }
+        if (exception instanceof AccessDeniedException) {
+            return HttpStatus.FORBIDDEN.value();
+        }
+        if (exception instanceof JsonProcessingException) {
+            return HttpStatus.BAD_REQUEST.value();
+        }
+        if (exception instanceof ResponseStatusException) {
+            return ((ResponseStatusException) exception).getRawStatusCode();
+        }
+
+        ResponseStatus responseStatus =
+                AnnotatedElementUtils.findMergedAnnotation(exception.getClass(), ResponseStatus.class);
+        return responseStatus == null
+                ? HttpStatus.INTERNAL_SERVER_ERROR.value()
+                : responseStatus.code().value();
+    }
+
+    /**
+     * Wait for all reads, operations catch their own failures so only interruption is thrown
+     *
+     * @param futures pending reads
+     */
+    private static void awaitAll(List<Future<?>> futures) {
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+        futures.clear();
+    }
+}
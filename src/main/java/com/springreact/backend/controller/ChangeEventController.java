@@ -0,0 +1,77 @@
+package com.springreact.backend.controller;
+
+import com.springreact.backend.constant.Link;
+import com.springreact.backend.entity.ChangeEvent;
+import com.springreact.backend.services.ChangeEventRelay;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+/**
+ * ChangeEventController
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ */
+@CrossOrigin(origins = Link.REACT_URL)
+@RestController
+@RequestMapping(Link.BASE_URL)
+public class ChangeEventController {
+
+    private static final long MAX_POLL_TIMEOUT_MS = 60000L;
+
+    private final ChangeEventRelay changeEventRelay;
+
+    /**
+     * ChangeEventController constructor(ChangeEventRelay)
+     *
+     * @param changeEventRelay changeEventRelay
+     */
+    @Autowired
+    public ChangeEventController(ChangeEventRelay changeEventRelay) {
+        this.changeEventRelay = changeEventRelay;
+    }
+
+    /**
+     * Long poll change events after an offset
+     *
+     * @param offset    id of last event client received, -1 to start from now
+     * @param timeoutMs max waiting time if there are no new events
+     * @return event list, empty if timeout
+     */
+    @GetMapping(Link.EVENT_URL)
+    @PreAuthorize("hasRole('ADMIN')")
+    public DeferredResult<List<ChangeEvent>> pollEvents(
+            @RequestParam(defaultValue = "-1") long offset,
+            @RequestParam(defaultValue = "30000") long timeoutMs) {
+        return changeEventRelay.poll(offset, Math.min(timeoutMs, MAX_POLL_TIMEOUT_MS));
+    }
+
+    /**
+     * Stream change events as Server-Sent Events, reconnect with Last-Event-ID to resume
+     *
+     * @param offset      id of last event client received, -1 to start from now
+     * @param lastEventId sent by browser EventSource when reconnecting
+     * @return sse emitter
+     */
+    @GetMapping(value = Link.EVENT_STREAM_URL, produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public SseEmitter streamEvents(
+            @RequestParam(defaultValue = "-1") long offset,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return changeEventRelay.subscribeStream(lastEventId != null ? lastEventId : offset);
+    }
+}
@@ -0,0 +1,53 @@
+package com.springreact.backend.controller;
+
+import com.springreact.backend.constant.Link;
+import com.springreact.backend.dto.response.DashboardResponse;
+import com.springreact.backend.services.DashboardServices;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * DashboardController
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ */
+@CrossOrigin(origins = Link.REACT_URL)
+@RestController
+@RequestMapping(Link.BASE_URL)
+public class DashboardController {
+
+    private final DashboardServices dashboardServices;
+
+    /**
+     * DashboardController constructor(DashboardServices)
+     *
+     * @param dashboardServices dashboardServices
+     */
+    @Autowired
+    public DashboardController(DashboardServices dashboardServices) {
+        this.dashboardServices = dashboardServices;
+    }
+
+    /**
+     * Get employees, departments, roles, latest salaries and distinct addresses in one request
+     *
+     * @return loaded sections, sections over the deadline are listed as unavailable
+     */
+    @GetMapping(Link.DASHBOARD_URL)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<DashboardResponse> getDashboard() {
+        return new ResponseEntity<>(dashboardServices.loadDashboard(), HttpStatus.OK);
+    }
+}
@@ -1,10 +1,15 @@
 package com.springreact.backend.controller;
 
+import com.springreact.backend.cache.ResponseBodyCache;
 import com.springreact.backend.constant.Link;
-import com.springreact.backend.constant.Message;
 import com.springreact.backend.dto.request.DepartmentName;
+import com.springreact.backend.dto.response.DeltaResponse;
+import com.springreact.backend.dto.response.DepartmentResponse;
+import com.springreact.backend.dto.response.Outcome;
 import com.springreact.backend.entity.Department;
+import com.springreact.backend.entity.EChangeAggregate;
 import com.springreact.backend.exception.ResourceNotFoundException;
+import com.springreact.backend.repository.Fieldset;
 import com.springreact.backend.services.DepartmentServices;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -12,8 +17,10 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * DepartmentController
@@ -28,6 +35,12 @@ import java.util.List;
  * DATE             AUTHOR              DESCRIPTION
  * -------------------------------------------------
  * 07-06-2021       ThanhBT11           Create
+ * 19-10-2026       ThanhBT11           Add ETag and changed-since delta API
+ * 19-10-2026       ThanhBT11           Return response models instead of entities
+ * 19-10-2026       ThanhBT11           Serve list from response cache
+ * 19-10-2026       ThanhBT11           Add sparse fieldsets
+ * 19-10-2026       ThanhBT11           Answer status of service outcome
+ * 19-10-2026       ThanhBT11           Document delta settle window
  */
 @CrossOrigin(origins = Link.REACT_URL)
 @RestController
@@ -36,33 +49,50 @@ public class DepartmentController {
 
     private final DepartmentServices departmentServices;
 
+    private final ResponseBodyCache responseBodyCache;
+
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
     /**
-     * DepartmentController constructor(DepartmentServices)
+     * DepartmentController constructor(DepartmentServices, ResponseBodyCache)
      * @param departmentServices departmentServices
+     * @param responseBodyCache responseBodyCache
      */
-    public DepartmentController(DepartmentServices departmentServices) {
+    public DepartmentController(DepartmentServices departmentServices,
+                                ResponseBodyCache responseBodyCache) {
         this.departmentServices = departmentServices;
+        this.responseBodyCache = responseBodyCache;
     }
 
     /**
      * Get All Departments
      *
+     * @param fields     comma separated fields to return, all fields if it is not set
+     * @param webRequest request to check If-None-Match and Accept-Encoding header
      * @return department list
      */
     @GetMapping(Link.DEPARTMENT_URL)
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<Department>> getAllDepartments() {
-        List<Department> departments = null;
-
-        try {
-            departments = departmentServices.findAllByOrderByDepartmentAsc();
-        } catch (NullPointerException e) {
-            logger.error("An error occur: " + e.getMessage());
-            throw new ResourceNotFoundException(Message.NOT_EXIST_DEPARTMENT_LIST);
+    public ResponseEntity<byte[]> getAllDepartments(@RequestParam(required = false) String fields,
+                                                    WebRequest webRequest) {
+        if (fields != null) {
+            Fieldset fieldset = DepartmentResponse.FIELDSET.select(fields);
+            return responseBodyCache.respond(ResponseBodyCache.key(Link.DEPARTMENT_URL, fieldset.key()), webRequest,
+                    () -> departmentServices.findAllDepartmentFields(fieldset),
+                    EChangeAggregate.DEPARTMENT);
         }
-        return new ResponseEntity<>(departments, HttpStatus.OK);
+
+        return responseBodyCache.respond(ResponseBodyCache.key(Link.DEPARTMENT_URL), webRequest, () -> {
+            List<Department> departments;
+
+            try {
+                departments = departmentServices.findAllByOrderByDepartmentAsc();
+            } catch (NullPointerException e) {
+                logger.error("An error occur: " + e.getMessage());
+                throw ResourceNotFoundException.DEPARTMENT_LIST;
+            }
+            return DepartmentResponse.listOf(departments);
+        }, EChangeAggregate.DEPARTMENT);
     }
 
     /**
@@ -74,19 +104,7 @@ public class DepartmentController {
     @PostMapping(Link.DEPARTMENT_URL)
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<String> createDepartment(@RequestBody DepartmentName departmentName) {
-        String message = departmentServices.processCreateDepartment(departmentName);
-        HttpStatus status = HttpStatus.CREATED;
-
-        switch (message) {
-            case Message.EXIST_DEPARTMENT:
-            case Message.EXIST_DEPARTMENT_NAME:
-                status = HttpStatus.BAD_REQUEST;
-                break;
-            case Message.CREATE_SUCCESS:
-                break;
-        }
-
-        return new ResponseEntity<>(message, status);
+        return departmentServices.processCreateDepartment(departmentName).toResponse();
     }
 
     /**
@@ -98,33 +116,33 @@ public class DepartmentController {
     @DeleteMapping(Link.DEPARTMENT_ID_PATH_URL)
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<String> deleteDepartment(@PathVariable Long id) {
-        Boolean isEmployeeExistByDepartment =
-                departmentServices.isEmployeeExistByDepartment(id);
-        String message = null;
-        HttpStatus status = HttpStatus.OK;
-
         //Cannot delete if there are any employees in department
-        if (isEmployeeExistByDepartment) {
-            message = Message.EXIST_EMPLOYEE_BY_DEPARTMENT;
-            status = HttpStatus.BAD_REQUEST;
-        } else {
-            message = departmentServices.processDeleteDepartment(id);
+        if (departmentServices.isEmployeeExistByDepartment(id)) {
+            return Outcome.EXIST_EMPLOYEE_BY_DEPARTMENT.toResponse();
         }
 
-        return new ResponseEntity<>(message, status);
+        return departmentServices.processDeleteDepartment(id).toResponse();
     }
 
     /**
      * Get department by department id
      *
-     * @param id to get department
+     * @param id     to get department
+     * @param fields comma separated fields to return, all fields if it is not set
      * @return department by id
      */
     @GetMapping(Link.DEPARTMENT_ID_PATH_URL)
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Department> getDepartmentById(@PathVariable Long id) {
+    public ResponseEntity<?> getDepartmentById(@PathVariable Long id,
+                                               @RequestParam(required = false) String fields) {
+        if (fields != null) {
+            Map<String, Object> departmentFields =
+                    departmentServices.findDepartmentFieldsById(id, DepartmentResponse.FIELDSET.select(fields));
+            return new ResponseEntity<>(departmentFields, HttpStatus.OK);
+        }
+
         Department department = departmentServices.findDepartmentById(id);
-        return new ResponseEntity<>(department, HttpStatus.OK);
+        return new ResponseEntity<>(DepartmentResponse.of(department), HttpStatus.OK);
     }
 
     /**
@@ -140,22 +158,10 @@ public class DepartmentController {
                                                    @PathVariable(name = "id") Long id) {
 
         //Process update service
-        String message = departmentServices.processUpdateDepartment(
+        return departmentServices.processUpdateDepartment(
                 departmentUpdate,
                 id
-        );
-        HttpStatus status = HttpStatus.OK;
-
-        switch (message) {
-            case Message.EXIST_DEPARTMENT_NAME:
-            case Message.EXIST_DEPARTMENT:
-                status = HttpStatus.BAD_REQUEST;
-                break;
-            case Message.UPDATE_SUCCESS:
-                break;
-        }
-
-        return new ResponseEntity<>(message, status);
+        ).toResponse();
     }
 
     /**
@@ -166,21 +172,29 @@ public class DepartmentController {
      */
     @GetMapping(Link.SEARCH_DEPARTMENT_BY_KEYWORD_URL)
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<Department>> searchDepartments(@PathVariable String keyword) {
+    public ResponseEntity<List<DepartmentResponse>> searchDepartments(@PathVariable String keyword) {
 
         List<Department> departmentList= departmentServices.processSearchDepartments(keyword);
 
-        return new ResponseEntity<>(departmentList, HttpStatus.OK);
+        return new ResponseEntity<>(DepartmentResponse.listOf(departmentList), HttpStatus.OK);
     }
 
+    /**
+     * Get departments changed after a cursor, so client only syncs the difference.
+     * Rows changed in the last 30 seconds are sent again on next request, upsert them by id
+     *
+     * @param since   last modified time (epoch millisecond) of cursor
+     * @param afterId id of cursor
+     * @param limit   max rows to return
+     * @return changed departments and next cursor
+     */
+    @GetMapping(Link.DEPARTMENT_CHANGES_URL)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<DeltaResponse<DepartmentResponse>> getChangedDepartments(
+            @RequestParam(defaultValue = "0") long since,
+            @RequestParam(defaultValue = "0") long afterId,
+            @RequestParam(defaultValue = "500") int limit) {
+        DeltaResponse<Department> deltaResponse = departmentServices.findDepartmentsChangedSince(since, afterId, limit);
+        return new ResponseEntity<>(deltaResponse.map(DepartmentResponse::of), HttpStatus.OK);
+    }
 }
-
-
-
-
-
-
-
-
-
-
@@ -1,20 +1,30 @@
 package com.springreact.backend.controller;
 
+import com.springreact.backend.cache.ResponseBodyCache;
 import com.springreact.backend.constant.Link;
 import com.springreact.backend.constant.Message;
 import com.springreact.backend.dto.request.EmployeeRoleAndDepartment;
+import com.springreact.backend.dto.response.DeltaResponse;
+import com.springreact.backend.dto.response.EmployeeResponse;
+import com.springreact.backend.dto.response.MessageResponse;
+import com.springreact.backend.dto.response.MultiGetResponse;
+import com.springreact.backend.entity.EChangeAggregate;
 import com.springreact.backend.entity.Employee;
 import com.springreact.backend.exception.ResourceNotFoundException;
+import com.springreact.backend.repository.Fieldset;
 import com.springreact.backend.services.EmployeeServices;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * EmployeeController
@@ -29,6 +39,13 @@ import java.util.List;
  * DATE             AUTHOR              DESCRIPTION
  * -------------------------------------------------
  * 07-06-2021       ThanhBT11           Create
+ * 19-10-2026       ThanhBT11           Add ETag and changed-since delta API
+ * 19-10-2026       ThanhBT11           Return response models instead of entities
+ * 19-10-2026       ThanhBT11           Serve list from response cache
+ * 19-10-2026       ThanhBT11           Add sparse fieldsets
+ * 19-10-2026       ThanhBT11           Add multi-get endpoints
+ * 19-10-2026       ThanhBT11           Answer status of service outcome
+ * 19-10-2026       ThanhBT11           Document delta settle window
  */
 @CrossOrigin(origins = Link.REACT_URL)
 @RestController
@@ -37,34 +54,56 @@ public class EmployeeController {
 
     private final EmployeeServices employeeServices;
 
+    private final ResponseBodyCache responseBodyCache;
+
+    private final int maxKeys;
+
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
     /**
-     * EmployeeController constructor(EmployeeServices)
+     * EmployeeController constructor(EmployeeServices, ResponseBodyCache, int)
      * @param employeeServices employeeServices
+     * @param responseBodyCache responseBodyCache
+     * @param maxKeys max ids or emails of a multi-get request
      */
     @Autowired
-    public EmployeeController(EmployeeServices employeeServices) {
+    public EmployeeController(EmployeeServices employeeServices,
+                              ResponseBodyCache responseBodyCache,
+                              @Value("${reactCrud.app.multiGet.maxKeys:100}") int maxKeys) {
         this.employeeServices = employeeServices;
+        this.responseBodyCache = responseBodyCache;
+        this.maxKeys = maxKeys;
     }
 
     /**
      * Get All Employees
      *
+     * @param fields     comma separated fields to return, e.g. id,fullName,role
+     * @param webRequest request to check If-None-Match and Accept-Encoding header
      * @return employee list
      */
     @GetMapping(Link.EMPLOYEE_URL)
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<Employee>> getAllEmployees() {
-        List<Employee> employeeList = null;
-
-        try {
-            employeeList = employeeServices.findAllEmployeeOrderByIdDesc();
-        } catch (NullPointerException e) {
-            logger.error("An error occur: " + e.getMessage());
-            throw new ResourceNotFoundException(Message.NOT_EXIST_EMPLOYEE_LIST);
+    public ResponseEntity<byte[]> getAllEmployees(@RequestParam(required = false) String fields,
+                                                  WebRequest webRequest) {
+        if (fields != null) {
+            Fieldset fieldset = EmployeeResponse.FIELDSET.select(fields);
+            return responseBodyCache.respond(ResponseBodyCache.key(Link.EMPLOYEE_URL, fieldset.key()), webRequest,
+                    () -> employeeServices.findAllEmployeeFields(fieldset),
+                    EChangeAggregate.EMPLOYEE, EChangeAggregate.ROLE, EChangeAggregate.DEPARTMENT);
         }
-        return new ResponseEntity<>(employeeList, HttpStatus.OK);
+
+        return responseBodyCache.respond(ResponseBodyCache.key(Link.EMPLOYEE_URL), webRequest, () -> {
+            List<Employee> employeeList;
+
+            try {
+                employeeList = employeeServices.findAllEmployeeOrderByIdDesc();
+            } catch (NullPointerException e) {
+                logger.error("An error occur: " + e.getMessage());
+                throw ResourceNotFoundException.EMPLOYEE_LIST;
+            }
+            return EmployeeResponse.listOf(employeeList);
+        }, EChangeAggregate.EMPLOYEE, EChangeAggregate.ROLE, EChangeAggregate.DEPARTMENT);
     }
 
     /**
@@ -77,45 +116,49 @@ public class EmployeeController {
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<String> createEmployee(@RequestBody Employee employee) {
 
-        String message = employeeServices.processCreateEmployee(employee);
-        HttpStatus status = HttpStatus.CREATED;
-
-        switch (message) {
-            case Message.CREATE_SUCCESS:
-                break;
-            case Message.EXIST_EMAIL:
-            case Message.EXIST_PHONE_NUMBER:
-                status = HttpStatus.BAD_REQUEST;
-                break;
-        }
-
-        return new ResponseEntity<>(message, status);
+        return employeeServices.processCreateEmployee(employee).toResponse();
     }
 
     /**
      * Get Employee by employee id
      *
-     * @param id to find employee
+     * @param id     to find employee
+     * @param fields comma separated fields to return, all fields if it is not set
      * @return employee by id
      */
     @GetMapping(Link.EMPLOYEE_ID_PATH_URL)
-    public ResponseEntity<Employee> getEmployeeById(
-            @PathVariable(name = "id") Long id) {
+    public ResponseEntity<?> getEmployeeById(
+            @PathVariable(name = "id") Long id,
+            @RequestParam(required = false) String fields) {
+        if (fields != null) {
+            Map<String, Object> employeeFields =
+                    employeeServices.findEmployeeFieldsById(id, EmployeeResponse.FIELDSET.select(fields));
+            return new ResponseEntity<>(employeeFields, HttpStatus.OK);
+        }
+
         Employee employee = employeeServices.findEmployeeById(id);
-        return new ResponseEntity<>(employee, HttpStatus.OK);
+        return new ResponseEntity<>(EmployeeResponse.of(employee), HttpStatus.OK);
     }
 
     /**
      * Get employee by email
      *
-     * @param email to get employee
+     * @param email  to get employee
+     * @param fields comma separated fields to return, all fields if it is not set
      * @return employee by email
      */
     @GetMapping(Link.EMPLOYEE_EMAIL_PATH_URL)
-    public ResponseEntity<Employee> getEmployeeByEmail(
-            @PathVariable(name = "email") String email) {
+    public ResponseEntity<?> getEmployeeByEmail(
+            @PathVariable(name = "email") String email,
+            @RequestParam(required = false) String fields) {
+        if (fields != null) {
+            Map<String, Object> employeeFields =
+                    employeeServices.findEmployeeFieldsByEmail(email, EmployeeResponse.FIELDSET.select(fields));
+            return new ResponseEntity<>(employeeFields, HttpStatus.OK);
+        }
+
         Employee employee = employeeServices.findEmployeeByEmail(email);
-        return new ResponseEntity<>(employee, HttpStatus.OK);
+        return new ResponseEntity<>(EmployeeResponse.of(employee), HttpStatus.OK);
     }
 
     /**
@@ -129,19 +172,7 @@ public class EmployeeController {
     public ResponseEntity<String> updateEmployee(@RequestBody Employee employeeUpdate,
                                                  @PathVariable Long id) {
 
-        String message = employeeServices.processUpdateEmployee(employeeUpdate, id);
-        HttpStatus status = HttpStatus.OK;
-
-        switch (message) {
-            case Message.UPDATE_SUCCESS:
-                break;
-            case Message.EXIST_PHONE_NUMBER:
-            case Message.EXIST_EMAIL:
-                status = HttpStatus.BAD_REQUEST;
-                break;
-        }
-
-        return new ResponseEntity<>(message, status);
+        return employeeServices.processUpdateEmployee(employeeUpdate, id).toResponse();
     }
 
     /**
@@ -153,21 +184,21 @@ public class EmployeeController {
     @DeleteMapping(Link.EMPLOYEE_ID_PATH_URL)
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<String> deleteEmployee(@PathVariable Long id) {
-        String message = employeeServices.processDeleteEmployee(id);
-        return new ResponseEntity<>(message, HttpStatus.OK);
+        return employeeServices.processDeleteEmployee(id).toResponse();
     }
 
     /**
      * Get List role and department of all employees
      *
+     * @param webRequest request to check If-None-Match and Accept-Encoding header
      * @return list role and department of all employees
      */
     @GetMapping(Link.EMPLOYEE_ROLE_DEPARTMENT_URL)
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<EmployeeRoleAndDepartment>> getEmployeeRoleAndDepartment() {
-        List<EmployeeRoleAndDepartment> employeeRoleAndDepartmentList =
-                employeeServices.listEmployeeRoleAndDepartment();
-        return new ResponseEntity<>(employeeRoleAndDepartmentList, HttpStatus.OK);
+    public ResponseEntity<byte[]> getEmployeeRoleAndDepartment(WebRequest webRequest) {
+        return responseBodyCache.respond(ResponseBodyCache.key(Link.EMPLOYEE_ROLE_DEPARTMENT_URL), webRequest,
+                employeeServices::listEmployeeRoleAndDepartment,
+                EChangeAggregate.EMPLOYEE, EChangeAggregate.ROLE, EChangeAggregate.DEPARTMENT);
     }
 
     /**
@@ -183,22 +214,10 @@ public class EmployeeController {
             @RequestBody EmployeeRoleAndDepartment employeeRoleAndDepartmentUpdate,
             @PathVariable String email) {
 
-        String message = employeeServices.processUpdateEmployeeRoleAndDepartment(
+        return employeeServices.processUpdateEmployeeRoleAndDepartment(
                 employeeRoleAndDepartmentUpdate,
                 email
-        );
-        HttpStatus status = HttpStatus.OK;
-
-        switch (message) {
-            case Message.NOT_EXIST_ROLE:
-            case Message.NOT_EXIST_DEPARTMENT:
-                status = HttpStatus.BAD_REQUEST;
-                break;
-            case Message.UPDATE_ROLE_DEPARTMENT_SUCCESS:
-                break;
-        }
-
-        return new ResponseEntity<>(message, status);
+        ).toResponse();
     }
 
     /**
@@ -238,11 +257,11 @@ public class EmployeeController {
      */
     @GetMapping(Link.SEARCH_BY_KEYWORD_URL)
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<Employee>> searchEmployees(@PathVariable String keyword) {
+    public ResponseEntity<List<EmployeeResponse>> searchEmployees(@PathVariable String keyword) {
 
         List<Employee> employeeList = employeeServices.processSearchEmployees(keyword);
 
-        return new ResponseEntity<>(employeeList, HttpStatus.OK);
+        return new ResponseEntity<>(EmployeeResponse.listOf(employeeList), HttpStatus.OK);
     }
 
     /**
@@ -274,22 +293,81 @@ public class EmployeeController {
         return new ResponseEntity<>(image, HttpStatus.OK);
     }
 
-}
-
-
-
-
-
-
-
-
-
-
-
+    /**
+     * Get employees changed after a cursor, so client only syncs the difference.
+     * Rows changed in the last 30 seconds are sent again on next request, upsert them by id
+     *
+     * @param since   last modified time (epoch millisecond) of cursor
+     * @param afterId id of cursor
+     * @param limit   max rows to return
+     * @return changed employees and next cursor
+     */
+    @GetMapping(Link.EMPLOYEE_CHANGES_URL)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<DeltaResponse<EmployeeResponse>> getChangedEmployees(
+            @RequestParam(defaultValue = "0") long since,
+            @RequestParam(defaultValue = "0") long afterId,
+            @RequestParam(defaultValue = "500") int limit) {
+        DeltaResponse<Employee> deltaResponse = employeeServices.findEmployeesChangedSince(since, afterId, limit);
+        return new ResponseEntity<>(deltaResponse.map(EmployeeResponse::summaryOf), HttpStatus.OK);
+    }
 
+    /**
+     * Get employees by ids with one query
+     *
+     * @param ids comma separated employee ids
+     * @return found employees in request order and ids which are not found
+     */
+    @GetMapping(Link.EMPLOYEE_BY_IDS_URL)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> getEmployeesByIds(@RequestParam List<Long> ids) {
+        if (ids.size() > maxKeys) {
+            return tooManyKeys();
+        }
 
+        MultiGetResponse<Long, Employee> multiGetResponse = employeeServices.findEmployeesByIds(ids);
+        return new ResponseEntity<>(multiGetResponse.map(EmployeeResponse::of), HttpStatus.OK);
+    }
 
+    /**
+     * Get employees by emails with one query
+     *
+     * @param emails comma separated employee emails
+     * @return found employees in request order and emails which are not found
+     */
+    @GetMapping(Link.EMPLOYEE_BY_EMAILS_URL)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> getEmployeesByEmails(@RequestParam List<String> emails) {
+        if (emails.size() > maxKeys) {
+            return tooManyKeys();
+        }
 
+        MultiGetResponse<String, Employee> multiGetResponse = employeeServices.findEmployeesByEmails(emails);
+        return new ResponseEntity<>(multiGetResponse.map(EmployeeResponse::of), HttpStatus.OK);
+    }
 
+    /**
+     * Get role and department of employees by emails with one query
+     *
+     * @param emails comma separated employee emails
+     * @return role and department of found employees in request order and emails which are not found
+     */
+    @GetMapping(Link.EMPLOYEE_ROLE_DEPARTMENT_BY_EMAILS_URL)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> getEmployeeRoleAndDepartmentByEmails(@RequestParam List<String> emails) {
+        if (emails.size() > maxKeys) {
+            return tooManyKeys();
+        }
 
+        return new ResponseEntity<>(employeeServices.findEmployeeRoleAndDepartmentByEmails(emails), HttpStatus.OK);
+    }
 
+    /**
+     * Response of a multi-get request with too many keys
+     *
+     * @return bad request with max keys
+     */
+    private ResponseEntity<MessageResponse> tooManyKeys() {
+        return new ResponseEntity<>(new MessageResponse(Message.TOO_MANY_KEYS + maxKeys), HttpStatus.BAD_REQUEST);
+    }
+}
@@ -5,6 +5,7 @@ import com.springreact.backend.constant.Message;
 import com.springreact.backend.dto.request.ChangePassword;
 import com.springreact.backend.dto.request.ResetPassword;
 import com.springreact.backend.entity.Employee;
+import com.springreact.backend.jfr.MailSendEvent;
 import com.springreact.backend.services.EmployeeServices;
 import net.bytebuddy.utility.RandomString;
 import org.slf4j.Logger;
@@ -19,6 +20,7 @@ import org.springframework.web.bind.annotation.*;
 import javax.mail.MessagingException;
 import javax.mail.internet.MimeMessage;
 import java.io.UnsupportedEncodingException;
+import java.util.concurrent.Callable;
 
 /**
  * ForgotPasswordController
@@ -33,6 +35,8 @@ import java.io.UnsupportedEncodingException;
  * DATE             AUTHOR              DESCRIPTION
  * -------------------------------------------------
  * 07-06-2021       ThanhBT11           Create
+ * 19-10-2026       ThanhBT11           Run blocking work as Callable
+ * 19-10-2026       ThanhBT11           Add flight recorder events
  */
 @CrossOrigin(origins = Link.REACT_URL)
 @RestController
@@ -70,21 +74,24 @@ public class ForgotPasswordController {
      * @return message sent mail
      */
     @PostMapping(Link.FORGOT_PASSWORD_EMAIL_PATH_URL)
-    public ResponseEntity<String> processForgotPassword(@PathVariable String email) {
-        String token = RandomString.make(30);
-
-        try {
-            //save reset token to database to check with token from email
-            employeeServices.updateResetPasswordToken(token, email);
-            //sending link to email contains reset password token
-            String resetPasswordLink = Link.REACT_URL +
-                    "/reset_password/" + token;
-            sendEmail(email, resetPasswordLink);
-        } catch (UnsupportedEncodingException | MessagingException e) {
-            logger.error("An error occurred: " + ERROR_SENDING_EMAIL);
-        }
+    public Callable<ResponseEntity<String>> processForgotPassword(@PathVariable String email) {
+        //SMTP call can take seconds, run it on blocking task executor
+        return () -> {
+            String token = RandomString.make(30);
+
+            try {
+                //save reset token to database to check with token from email
+                employeeServices.updateResetPasswordToken(token, email);
+                //sending link to email contains reset password token
+                String resetPasswordLink = Link.REACT_URL +
+                        "/reset_password/" + token;
+                sendEmail(email, resetPasswordLink);
+            } catch (UnsupportedEncodingException | MessagingException e) {
+                logger.error("An error occurred: " + ERROR_SENDING_EMAIL);
+            }
 
-        return new ResponseEntity<>(Message.SENT_EMAIL, HttpStatus.OK);
+            return new ResponseEntity<>(Message.SENT_EMAIL, HttpStatus.OK);
+        };
     }
 
     /**
@@ -118,7 +125,15 @@ public class ForgotPasswordController {
 
         helper.setSubject(MAIL_SUBJECT);
         helper.setText(content, USING_HTML_TEXT);
-        mailSender.send(message);
+
+        MailSendEvent event = MailSendEvent.start(MailSendEvent.RESET_PASSWORD);
+        try {
+            mailSender.send(message);
+        } catch (RuntimeException e) {
+            event.finish(false);
+            throw e;
+        }
+        event.finish(true);
     }
 
     /**
@@ -129,27 +144,29 @@ public class ForgotPasswordController {
      * @return message if reset password success or not
      */
     @PostMapping(Link.RESET_PASSWORD_TOKEN_PATH_URL)
-    public ResponseEntity<String> processResetPassword(
+    public Callable<ResponseEntity<String>> processResetPassword(
             @RequestBody ResetPassword resetPassword,
             @PathVariable String token) {
 
-        //Get employee has reset password token
-        Employee employee = employeeServices.getByResetPasswordToken(token);
-
-        if (employee != null) {
-            //Check if password equals to confirm password or not
-            if (resetPassword.getPassword().equals(resetPassword.getConfirmPassword())) {
-                //If equals, update new password and return change password success message
-                employeeServices.updatePassword(employee, resetPassword.getPassword());
-                return new ResponseEntity<>(Message.CHANGE_PASSWORD_SUCCESS, HttpStatus.OK);
-            } else {
-                //Else return message confirm password must equal to password
-                return new ResponseEntity<>(Message.VALID_CONFIRM_PASSWORD,
-                        HttpStatus.BAD_REQUEST);
+        return () -> {
+            //Get employee has reset password token
+            Employee employee = employeeServices.getByResetPasswordToken(token);
+
+            if (employee != null) {
+                //Check if password equals to confirm password or not
+                if (resetPassword.getPassword().equals(resetPassword.getConfirmPassword())) {
+                    //If equals, update new password and return change password success message
+                    employeeServices.updatePassword(employee, resetPassword.getPassword());
+                    return new ResponseEntity<>(Message.CHANGE_PASSWORD_SUCCESS, HttpStatus.OK);
+                } else {
+                    //Else return message confirm password must equal to password
+                    return new ResponseEntity<>(Message.VALID_CONFIRM_PASSWORD,
+                            HttpStatus.BAD_REQUEST);
+                }
             }
-        }
 
-        return new ResponseEntity<>(Message.CHANGE_PASSWORD_FAIL, HttpStatus.BAD_REQUEST);
+            return new ResponseEntity<>(Message.CHANGE_PASSWORD_FAIL, HttpStatus.BAD_REQUEST);
+        };
     }
 
     /**
@@ -160,25 +177,28 @@ public class ForgotPasswordController {
      * @return message if change password success or not
      */
     @PostMapping(Link.CHANGE_PASSWORD_EMAIL_PATH_URL)
-    public ResponseEntity<String> processChangePassword(@RequestBody ChangePassword changePassword,
-                                                        @PathVariable String email) {
+    public Callable<ResponseEntity<String>> processChangePassword(
+            @RequestBody ChangePassword changePassword,
+            @PathVariable String email) {
 
-        Employee employee = employeeServices.findEmployeeByEmail(email);
+        return () -> {
+            Employee employee = employeeServices.findEmployeeByEmail(email);
 
-        //Check old password is valid or not
-        if (!employeeServices.checkValidOldPassword(employee, changePassword.getOldPassword())) {
-            return new ResponseEntity<>(Message.INCORRECT_OLD_PASSWORD,
-                    HttpStatus.BAD_REQUEST);
-        }
+            //Check old password is valid or not
+            if (!employeeServices.checkValidOldPassword(employee, changePassword.getOldPassword())) {
+                return new ResponseEntity<>(Message.INCORRECT_OLD_PASSWORD,
+                        HttpStatus.BAD_REQUEST);
+            }
 
-        //Check new password is equal to confirm password or not
-        if (!changePassword.getNewPassword().equals(changePassword.getConfirmPassword())) {
-            return new ResponseEntity<>(Message.VALID_CONFIRM_PASSWORD,
-                    HttpStatus.BAD_REQUEST);
-        }
+            //Check new password is equal to confirm password or not
+            if (!changePassword.getNewPassword().equals(changePassword.getConfirmPassword())) {
+                return new ResponseEntity<>(Message.VALID_CONFIRM_PASSWORD,
+                        HttpStatus.BAD_REQUEST);
+            }
 
-        employeeServices.changeUserPassword(employee, changePassword.getNewPassword());
-        return new ResponseEntity<>(Message.CHANGE_PASSWORD_SUCCESS, HttpStatus.OK);
+            employeeServices.changeUserPassword(employee, changePassword.getNewPassword());
+            return new ResponseEntity<>(Message.CHANGE_PASSWORD_SUCCESS, HttpStatus.OK);
+        };
     }
 
 }
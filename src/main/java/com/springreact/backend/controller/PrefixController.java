@@ -1,14 +1,13 @@
 package com.springreact.backend.controller;
 
+import com.springreact.backend.cache.ResponseBodyCache;
 import com.springreact.backend.constant.Link;
-import com.springreact.backend.entity.PrefixPhoneNumber;
 import com.springreact.backend.services.PrefixService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * PrefixController
@@ -23,51 +22,58 @@ import java.util.List;
  * DATE             AUTHOR              DESCRIPTION
  * -------------------------------------------------
  * 07-06-2021       ThanhBT11           Create
+ * 19-10-2026       ThanhBT11           Serve list from response cache
+ * 19-10-2026       ThanhBT11           Answer prefix check from memory
+ * 19-10-2026       ThanhBT11           Keep 400 for missing prefix
  */
 @CrossOrigin(origins = Link.REACT_URL)
 @RestController
 @RequestMapping(Link.BASE_URL)
 public class PrefixController {
 
+    //Answers of prefix check are constant, headers of ResponseEntity are read-only
+    private static final ResponseEntity<Boolean> PREFIX_EXIST = new ResponseEntity<>(true, HttpStatus.OK);
+    private static final ResponseEntity<Boolean> PREFIX_NOT_EXIST = new ResponseEntity<>(false, HttpStatus.BAD_REQUEST);
+
     private final PrefixService prefixService;
 
+    private final ResponseBodyCache responseBodyCache;
+
     /**
-     * PrefixController constructor(PrefixService)
+     * PrefixController constructor(PrefixService, ResponseBodyCache)
      *
-     * @param prefixService prefixService
+     * @param prefixService     prefixService
+     * @param responseBodyCache responseBodyCache
      */
     @Autowired
-    public PrefixController(PrefixService prefixService) {
+    public PrefixController(PrefixService prefixService,
+                            ResponseBodyCache responseBodyCache) {
         this.prefixService = prefixService;
+        this.responseBodyCache = responseBodyCache;
     }
 
     /**
      * Get phone number prefix
      *
+     * @param webRequest request to check If-None-Match and Accept-Encoding header
      * @return phone number prefix list
      */
     @GetMapping(Link.PREFIX_URL)
-    public ResponseEntity<List<PrefixPhoneNumber>> getAllPrefix() {
-        List<PrefixPhoneNumber> prefixPhoneNumbers = prefixService.findAllPrefixes();
-
-        return new ResponseEntity<>(prefixPhoneNumbers, HttpStatus.OK);
+    public ResponseEntity<byte[]> getAllPrefix(WebRequest webRequest) {
+        //Prefixes are never changed by the API, so cached body has no dependency
+        return responseBodyCache.respond(ResponseBodyCache.key(Link.PREFIX_URL), webRequest,
+                prefixService::findAllPrefixes);
     }
 
     /**
      * Check exist prefix title
      *
      * @param title to check text from select box is exist in prefix list or not
-     * @return true if prefix exist, false if not
+     * @return true if prefix exist, false with 400 if not
      */
     @GetMapping(Link.PREFIX_TITLE_PATH_URL)
     public ResponseEntity<Boolean> checkPrefixTitle(@PathVariable String title) {
-        boolean isCheck = prefixService.isPrefixExistByTitle(title);
-
-        if (isCheck) {
-            return new ResponseEntity<>(true, HttpStatus.OK);
-        } else {
-            return new ResponseEntity<>(false, HttpStatus.BAD_REQUEST);
-        }
+        return prefixService.isPrefixExistByTitle(title) ? PREFIX_EXIST : PREFIX_NOT_EXIST;
     }
 }
 
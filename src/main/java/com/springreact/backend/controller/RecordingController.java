@@ -0,0 +1,112 @@
+package com.springreact.backend.controller;
+
+import com.springreact.backend.constant.Link;
+import com.springreact.backend.constant.Message;
+import com.springreact.backend.dto.response.MessageResponse;
+import com.springreact.backend.dto.response.RecordingResponse;
+import com.springreact.backend.services.RecordingServices;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * RecordingController
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ */
+@CrossOrigin(origins = Link.REACT_URL)
+@RestController
+@RequestMapping(Link.BASE_URL)
+public class RecordingController {
+
+    private final RecordingServices recordingServices;
+
+    /**
+     * RecordingController constructor(RecordingServices)
+     *
+     * @param recordingServices recordingServices
+     */
+    @Autowired
+    public RecordingController(RecordingServices recordingServices) {
+        this.recordingServices = recordingServices;
+    }
+
+    /**
+     * Start a flight recording with service, auth, password, mail and salary events
+     *
+     * @param settings      JDK settings, default or profile
+     * @param maxAgeSeconds max age of kept data in second
+     * @return started recording
+     */
+    @PostMapping(Link.RECORDING_URL)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<RecordingResponse> startRecording(
+            @RequestParam(defaultValue = "profile") String settings,
+            @RequestParam(defaultValue = "600") long maxAgeSeconds) {
+        RecordingResponse recording = RecordingResponse.of(
+                recordingServices.startRecording(settings, Duration.ofSeconds(maxAgeSeconds)));
+        return new ResponseEntity<>(recording, HttpStatus.CREATED);
+    }
+
+    /**
+     * Get recordings started by the API
+     *
+     * @return recording list
+     */
+    @GetMapping(Link.RECORDING_URL)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<RecordingResponse>> getAllRecordings() {
+        List<RecordingResponse> recordings = recordingServices.findAllRecordings().stream()
+                .map(RecordingResponse::of)
+                .collect(Collectors.toList());
+        return new ResponseEntity<>(recordings, HttpStatus.OK);
+    }
+
+    /**
+     * Dump a recording as .jfr file, the recording keeps running
+     *
+     * @param id recording id
+     * @return .jfr file
+     */
+    @GetMapping(Link.RECORDING_DUMP_PATH_URL)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<byte[]> dumpRecording(@PathVariable long id) {
+        byte[] content = recordingServices.dumpRecording(id);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename("recording-" + id + ".jfr").build().toString())
+                .body(content);
+    }
+
+    /**
+     * Stop and close a recording
+     *
+     * @param id recording id
+     * @return message if close success
+     */
+    @DeleteMapping(Link.RECORDING_ID_PATH_URL)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<MessageResponse> closeRecording(@PathVariable long id) {
+        recordingServices.closeRecording(id);
+        return new ResponseEntity<>(new MessageResponse(Message.DELETE_SUCCESS), HttpStatus.OK);
+    }
+}
@@ -1,10 +1,15 @@
 package com.springreact.backend.controller;
 
+import com.springreact.backend.cache.ResponseBodyCache;
 import com.springreact.backend.constant.Link;
-import com.springreact.backend.constant.Message;
 import com.springreact.backend.dto.request.RoleName;
+import com.springreact.backend.dto.response.DeltaResponse;
+import com.springreact.backend.dto.response.Outcome;
+import com.springreact.backend.dto.response.RoleResponse;
+import com.springreact.backend.entity.EChangeAggregate;
 import com.springreact.backend.entity.Role;
 import com.springreact.backend.exception.ResourceNotFoundException;
+import com.springreact.backend.repository.Fieldset;
 import com.springreact.backend.services.RoleServices;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -12,8 +17,10 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * RoleController
@@ -28,6 +35,12 @@ import java.util.List;
  * DATE             AUTHOR              DESCRIPTION
  * -------------------------------------------------
  * 07-06-2021       ThanhBT11           Create
+ * 19-10-2026       ThanhBT11           Add ETag and changed-since delta API
+ * 19-10-2026       ThanhBT11           Return response models instead of entities
+ * 19-10-2026       ThanhBT11           Serve list from response cache
+ * 19-10-2026       ThanhBT11           Add sparse fieldsets
+ * 19-10-2026       ThanhBT11           Answer status of service outcome
+ * 19-10-2026       ThanhBT11           Document delta settle window
  */
 @CrossOrigin(origins = Link.REACT_URL)
 @RestController
@@ -36,35 +49,51 @@ public class RoleController {
 
     private final RoleServices roleServices;
 
+    private final ResponseBodyCache responseBodyCache;
+
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
     /**
-     * RoleController constructor(RoleServices)
+     * RoleController constructor(RoleServices, ResponseBodyCache)
      *
      * @param roleServices roleServices
+     * @param responseBodyCache responseBodyCache
      */
-    public RoleController(RoleServices roleServices) {
+    public RoleController(RoleServices roleServices,
+                          ResponseBodyCache responseBodyCache) {
         this.roleServices = roleServices;
+        this.responseBodyCache = responseBodyCache;
     }
 
     /**
      * Get All Roles
      *
+     * @param fields     comma separated fields to return, all fields if it is not set
+     * @param webRequest request to check If-None-Match and Accept-Encoding header
      * @return role list
      */
     @GetMapping(Link.ROLE_URL)
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<Role>> getAllRoles() {
-        List<Role> roles = null;
-
-        try {
-            roles = roleServices.findAllByOrderByRoleAsc();
-        } catch (NullPointerException e) {
-            logger.error("An error occur: " + e.getMessage());
-            throw new ResourceNotFoundException(Message.NOT_EXIST_ROLE_LIST);
+    public ResponseEntity<byte[]> getAllRoles(@RequestParam(required = false) String fields,
+                                              WebRequest webRequest) {
+        if (fields != null) {
+            Fieldset fieldset = RoleResponse.FIELDSET.select(fields);
+            return responseBodyCache.respond(ResponseBodyCache.key(Link.ROLE_URL, fieldset.key()), webRequest,
+                    () -> roleServices.findAllRoleFields(fieldset),
+                    EChangeAggregate.ROLE);
         }
 
-        return new ResponseEntity<>(roles, HttpStatus.OK);
+        return responseBodyCache.respond(ResponseBodyCache.key(Link.ROLE_URL), webRequest, () -> {
+            List<Role> roles;
+
+            try {
+                roles = roleServices.findAllByOrderByRoleAsc();
+            } catch (NullPointerException e) {
+                logger.error("An error occur: " + e.getMessage());
+                throw ResourceNotFoundException.ROLE_LIST;
+            }
+            return RoleResponse.listOf(roles);
+        }, EChangeAggregate.ROLE);
     }
 
     /**
@@ -76,18 +105,7 @@ public class RoleController {
     @PostMapping(Link.ROLE_URL)
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<String> createRole(@RequestBody RoleName roleName) {
-        String message = roleServices.processCreateRole(roleName);
-        HttpStatus status = HttpStatus.OK;
-
-        switch (message) {
-            case Message.EXIST_ROLE:
-                status = HttpStatus.BAD_REQUEST;
-                break;
-            case Message.CREATE_SUCCESS:
-                break;
-        }
-
-        return new ResponseEntity<>(message, status);
+        return roleServices.processCreateRole(roleName).toResponse();
     }
 
     /**
@@ -99,31 +117,31 @@ public class RoleController {
     @DeleteMapping(Link.ROLE_ID_PATH_URL)
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<String> deleteRole(@PathVariable Long id) {
-        Boolean isEmployeeExistByRole = roleServices.isEmployeeExistByRole(id);
-        String message = null;
-        HttpStatus status = HttpStatus.OK;
-
-        if (isEmployeeExistByRole) {
-            message = Message.EXIST_EMPLOYEE_BY_ROLE;
-            status = HttpStatus.BAD_REQUEST;
-        } else {
-            message = roleServices.processDeleteRole(id);
+        if (roleServices.isEmployeeExistByRole(id)) {
+            return Outcome.EXIST_EMPLOYEE_BY_ROLE.toResponse();
         }
 
-        return new ResponseEntity<>(message, status);
+        return roleServices.processDeleteRole(id).toResponse();
     }
 
     /**
      * Get role by role id
      *
-     * @param id to get role
+     * @param id     to get role
+     * @param fields comma separated fields to return, all fields if it is not set
      * @return role by role id
      */
     @GetMapping(Link.ROLE_ID_PATH_URL)
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Role> getRoleById(@PathVariable Long id) {
+    public ResponseEntity<?> getRoleById(@PathVariable Long id,
+                                         @RequestParam(required = false) String fields) {
+        if (fields != null) {
+            Map<String, Object> roleFields = roleServices.findRoleFieldsById(id, RoleResponse.FIELDSET.select(fields));
+            return new ResponseEntity<>(roleFields, HttpStatus.OK);
+        }
+
         Role role = roleServices.findRoleById(id);
-        return new ResponseEntity<>(role, HttpStatus.OK);
+        return new ResponseEntity<>(RoleResponse.of(role), HttpStatus.OK);
     }
 
     /**
@@ -138,18 +156,7 @@ public class RoleController {
     public ResponseEntity<String> updateRole(@RequestBody Role roleUpdate,
                                              @PathVariable(name = "id") Long id) {
 
-        String message = roleServices.processUpdateRole(roleUpdate, id);
-        HttpStatus status = HttpStatus.OK;
-
-        switch (message) {
-            case Message.EXIST_ROLE:
-                status = HttpStatus.BAD_REQUEST;
-                break;
-            case Message.UPDATE_SUCCESS:
-                break;
-        }
-
-        return new ResponseEntity<>(message, status);
+        return roleServices.processUpdateRole(roleUpdate, id).toResponse();
     }
 
     /**
@@ -160,10 +167,29 @@ public class RoleController {
      */
     @GetMapping(Link.SEARCH_ROLE_BY_KEYWORD_URL)
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<Role>> searchRoles(@PathVariable String keyword) {
+    public ResponseEntity<List<RoleResponse>> searchRoles(@PathVariable String keyword) {
 
         List<Role> roleList = roleServices.processSearchRoles(keyword);
 
-        return new ResponseEntity<>(roleList, HttpStatus.OK);
+        return new ResponseEntity<>(RoleResponse.listOf(roleList), HttpStatus.OK);
+    }
+
+    /**
+     * Get roles changed after a cursor, so client only syncs the difference.
+     * Rows changed in the last 30 seconds are sent again on next request, upsert them by id
+     *
+     * @param since   last modified time (epoch millisecond) of cursor
+     * @param afterId id of cursor
+     * @param limit   max rows to return
+     * @return changed roles and next cursor
+     */
+    @GetMapping(Link.ROLE_CHANGES_URL)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<DeltaResponse<RoleResponse>> getChangedRoles(
+            @RequestParam(defaultValue = "0") long since,
+            @RequestParam(defaultValue = "0") long afterId,
+            @RequestParam(defaultValue = "500") int limit) {
+        DeltaResponse<Role> deltaResponse = roleServices.findRolesChangedSince(since, afterId, limit);
+        return new ResponseEntity<>(deltaResponse.map(RoleResponse::of), HttpStatus.OK);
     }
 }
@@ -1,20 +1,33 @@
 package com.springreact.backend.controller;
 
+import com.springreact.backend.cache.ResponseBodyCache;
 import com.springreact.backend.constant.Link;
 import com.springreact.backend.constant.Message;
 import com.springreact.backend.dto.request.EmployeeSalary;
+import com.springreact.backend.dto.response.DeltaResponse;
+import com.springreact.backend.dto.response.MessageResponse;
+import com.springreact.backend.dto.response.MultiGetResponse;
+import com.springreact.backend.dto.response.SalaryHistoryResponse;
+import com.springreact.backend.dto.response.SalaryResponse;
+import com.springreact.backend.entity.EChangeAggregate;
 import com.springreact.backend.entity.Salary;
 import com.springreact.backend.exception.ResourceNotFoundException;
+import com.springreact.backend.repository.Fieldset;
 import com.springreact.backend.services.SalaryServices;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.text.ParseException;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 /**
  * SalaryController
@@ -29,6 +42,16 @@ import java.util.List;
  * DATE             AUTHOR              DESCRIPTION
  * -------------------------------------------------
  * 07-06-2021       ThanhBT11           Create
+ * 19-10-2026       ThanhBT11           Add ETag and changed-since delta API
+ * 19-10-2026       ThanhBT11           Return response models instead of entities
+ * 19-10-2026       ThanhBT11           Serve list from response cache
+ * 19-10-2026       ThanhBT11           Add sparse fieldsets
+ * 19-10-2026       ThanhBT11           Add multi-get endpoints
+ * 19-10-2026       ThanhBT11           Add compact salary history
+ * 19-10-2026       ThanhBT11           Add paginated salary history by employee id
+ * 19-10-2026       ThanhBT11           Answer status of service outcome
+ * 19-10-2026       ThanhBT11           Document delta settle window
+ * 19-10-2026       ThanhBT11           Drop stale throws clause
  */
 @CrossOrigin(origins = Link.REACT_URL)
 @RestController
@@ -37,36 +60,57 @@ public class SalaryController {
 
     private final SalaryServices salaryServices;
 
+    private final ResponseBodyCache responseBodyCache;
+
+    private final int maxKeys;
+
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
     /**
-     * SalaryController constructor(SalaryServices)
+     * SalaryController constructor(SalaryServices, ResponseBodyCache, int)
      *
      * @param salaryServices salaryServices
+     * @param responseBodyCache responseBodyCache
+     * @param maxKeys max ids of a multi-get request
      */
-    public SalaryController(SalaryServices salaryServices) {
+    public SalaryController(SalaryServices salaryServices,
+                            ResponseBodyCache responseBodyCache,
+                            @Value("${reactCrud.app.multiGet.maxKeys:100}") int maxKeys) {
         this.salaryServices = salaryServices;
+        this.responseBodyCache = responseBodyCache;
+        this.maxKeys = maxKeys;
     }
 
     /**
      * Get latest salary of all employees
      *
+     * @param fields     comma separated fields to return, all fields if it is not set
+     * @param webRequest request to check If-None-Match and Accept-Encoding header
      * @return list of latest salaries
      */
     @GetMapping(Link.SALARY_URL)
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<EmployeeSalary>> getAllLatestSalaries() {
-        List<EmployeeSalary> employeeSalaryList;
-
-        try {
-            employeeSalaryList = salaryServices
-                    .findAllSalaryOrderByIdDesc();
-        } catch (NullPointerException | ParseException e) {
-            logger.error("An error occur: " + e.getMessage());
-            throw new ResourceNotFoundException(Message.NOT_EXIST_SALARY_LIST);
+    public ResponseEntity<byte[]> getAllLatestSalaries(@RequestParam(required = false) String fields,
+                                                       WebRequest webRequest) {
+        if (fields != null) {
+            Fieldset fieldset = EmployeeSalary.FIELDSET.select(fields);
+            return responseBodyCache.respond(ResponseBodyCache.key(Link.SALARY_URL, fieldset.key()), webRequest,
+                    () -> salaryServices.findLatestSalaryFields(fieldset),
+                    EChangeAggregate.SALARY, EChangeAggregate.EMPLOYEE);
         }
 
-        return new ResponseEntity<>(employeeSalaryList, HttpStatus.OK);
+        return responseBodyCache.respond(ResponseBodyCache.key(Link.SALARY_URL), webRequest, () -> {
+            List<EmployeeSalary> employeeSalaryList;
+
+            try {
+                employeeSalaryList = salaryServices
+                        .findAllSalaryOrderByIdDesc();
+            } catch (NullPointerException | ParseException e) {
+                logger.error("An error occur: " + e.getMessage());
+                throw ResourceNotFoundException.SALARY_LIST;
+            }
+            return employeeSalaryList;
+        }, EChangeAggregate.SALARY, EChangeAggregate.EMPLOYEE);
     }
 
     /**
@@ -83,9 +127,7 @@ public class SalaryController {
                                                   @PathVariable String email)
             throws ParseException {
 
-        String message = salaryServices.processCreateNewSalary(salary, email);
-
-        return new ResponseEntity<>(message, HttpStatus.OK);
+        return salaryServices.processCreateNewSalary(salary, email).toResponse();
     }
 
     /**
@@ -114,14 +156,21 @@ public class SalaryController {
     /**
      * Get Salary by id
      *
-     * @param id to get salary
+     * @param id     to get salary
+     * @param fields comma separated fields to return, all fields if it is not set
      * @return salary by salary id
      */
     @GetMapping(Link.SALARY_ID_PATH_URL)
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Salary> getSalaryById(@PathVariable Long id) {
+    public ResponseEntity<?> getSalaryById(@PathVariable Long id,
+                                           @RequestParam(required = false) String fields) {
+        if (fields != null) {
+            Map<String, Object> salaryFields = salaryServices.findSalaryFieldsById(id, SalaryResponse.FIELDSET.select(fields));
+            return new ResponseEntity<>(salaryFields, HttpStatus.OK);
+        }
+
         Salary salary = salaryServices.findSalaryById(id);
-        return new ResponseEntity<>(salary, HttpStatus.OK);
+        return new ResponseEntity<>(SalaryResponse.of(salary), HttpStatus.OK);
     }
 
     /**
@@ -131,9 +180,9 @@ public class SalaryController {
      * @return salary list base on email
      */
     @GetMapping(Link.SALARY_BY_EMPLOYEE_EMAIL_PATH_URL)
-    public ResponseEntity<List<Salary>> finAllSalaryByEmail(@PathVariable String email) {
+    public ResponseEntity<List<SalaryResponse>> finAllSalaryByEmail(@PathVariable String email) {
         List<Salary> salaryList = salaryServices.findAllSalaryByEmail(email);
-        return new ResponseEntity<>(salaryList, HttpStatus.OK);
+        return new ResponseEntity<>(SalaryResponse.listOf(salaryList), HttpStatus.OK);
     }
 
     /**
@@ -145,12 +194,12 @@ public class SalaryController {
      */
     @GetMapping(Link.SALARY_EMPLOYEE_EMAIL_CREATED_DATE_PATH_URL)
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Salary> getSalaryByEmailAndCreatedDate(
+    public ResponseEntity<SalaryResponse> getSalaryByEmailAndCreatedDate(
             @PathVariable String email,
             @PathVariable String createdDate) {
         Salary salary = salaryServices.findByEmployee_EmailAndCreatedDate(
                 email, createdDate);
-        return new ResponseEntity<>(salary, HttpStatus.OK);
+        return new ResponseEntity<>(SalaryResponse.of(salary), HttpStatus.OK);
     }
 
     /**
@@ -160,31 +209,18 @@ public class SalaryController {
      * @param email          to update salary
      * @param createdDate    to update salary
      * @return message if update success or not
-     * @throws ParseException throw parse exception
      */
     @PutMapping(Link.SALARY_EMAIL_CREATED_DATE_PATH_URL)
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<String> updateSalary(
             @RequestBody EmployeeSalary employeeSalary,
             @PathVariable(name = "email") String email,
-            @PathVariable(name = "createdDate") String createdDate)
-            throws ParseException {
-        String message = salaryServices.processUpdateSalary(
+            @PathVariable(name = "createdDate") String createdDate) {
+        return salaryServices.processUpdateSalary(
                 employeeSalary,
                 email,
                 createdDate
-        );
-        HttpStatus status = HttpStatus.OK;
-
-        switch (message) {
-            case Message.VALID_CREATED_DATE_END_DATE:
-                status = HttpStatus.BAD_REQUEST;
-                break;
-            case Message.UPDATE_SUCCESS:
-                break;
-        }
-
-        return new ResponseEntity<>(message, status);
+        ).toResponse();
     }
 
     /**
@@ -199,20 +235,9 @@ public class SalaryController {
     public ResponseEntity<String> deleteSalary(@PathVariable String email,
                                                @PathVariable String createdDate) {
 
-        String message = salaryServices.processDeleteSalary(
+        return salaryServices.processDeleteSalary(
                 email, createdDate
-        );
-        HttpStatus status = HttpStatus.OK;
-
-        switch (message) {
-            case Message.DELETE_SALARY_FAIL:
-                status = HttpStatus.BAD_REQUEST;
-                break;
-            case Message.DELETE_SUCCESS:
-                break;
-        }
-
-        return new ResponseEntity<>(message, status);
+        ).toResponse();
     }
 
     /**
@@ -228,4 +253,82 @@ public class SalaryController {
                 salaryServices.findAllSalariesHistoryByEmployeeId(id);
         return new ResponseEntity<>(employeeSalaryList, HttpStatus.OK);
     }
+
+    /**
+     * Get salaries changed after a cursor, so client only syncs the difference.
+     * Rows changed in the last 30 seconds are sent again on next request, upsert them by id
+     *
+     * @param since   last modified time (epoch millisecond) of cursor
+     * @param afterId id of cursor
+     * @param limit   max rows to return
+     * @return changed salaries and next cursor
+     */
+    @GetMapping(Link.SALARY_CHANGES_URL)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<DeltaResponse<SalaryResponse>> getChangedSalaries(
+            @RequestParam(defaultValue = "0") long since,
+            @RequestParam(defaultValue = "0") long afterId,
+            @RequestParam(defaultValue = "500") int limit) {
+        DeltaResponse<Salary> deltaResponse = salaryServices.findSalariesChangedSince(since, afterId, limit);
+        return new ResponseEntity<>(deltaResponse.map(SalaryResponse::of), HttpStatus.OK);
+    }
+
+    /**
+     * Get salary history of an employee, employee is written once and salaries as compact rows
+     *
+     * @param email to find employee
+     * @return employee header and salary intervals order by created date
+     */
+    @GetMapping(Link.SALARY_HISTORY_BY_EMPLOYEE_EMAIL_PATH_URL)
+    public ResponseEntity<SalaryHistoryResponse> getSalaryHistoryByEmail(@PathVariable String email) {
+        return new ResponseEntity<>(salaryServices.findSalaryHistoryByEmail(email), HttpStatus.OK);
+    }
+
+    /**
+     * Get one page of salary history of an employee by employee id, newest first.
+     * Next page is requested with beforeDate and beforeId of the returned cursor
+     *
+     * @param id         id of employee
+     * @param from       min created date, optional
+     * @param to         max created date, optional
+     * @param beforeDate created date cursor of previous page, optional
+     * @param beforeId   id cursor of previous page, optional
+     * @param limit      max intervals of the page
+     * @return employee header, salary intervals and cursor of next page
+     */
+    @GetMapping(Link.SALARY_HISTORY_BY_EMPLOYEE_ID_PATH_URL)
+    public ResponseEntity<SalaryHistoryResponse> getSalaryHistoryPageByEmployeeId(
+            @PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate beforeDate,
+            @RequestParam(required = false) Long beforeId,
+            @RequestParam(defaultValue = "50") int limit) {
+        //ISO date is yyyy-MM-dd, the same format as created date column
+        SalaryHistoryResponse history = salaryServices.findSalaryHistoryPage(
+                id,
+                from == null ? null : from.toString(),
+                to == null ? null : to.toString(),
+                beforeDate == null ? null : beforeDate.toString(),
+                beforeId,
+                limit);
+        return new ResponseEntity<>(history, HttpStatus.OK);
+    }
+
+    /**
+     * Get salaries by ids with one query
+     *
+     * @param ids comma separated salary ids
+     * @return found salaries in request order and ids which are not found
+     */
+    @GetMapping(Link.SALARY_BY_IDS_URL)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> getSalariesByIds(@RequestParam List<Long> ids) {
+        if (ids.size() > maxKeys) {
+            return new ResponseEntity<>(new MessageResponse(Message.TOO_MANY_KEYS + maxKeys), HttpStatus.BAD_REQUEST);
+        }
+
+        MultiGetResponse<Long, Salary> multiGetResponse = salaryServices.findSalariesByIds(ids);
+        return new ResponseEntity<>(multiGetResponse.map(SalaryResponse::of), HttpStatus.OK);
+    }
 }
@@ -0,0 +1,82 @@
+package com.springreact.backend.controller;
+
+import com.springreact.backend.constant.Link;
+import com.springreact.backend.dto.request.EmployeeRoleAndDepartment;
+import com.springreact.backend.dto.request.EmployeeSalary;
+import com.springreact.backend.dto.response.EmployeeResponse;
+import com.springreact.backend.services.StreamServices;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+/**
+ * StreamController
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ * 19-10-2026       ThanhBT11           Return response models instead of entities
+ */
+@CrossOrigin(origins = Link.REACT_URL)
+@RestController
+@RequestMapping(Link.BASE_URL)
+public class StreamController {
+
+    private final StreamServices streamServices;
+
+    /**
+     * StreamController constructor(StreamServices)
+     *
+     * @param streamServices streamServices
+     */
+    @Autowired
+    public StreamController(StreamServices streamServices) {
+        this.streamServices = streamServices;
+    }
+
+    /**
+     * Stream all employees as Server-Sent Events
+     *
+     * @return employee stream
+     */
+    @GetMapping(value = Link.STREAM_EMPLOYEE_URL, produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public Flux<EmployeeResponse> streamEmployees() {
+        return streamServices.streamEmployees()
+                .map(EmployeeResponse::summaryOf);
+    }
+
+    /**
+     * Stream role and department of all employees as Server-Sent Events
+     *
+     * @return role and department stream
+     */
+    @GetMapping(value = Link.STREAM_EMPLOYEE_ROLE_DEPARTMENT_URL, produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public Flux<EmployeeRoleAndDepartment> streamEmployeeRoleAndDepartment() {
+        return streamServices.streamEmployeeRoleAndDepartment();
+    }
+
+    /**
+     * Stream latest salary of all employees as Server-Sent Events
+     *
+     * @return latest salary stream
+     */
+    @GetMapping(value = Link.STREAM_SALARY_URL, produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public Flux<EmployeeSalary> streamLatestSalaries() {
+        return streamServices.streamLatestSalaries();
+    }
+}
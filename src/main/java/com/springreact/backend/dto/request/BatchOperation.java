@@ -0,0 +1,134 @@
+package com.springreact.backend.dto.request;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.Map;
+
+/**
+ * BatchOperation
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ */
+public class BatchOperation {
+
+    private String id;
+    private String method;
+    private String path;
+    private Map<String, String> params;
+    private JsonNode body;
+
+    /**
+     * Default constructor
+     */
+    public BatchOperation() {
+    }
+
+    /**
+     * Get id
+     *
+     * @return client id of the operation, echoed in its result
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Set id
+     *
+     * @param id client id of the operation
+     */
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    /**
+     * Get method
+     *
+     * @return http method of the endpoint
+     */
+    public String getMethod() {
+        return method;
+    }
+
+    /**
+     * Set method
+     *
+     * @param method http method of the endpoint
+     */
+    public void setMethod(String method) {
+        this.method = method;
+    }
+
+    /**
+     * Get path
+     *
+     * @return path of the endpoint under /api/v1, eg /employees/1
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Set path
+     *
+     * @param path path of the endpoint under /api/v1
+     */
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    /**
+     * Get params
+     *
+     * @return request parameters of the endpoint
+     */
+    public Map<String, String> getParams() {
+        return params;
+    }
+
+    /**
+     * Set params
+     *
+     * @param params request parameters of the endpoint
+     */
+    public void setParams(Map<String, String> params) {
+        this.params = params;
+    }
+
+    /**
+     * Get request parameter
+     *
+     * @param name parameter name
+     * @return parameter value, null if it is not set
+     */
+    public String param(String name) {
+        return params == null ? null : params.get(name);
+    }
+
+    /**
+     * Get body
+     *
+     * @return request body of the endpoint
+     */
+    public JsonNode getBody() {
+        return body;
+    }
+
+    /**
+     * Set body
+     *
+     * @param body request body of the endpoint
+     */
+    public void setBody(JsonNode body) {
+        this.body = body;
+    }
+}
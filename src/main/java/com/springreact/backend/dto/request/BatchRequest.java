@@ -0,0 +1,65 @@
+package com.springreact.backend.dto.request;
+
+import java.util.List;
+
+/**
+ * BatchRequest
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ */
+public class BatchRequest {
+
+    private boolean transactional;
+    private List<BatchOperation> operations;
+
+    /**
+     * Default constructor
+     */
+    public BatchRequest() {
+    }
+
+    /**
+     * Get transactional
+     *
+     * @return true if all operations run in one transaction
+     */
+    public boolean isTransactional() {
+        return transactional;
+    }
+
+    /**
+     * Set transactional
+     *
+     * @param transactional true if all operations run in one transaction
+     */
+    public void setTransactional(boolean transactional) {
+        this.transactional = transactional;
+    }
+
+    /**
+     * Get operations
+     *
+     * @return operations in execution order
+     */
+    public List<BatchOperation> getOperations() {
+        return operations;
+    }
+
+    /**
+     * Set operations
+     *
+     * @param operations operations in execution order
+     */
+    public void setOperations(List<BatchOperation> operations) {
+        this.operations = operations;
+    }
+}
@@ -1,5 +1,7 @@
 package com.springreact.backend.dto.request;
 
+import com.springreact.backend.repository.Fieldset;
+
 /**
  * EmployeeSalary
  * <p>
@@ -13,9 +15,20 @@ package com.springreact.backend.dto.request;
  * DATE             AUTHOR              DESCRIPTION
  * -------------------------------------------------
  * 07-06-2021       ThanhBT11           Create
+ * 19-10-2026       ThanhBT11           Add sparse fieldsets
  */
 public class EmployeeSalary {
 
+    /**
+     * Fields client can select with ?fields=, output field name to entity attribute path
+     */
+    public final static Fieldset FIELDSET = Fieldset.of(
+            "employee", "employee.fullName",
+            "email", "employee.email",
+            "salary", "salary",
+            "createdDate", "createdDate",
+            "endDate", "endDate");
+
     private String employee;
 
     private String email;
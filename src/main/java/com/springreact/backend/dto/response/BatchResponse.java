@@ -0,0 +1,52 @@
+package com.springreact.backend.dto.response;
+
+import java.util.List;
+
+/**
+ * BatchResponse
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ */
+public final class BatchResponse {
+
+    private final boolean rolledBack;
+    private final List<BatchResult> results;
+
+    /**
+     * BatchResponse constructor(boolean, List<BatchResult>)
+     *
+     * @param rolledBack true if a transactional batch failed and none of its writes is kept
+     * @param results    result of each operation, in request order
+     */
+    public BatchResponse(boolean rolledBack, List<BatchResult> results) {
+        this.rolledBack = rolledBack;
+        this.results = results;
+    }
+
+    /**
+     * Get rolledBack
+     *
+     * @return true if a transactional batch failed and none of its writes is kept
+     */
+    public boolean isRolledBack() {
+        return rolledBack;
+    }
+
+    /**
+     * Get results
+     *
+     * @return result of each operation, in request order
+     */
+    public List<BatchResult> getResults() {
+        return results;
+    }
+}
@@ -0,0 +1,62 @@
+package com.springreact.backend.dto.response;
+
+/**
+ * BatchResult
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ */
+public final class BatchResult {
+
+    private final String id;
+    private final int status;
+    private final Object body;
+
+    /**
+     * BatchResult constructor(String, int, Object)
+     *
+     * @param id     client id of the operation
+     * @param status http status the endpoint answered
+     * @param body   body the endpoint answered
+     */
+    public BatchResult(String id, int status, Object body) {
+        this.id = id;
+        this.status = status;
+        this.body = body;
+    }
+
+    /**
+     * Get id
+     *
+     * @return client id of the operation
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Get status
+     *
+     * @return http status the endpoint answered
+     */
+    public int getStatus() {
+        return status;
+    }
+
+    /**
+     * Get body
+     *
+     * @return body the endpoint answered
+     */
+    public Object getBody() {
+        return body;
+    }
+}
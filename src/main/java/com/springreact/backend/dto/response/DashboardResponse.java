@@ -0,0 +1,61 @@
+package com.springreact.backend.dto.response;
+
+import java.util.Map;
+
+/**
+ * DashboardResponse
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ */
+public class DashboardResponse {
+
+    private final Map<String, Object> sections;
+    private final Map<String, String> unavailable;
+
+    /**
+     * DashboardResponse constructor(Map<String, Object>, Map<String, String>)
+     *
+     * @param sections    data of loaded sections by section name
+     * @param unavailable reason of sections which are not loaded by section name
+     */
+    public DashboardResponse(Map<String, Object> sections, Map<String, String> unavailable) {
+        this.sections = sections;
+        this.unavailable = unavailable;
+    }
+
+    /**
+     * Get sections
+     *
+     * @return data of loaded sections by section name
+     */
+    public Map<String, Object> getSections() {
+        return sections;
+    }
+
+    /**
+     * Get unavailable
+     *
+     * @return reason of sections which are not loaded by section name
+     */
+    public Map<String, String> getUnavailable() {
+        return unavailable;
+    }
+
+    /**
+     * Check some sections are missing
+     *
+     * @return true if at least one section is not loaded
+     */
+    public boolean isPartial() {
+        return !unavailable.isEmpty();
+    }
+}
@@ -0,0 +1,156 @@
+package com.springreact.backend.dto.response;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * DeltaResponse
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ * 19-10-2026       ThanhBT11           Add map
+ * 19-10-2026       ThanhBT11           Keep cursor behind settle window
+ * 19-10-2026       ThanhBT11           Correct settle window rationale
+ */
+public class DeltaResponse<T> {
+
+    public final static int MAX_LIMIT = 1000;
+
+    /**
+     * Rows modified in this window are sent but the cursor does not pass them yet.
+     * Last modified is stored in milliseconds (DATETIME(3)), but it is taken from the clock
+     * of the application instance at flush, not at commit. Instances may disagree by some
+     * seconds, and a transaction may commit seconds after its flush, so a row can become
+     * visible behind a cursor. 30 seconds covers clock skew plus commit lag of a normal
+     * transaction. Such rows are sent again on next request, clients upsert by id.
+     */
+    public final static long SETTLE_WINDOW_MS = 30_000L;
+
+    private final List<T> items;
+    private final long nextSince;
+    private final long nextAfterId;
+    private final boolean hasMore;
+
+    /**
+     * DeltaResponse constructor(List<T>, long, long, boolean)
+     *
+     * @param items       rows changed after the cursor, inactive rows are soft deleted
+     * @param nextSince   last modified time (epoch millisecond) to send in next request
+     * @param nextAfterId id to send in next request
+     * @param hasMore     true if there are more changed rows
+     */
+    public DeltaResponse(List<T> items, long nextSince, long nextAfterId, boolean hasMore) {
+        this.items = items;
+        this.nextSince = nextSince;
+        this.nextAfterId = nextAfterId;
+        this.hasMore = hasMore;
+    }
+
+    /**
+     * Keep page size of delta request between 1 and MAX_LIMIT
+     *
+     * @param limit requested page size
+     * @return bounded page size
+     */
+    public static int boundedLimit(int limit) {
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+
+    /**
+     * Build delta response, cursor of next request is the last settled row of this page
+     *
+     * @param items        rows changed after the cursor, order by (lastModified, id)
+     * @param limit        max rows requested
+     * @param since        last modified time of current cursor
+     * @param afterId      id of current cursor
+     * @param lastModified get last modified time of a row
+     * @param id           get id of a row
+     * @param <T>          row type
+     * @return delta response
+     */
+    public static <T> DeltaResponse<T> of(List<T> items,
+                                          int limit,
+                                          long since,
+                                          long afterId,
+                                          Function<T, Date> lastModified,
+                                          Function<T, Long> id) {
+        long settledBefore = System.currentTimeMillis() - SETTLE_WINDOW_MS;
+        long nextSince = since;
+        long nextAfterId = afterId;
+        boolean settled = true;
+
+        for (T item : items) {
+            long modifiedAt = lastModified.apply(item).getTime();
+            if (modifiedAt > settledBefore) {
+                settled = false;
+                break;
+            }
+            nextSince = modifiedAt;
+            nextAfterId = id.apply(item);
+        }
+
+        //Only settled rows are left behind the cursor, the rest are read again next time
+        return new DeltaResponse<>(items, nextSince, nextAfterId, settled && items.size() >= limit);
+    }
+
+    /**
+     * Convert items of this page, cursor is kept
+     *
+     * @param mapper convert an item
+     * @param <R>    converted item type
+     * @return delta response of converted items
+     */
+    public <R> DeltaResponse<R> map(Function<T, R> mapper) {
+        List<R> mappedItems = new ArrayList<>(items.size());
+        for (T item : items) {
+            mappedItems.add(mapper.apply(item));
+        }
+        return new DeltaResponse<>(mappedItems, nextSince, nextAfterId, hasMore);
+    }
+
+    /**
+     * Get items
+     *
+     * @return rows changed after the cursor
+     */
+    public List<T> getItems() {
+        return items;
+    }
+
+    /**
+     * Get next since
+     *
+     * @return last modified time to send in next request
+     */
+    public long getNextSince() {
+        return nextSince;
+    }
+
+    /**
+     * Get next after id
+     *
+     * @return id to send in next request
+     */
+    public long getNextAfterId() {
+        return nextAfterId;
+    }
+
+    /**
+     * Check there are more changed rows
+     *
+     * @return true if client should request again right away
+     */
+    public boolean isHasMore() {
+        return hasMore;
+    }
+}
@@ -0,0 +1,131 @@
+package com.springreact.backend.dto.response;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.springreact.backend.dto.response.serializer.DepartmentResponseSerializer;
+import com.springreact.backend.entity.Department;
+import com.springreact.backend.repository.Fieldset;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DepartmentResponse
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ * 19-10-2026       ThanhBT11           Add sparse fieldsets
+ */
+@JsonSerialize(using = DepartmentResponseSerializer.class)
+public class DepartmentResponse {
+
+    /**
+     * Fields client can select with ?fields=, output field name to entity attribute path
+     */
+    public final static Fieldset FIELDSET = Fieldset.of(
+            "id", "id",
+            "department", "department",
+            "fullName", "fullName",
+            "createdDate", "createdDate",
+            "active", "active");
+
+    private final Long id;
+    private final String department;
+    private final String fullName;
+    private final String createdDate;
+    private final boolean active;
+
+    /**
+     * DepartmentResponse constructor(Long, String, String, String, boolean)
+     *
+     * @param id          department id
+     * @param department  department name
+     * @param fullName    department full name
+     * @param createdDate created date of department
+     * @param active      false if department is soft deleted
+     */
+    public DepartmentResponse(Long id, String department, String fullName, String createdDate, boolean active) {
+        this.id = id;
+        this.department = department;
+        this.fullName = fullName;
+        this.createdDate = createdDate;
+        this.active = active;
+    }
+
+    /**
+     * Build response from department entity
+     *
+     * @param department department entity
+     * @return department response
+     */
+    public static DepartmentResponse of(Department department) {
+        return new DepartmentResponse(department.getId(), department.getDepartment(),
+                department.getFullName(), department.getCreatedDate(), department.isActive());
+    }
+
+    /**
+     * Build response list from department entities
+     *
+     * @param departments department entities
+     * @return department response list
+     */
+    public static List<DepartmentResponse> listOf(List<Department> departments) {
+        List<DepartmentResponse> departmentResponses = new ArrayList<>(departments.size());
+        for (Department department : departments) {
+            departmentResponses.add(of(department));
+        }
+        return departmentResponses;
+    }
+
+    /**
+     * Get department id
+     *
+     * @return department id
+     */
+    public Long getId() {
+        return id;
+    }
+
+    /**
+     * Get department name
+     *
+     * @return department name
+     */
+    public String getDepartment() {
+        return department;
+    }
+
+    /**
+     * Get department full name
+     *
+     * @return department full name
+     */
+    public String getFullName() {
+        return fullName;
+    }
+
+    /**
+     * Get created date
+     *
+     * @return created date of department
+     */
+    public String getCreatedDate() {
+        return createdDate;
+    }
+
+    /**
+     * Get active
+     *
+     * @return false if department is soft deleted
+     */
+    public boolean isActive() {
+        return active;
+    }
+}
@@ -0,0 +1,226 @@
+package com.springreact.backend.dto.response;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.springreact.backend.dto.response.serializer.EmployeeResponseSerializer;
+import com.springreact.backend.entity.Department;
+import com.springreact.backend.entity.Employee;
+import com.springreact.backend.entity.Role;
+import com.springreact.backend.repository.Fieldset;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * EmployeeResponse
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ * 19-10-2026       ThanhBT11           Add sparse fieldsets
+ */
+@JsonSerialize(using = EmployeeResponseSerializer.class)
+public class EmployeeResponse {
+
+    /**
+     * Fields client can select with ?fields=, output field name to entity attribute path
+     */
+    public final static Fieldset FIELDSET = Fieldset.of(
+            "id", "id",
+            "fullName", "fullName",
+            "email", "email",
+            "phone", "phone",
+            "address", "address",
+            "gender", "gender",
+            "image", "image",
+            "active", "active",
+            "role.id", "role.id",
+            "role.role", "role.role",
+            "department.id", "department.id",
+            "department.department", "department.department");
+
+    private final long id;
+    private final String fullName;
+    private final String email;
+    private final String phone;
+    private final String address;
+    private final String gender;
+    private final String image;
+    private final boolean active;
+    private final Long roleId;
+    private final String role;
+    private final Long departmentId;
+    private final String department;
+
+    /**
+     * EmployeeResponse constructor(Employee, String)
+     *
+     * @param employee employee entity
+     * @param image    avatar of employee, null to leave it out
+     */
+    private EmployeeResponse(Employee employee, String image) {
+        Role employeeRole = employee.getRole();
+        Department employeeDepartment = employee.getDepartment();
+
+        this.id = employee.getId();
+        this.fullName = employee.getFullName();
+        this.email = employee.getEmail();
+        this.phone = employee.getPhone();
+        this.address = employee.getAddress();
+        this.gender = employee.getGender();
+        this.image = image;
+        this.active = employee.isActive();
+        this.roleId = employeeRole == null ? null : employeeRole.getId();
+        this.role = employeeRole == null ? null : employeeRole.getRole();
+        this.departmentId = employeeDepartment == null ? null : employeeDepartment.getId();
+        this.department = employeeDepartment == null ? null : employeeDepartment.getDepartment();
+    }
+
+    /**
+     * Build response with avatar from employee entity
+     *
+     * @param employee employee entity
+     * @return employee response
+     */
+    public static EmployeeResponse of(Employee employee) {
+        return new EmployeeResponse(employee, employee.getImage());
+    }
+
+    /**
+     * Build response without avatar, avatar is loaded by its own API
+     *
+     * @param employee employee entity
+     * @return employee response
+     */
+    public static EmployeeResponse summaryOf(Employee employee) {
+        return new EmployeeResponse(employee, null);
+    }
+
+    /**
+     * Build response list without avatar from employee entities
+     *
+     * @param employees employee entities
+     * @return employee response list
+     */
+    public static List<EmployeeResponse> listOf(List<Employee> employees) {
+        List<EmployeeResponse> employeeResponses = new ArrayList<>(employees.size());
+        for (Employee employee : employees) {
+            employeeResponses.add(summaryOf(employee));
+        }
+        return employeeResponses;
+    }
+
+    /**
+     * Get employee id
+     *
+     * @return employee id
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Get employee full name
+     *
+     * @return employee full name
+     */
+    public String getFullName() {
+        return fullName;
+    }
+
+    /**
+     * Get employee email
+     *
+     * @return employee email
+     */
+    public String getEmail() {
+        return email;
+    }
+
+    /**
+     * Get employee phone number
+     *
+     * @return phone number
+     */
+    public String getPhone() {
+        return phone;
+    }
+
+    /**
+     * Get employee address
+     *
+     * @return employee address
+     */
+    public String getAddress() {
+        return address;
+    }
+
+    /**
+     * Get employee gender
+     *
+     * @return employee gender
+     */
+    public String getGender() {
+        return gender;
+    }
+
+    /**
+     * Get employee avatar
+     *
+     * @return avatar of employee, null if it is left out
+     */
+    public String getImage() {
+        return image;
+    }
+
+    /**
+     * Get active
+     *
+     * @return false if employee is soft deleted
+     */
+    public boolean isActive() {
+        return active;
+    }
+
+    /**
+     * Get role id
+     *
+     * @return role id, null if employee has no role
+     */
+    public Long getRoleId() {
+        return roleId;
+    }
+
+    /**
+     * Get role name
+     *
+     * @return role name
+     */
+    public String getRole() {
+        return role;
+    }
+
+    /**
+     * Get department id
+     *
+     * @return department id, null if employee has no department
+     */
+    public Long getDepartmentId() {
+        return departmentId;
+    }
+
+    /**
+     * Get department name
+     *
+     * @return department name
+     */
+    public String getDepartment() {
+        return department;
+    }
+}
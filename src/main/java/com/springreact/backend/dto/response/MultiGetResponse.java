@@ -0,0 +1,144 @@
+package com.springreact.backend.dto.response;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * MultiGetResponse
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ * 19-10-2026       ThanhBT11           Match normalized keys, empty response
+ */
+public class MultiGetResponse<K, T> {
+
+    private final List<T> items;
+    private final List<K> missing;
+
+    /**
+     * MultiGetResponse constructor(List<T>, List<K>)
+     *
+     * @param items   found rows in request order
+     * @param missing requested keys which are not found, in request order
+     */
+    public MultiGetResponse(List<T> items, List<K> missing) {
+        this.items = items;
+        this.missing = missing;
+    }
+
+    /**
+     * Response of a request without keys, no query is needed
+     *
+     * @param <K> key type
+     * @param <T> row type
+     * @return empty multi-get response
+     */
+    public static <K, T> MultiGetResponse<K, T> empty() {
+        return new MultiGetResponse<>(Collections.emptyList(), Collections.emptyList());
+    }
+
+    /**
+     * Put rows of one IN query back into request order, duplicated keys are answered once
+     *
+     * @param keys  requested keys in request order
+     * @param found rows returned by the query, any order
+     * @param keyOf get key of a row
+     * @param <K>   key type
+     * @param <T>   row type
+     * @return multi-get response
+     */
+    public static <K, T> MultiGetResponse<K, T> of(Collection<K> keys,
+                                                   List<T> found,
+                                                   Function<T, K> keyOf) {
+        return of(keys, found, keyOf, Function.identity());
+    }
+
+    /**
+     * Put rows of one IN query back into request order, keys are matched after normalizing,
+     * e.g. lower case for columns the database compares case-insensitively.
+     * Keys which are the same after normalizing are answered once, missing keys are reported as requested
+     *
+     * @param keys      requested keys in request order
+     * @param found     rows returned by the query, any order
+     * @param keyOf     get key of a row
+     * @param normalize normalize a key the way the database compares it
+     * @param <K>       key type
+     * @param <T>       row type
+     * @return multi-get response
+     */
+    public static <K, T> MultiGetResponse<K, T> of(Collection<K> keys,
+                                                   List<T> found,
+                                                   Function<T, K> keyOf,
+                                                   Function<K, K> normalize) {
+        Map<K, T> rowByKey = new HashMap<>(found.size() * 2);
+        for (T row : found) {
+            rowByKey.put(normalize.apply(keyOf.apply(row)), row);
+        }
+
+        List<T> items = new ArrayList<>(found.size());
+        List<K> missing = new ArrayList<>();
+        Set<K> answered = new HashSet<>(keys.size() * 2);
+        for (K key : keys) {
+            K normalizedKey = normalize.apply(key);
+            if (!answered.add(normalizedKey)) {
+                continue;
+            }
+
+            T row = rowByKey.get(normalizedKey);
+            if (row == null) {
+                missing.add(key);
+            } else {
+                items.add(row);
+            }
+        }
+        return new MultiGetResponse<>(items, missing);
+    }
+
+    /**
+     * Convert found rows, order and missing keys are kept
+     *
+     * @param mapper convert a row
+     * @param <R>    converted row type
+     * @return multi-get response of converted rows
+     */
+    public <R> MultiGetResponse<K, R> map(Function<T, R> mapper) {
+        List<R> mappedItems = new ArrayList<>(items.size());
+        for (T item : items) {
+            mappedItems.add(mapper.apply(item));
+        }
+        return new MultiGetResponse<>(mappedItems, missing);
+    }
+
+    /**
+     * Get items
+     *
+     * @return found rows in request order
+     */
+    public List<T> getItems() {
+        return items;
+    }
+
+    /**
+     * Get missing
+     *
+     * @return requested keys which are not found
+     */
+    public List<K> getMissing() {
+        return missing;
+    }
+}
@@ -0,0 +1,105 @@
+package com.springreact.backend.dto.response;
+
+import com.springreact.backend.constant.Message;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Outcome
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ */
+public final class Outcome {
+
+    /**
+     * Success
+     */
+    public final static Outcome CREATE_SUCCESS = new Outcome(HttpStatus.CREATED, Message.CREATE_SUCCESS);
+    public final static Outcome UPDATE_SUCCESS = new Outcome(HttpStatus.OK, Message.UPDATE_SUCCESS);
+    public final static Outcome DELETE_SUCCESS = new Outcome(HttpStatus.OK, Message.DELETE_SUCCESS);
+    public final static Outcome UPDATE_ROLE_DEPARTMENT_SUCCESS =
+            new Outcome(HttpStatus.OK, Message.UPDATE_ROLE_DEPARTMENT_SUCCESS);
+
+    /**
+     * Conflict with current data, the request is valid but cannot be applied now
+     */
+    public final static Outcome EXIST_EMAIL = new Outcome(HttpStatus.CONFLICT, Message.EXIST_EMAIL);
+    public final static Outcome EXIST_PHONE_NUMBER = new Outcome(HttpStatus.CONFLICT, Message.EXIST_PHONE_NUMBER);
+    public final static Outcome EXIST_ROLE = new Outcome(HttpStatus.CONFLICT, Message.EXIST_ROLE);
+    public final static Outcome EXIST_DEPARTMENT = new Outcome(HttpStatus.CONFLICT, Message.EXIST_DEPARTMENT);
+    public final static Outcome EXIST_DEPARTMENT_NAME =
+            new Outcome(HttpStatus.CONFLICT, Message.EXIST_DEPARTMENT_NAME);
+    public final static Outcome EXIST_EMPLOYEE_BY_ROLE =
+            new Outcome(HttpStatus.CONFLICT, Message.EXIST_EMPLOYEE_BY_ROLE);
+    public final static Outcome EXIST_EMPLOYEE_BY_DEPARTMENT =
+            new Outcome(HttpStatus.CONFLICT, Message.EXIST_EMPLOYEE_BY_DEPARTMENT);
+    public final static Outcome DELETE_SALARY_FAIL = new Outcome(HttpStatus.CONFLICT, Message.DELETE_SALARY_FAIL);
+
+    /**
+     * Invalid request
+     */
+    public final static Outcome NOT_EXIST_ROLE = new Outcome(HttpStatus.BAD_REQUEST, Message.NOT_EXIST_ROLE);
+    public final static Outcome NOT_EXIST_DEPARTMENT =
+            new Outcome(HttpStatus.BAD_REQUEST, Message.NOT_EXIST_DEPARTMENT);
+    public final static Outcome VALID_CREATED_DATE_END_DATE =
+            new Outcome(HttpStatus.BAD_REQUEST, Message.VALID_CREATED_DATE_END_DATE);
+
+    private final HttpStatus status;
+    private final String message;
+
+    /**
+     * Outcome constructor(HttpStatus, String)
+     *
+     * @param status  response status
+     * @param message response message
+     */
+    private Outcome(HttpStatus status, String message) {
+        this.status = status;
+        this.message = message;
+    }
+
+    /**
+     * Get response status
+     *
+     * @return response status
+     */
+    public HttpStatus getStatus() {
+        return status;
+    }
+
+    /**
+     * Get response message
+     *
+     * @return response message
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * Check if the write was applied
+     *
+     * @return true if status is 2xx
+     */
+    public boolean isSuccess() {
+        return status.is2xxSuccessful();
+    }
+
+    /**
+     * Response of the outcome, message as body
+     *
+     * @return response entity
+     */
+    public ResponseEntity<String> toResponse() {
+        return new ResponseEntity<>(message, status);
+    }
+}
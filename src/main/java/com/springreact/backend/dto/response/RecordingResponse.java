@@ -0,0 +1,89 @@
+package com.springreact.backend.dto.response;
+
+import jdk.jfr.Recording;
+
+/**
+ * RecordingResponse
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ */
+public class RecordingResponse {
+
+    private final long id;
+    private final String name;
+    private final String state;
+    private final String startTime;
+
+    /**
+     * RecordingResponse constructor(long, String, String, String)
+     *
+     * @param id        recording id
+     * @param name      recording name
+     * @param state     NEW, RUNNING, STOPPED or CLOSED
+     * @param startTime ISO start time, null if not started
+     */
+    private RecordingResponse(long id, String name, String state, String startTime) {
+        this.id = id;
+        this.name = name;
+        this.state = state;
+        this.startTime = startTime;
+    }
+
+    /**
+     * Convert flight recording to response
+     *
+     * @param recording flight recording
+     * @return recording response
+     */
+    public static RecordingResponse of(Recording recording) {
+        return new RecordingResponse(recording.getId(),
+                recording.getName(),
+                recording.getState().name(),
+                recording.getStartTime() == null ? null : recording.getStartTime().toString());
+    }
+
+    /**
+     * Get id
+     *
+     * @return recording id
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Get name
+     *
+     * @return recording name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Get state
+     *
+     * @return NEW, RUNNING, STOPPED or CLOSED
+     */
+    public String getState() {
+        return state;
+    }
+
+    /**
+     * Get startTime
+     *
+     * @return ISO start time, null if not started
+     */
+    public String getStartTime() {
+        return startTime;
+    }
+}
@@ -0,0 +1,117 @@
+package com.springreact.backend.dto.response;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.springreact.backend.dto.response.serializer.RoleResponseSerializer;
+import com.springreact.backend.entity.Role;
+import com.springreact.backend.repository.Fieldset;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RoleResponse
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ * 19-10-2026       ThanhBT11           Add sparse fieldsets
+ */
+@JsonSerialize(using = RoleResponseSerializer.class)
+public class RoleResponse {
+
+    /**
+     * Fields client can select with ?fields=, output field name to entity attribute path
+     */
+    public final static Fieldset FIELDSET = Fieldset.of(
+            "id", "id",
+            "role", "role",
+            "createdDate", "createdDate",
+            "active", "active");
+
+    private final Long id;
+    private final String role;
+    private final String createdDate;
+    private final boolean active;
+
+    /**
+     * RoleResponse constructor(Long, String, String, boolean)
+     *
+     * @param id          role id
+     * @param role        role name
+     * @param createdDate created date of role
+     * @param active      false if role is soft deleted
+     */
+    public RoleResponse(Long id, String role, String createdDate, boolean active) {
+        this.id = id;
+        this.role = role;
+        this.createdDate = createdDate;
+        this.active = active;
+    }
+
+    /**
+     * Build response from role entity
+     *
+     * @param role role entity
+     * @return role response
+     */
+    public static RoleResponse of(Role role) {
+        return new RoleResponse(role.getId(), role.getRole(), role.getCreatedDate(), role.isActive());
+    }
+
+    /**
+     * Build response list from role entities
+     *
+     * @param roles role entities
+     * @return role response list
+     */
+    public static List<RoleResponse> listOf(List<Role> roles) {
+        List<RoleResponse> roleResponses = new ArrayList<>(roles.size());
+        for (Role role : roles) {
+            roleResponses.add(of(role));
+        }
+        return roleResponses;
+    }
+
+    /**
+     * Get role id
+     *
+     * @return role id
+     */
+    public Long getId() {
+        return id;
+    }
+
+    /**
+     * Get role name
+     *
+     * @return role name
+     */
+    public String getRole() {
+        return role;
+    }
+
+    /**
+     * Get created date
+     *
+     * @return created date of role
+     */
+    public String getCreatedDate() {
+        return createdDate;
+    }
+
+    /**
+     * Get active
+     *
+     * @return false if role is soft deleted
+     */
+    public boolean isActive() {
+        return active;
+    }
+}
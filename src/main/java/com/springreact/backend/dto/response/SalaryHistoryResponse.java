@@ -0,0 +1,188 @@
+package com.springreact.backend.dto.response;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.springreact.backend.dto.response.serializer.SalaryHistoryResponseSerializer;
+import com.springreact.backend.repository.EmployeesRepository;
+import com.springreact.backend.repository.SalaryRepository;
+
+import java.util.List;
+
+/**
+ * SalaryHistoryResponse
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ * 19-10-2026       ThanhBT11           Add paginated salary history by employee id
+ */
+@JsonSerialize(using = SalaryHistoryResponseSerializer.class)
+public class SalaryHistoryResponse {
+
+    /**
+     * Column names of each interval row, in written order
+     */
+    public final static String[] INTERVAL_COLUMNS = {"id", "salary", "createdDate", "endDate", "active"};
+
+    /**
+     * Max intervals of one history page
+     */
+    public final static int MAX_PAGE_SIZE = 500;
+
+    private final Long employeeId;
+    private final String employeeName;
+    private final String employeeEmail;
+    private final List<SalaryRepository.SalaryInterval> intervals;
+    private final boolean paged;
+    private final boolean hasMore;
+    private final String nextBeforeDate;
+    private final Long nextBeforeId;
+
+    /**
+     * SalaryHistoryResponse constructor(EmployeesRepository.Header, List<SalaryRepository.SalaryInterval>,
+     * boolean, boolean, String, Long)
+     *
+     * @param employee       employee header
+     * @param intervals      salary intervals of employee
+     * @param paged          true if intervals are one page of the history
+     * @param hasMore        true if there are older intervals after this page
+     * @param nextBeforeDate created date cursor of next page
+     * @param nextBeforeId   id cursor of next page
+     */
+    private SalaryHistoryResponse(EmployeesRepository.Header employee,
+                                  List<SalaryRepository.SalaryInterval> intervals,
+                                  boolean paged,
+                                  boolean hasMore,
+                                  String nextBeforeDate,
+                                  Long nextBeforeId) {
+        this.employeeId = employee.getId();
+        this.employeeName = employee.getFullName();
+        this.employeeEmail = employee.getEmail();
+        this.intervals = intervals;
+        this.paged = paged;
+        this.hasMore = hasMore;
+        this.nextBeforeDate = nextBeforeDate;
+        this.nextBeforeId = nextBeforeId;
+    }
+
+    /**
+     * Keep page size of history request between 1 and MAX_PAGE_SIZE
+     *
+     * @param limit requested page size
+     * @return bounded page size
+     */
+    public static int boundedLimit(int limit) {
+        return Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+    }
+
+    /**
+     * Build history response, employee is written once for all intervals
+     *
+     * @param employee  employee header
+     * @param intervals salary intervals of employee
+     * @return salary history response
+     */
+    public static SalaryHistoryResponse of(EmployeesRepository.Header employee,
+                                           List<SalaryRepository.SalaryInterval> intervals) {
+        return new SalaryHistoryResponse(employee, intervals, false, false, null, null);
+    }
+
+    /**
+     * Build one page of history, intervals are read with one extra row to know if there is a next page
+     *
+     * @param employee  employee header
+     * @param intervals salary intervals order by (createdDate, id) descendant, at most limit + 1 rows
+     * @param limit     max intervals of the page
+     * @return salary history page, cursor of next page is the last interval of this page
+     */
+    public static SalaryHistoryResponse page(EmployeesRepository.Header employee,
+                                             List<SalaryRepository.SalaryInterval> intervals,
+                                             int limit) {
+        boolean hasMore = intervals.size() > limit;
+        List<SalaryRepository.SalaryInterval> page = hasMore ? intervals.subList(0, limit) : intervals;
+        if (page.isEmpty()) {
+            return new SalaryHistoryResponse(employee, page, true, false, null, null);
+        }
+
+        SalaryRepository.SalaryInterval last = page.get(page.size() - 1);
+        return new SalaryHistoryResponse(employee, page, true, hasMore, last.getCreatedDate(), last.getId());
+    }
+
+    /**
+     * Get employeeId
+     *
+     * @return employee id
+     */
+    public Long getEmployeeId() {
+        return employeeId;
+    }
+
+    /**
+     * Get employeeName
+     *
+     * @return employee name
+     */
+    public String getEmployeeName() {
+        return employeeName;
+    }
+
+    /**
+     * Get employeeEmail
+     *
+     * @return employee email
+     */
+    public String getEmployeeEmail() {
+        return employeeEmail;
+    }
+
+    /**
+     * Get intervals
+     *
+     * @return salary intervals of employee
+     */
+    public List<SalaryRepository.SalaryInterval> getIntervals() {
+        return intervals;
+    }
+
+    /**
+     * Get paged
+     *
+     * @return true if intervals are one page of the history
+     */
+    public boolean isPaged() {
+        return paged;
+    }
+
+    /**
+     * Get hasMore
+     *
+     * @return true if there are older intervals after this page
+     */
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    /**
+     * Get nextBeforeDate
+     *
+     * @return created date cursor of next page
+     */
+    public String getNextBeforeDate() {
+        return nextBeforeDate;
+    }
+
+    /**
+     * Get nextBeforeId
+     *
+     * @return id cursor of next page
+     */
+    public Long getNextBeforeId() {
+        return nextBeforeId;
+    }
+}
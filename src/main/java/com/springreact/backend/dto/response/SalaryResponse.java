@@ -0,0 +1,165 @@
+package com.springreact.backend.dto.response;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.springreact.backend.dto.response.serializer.SalaryResponseSerializer;
+import com.springreact.backend.entity.Employee;
+import com.springreact.backend.entity.Salary;
+import com.springreact.backend.repository.Fieldset;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * SalaryResponse
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ * 19-10-2026       ThanhBT11           Add sparse fieldsets
+ */
+@JsonSerialize(using = SalaryResponseSerializer.class)
+public class SalaryResponse {
+
+    /**
+     * Fields client can select with ?fields=, output field name to entity attribute path
+     */
+    public final static Fieldset FIELDSET = Fieldset.of(
+            "id", "id",
+            "salary", "salary",
+            "createdDate", "createdDate",
+            "endDate", "endDate",
+            "active", "active",
+            "employee.id", "employee.id",
+            "employee.fullName", "employee.fullName",
+            "employee.email", "employee.email");
+
+    private final Long id;
+    private final Integer salary;
+    private final String createdDate;
+    private final String endDate;
+    private final boolean active;
+    private final Long employeeId;
+    private final String employeeName;
+    private final String employeeEmail;
+
+    /**
+     * SalaryResponse constructor(Salary)
+     *
+     * @param salary salary entity
+     */
+    private SalaryResponse(Salary salary) {
+        Employee employee = salary.getEmployee();
+
+        this.id = salary.getId();
+        this.salary = salary.getSalary();
+        this.createdDate = salary.getCreatedDate();
+        this.endDate = salary.getEndDate();
+        this.active = salary.isActive();
+        this.employeeId = employee == null ? null : employee.getId();
+        this.employeeName = employee == null ? null : employee.getFullName();
+        this.employeeEmail = employee == null ? null : employee.getEmail();
+    }
+
+    /**
+     * Build response from salary entity
+     *
+     * @param salary salary entity
+     * @return salary response
+     */
+    public static SalaryResponse of(Salary salary) {
+        return new SalaryResponse(salary);
+    }
+
+    /**
+     * Build response list from salary entities
+     *
+     * @param salaries salary entities
+     * @return salary response list
+     */
+    public static List<SalaryResponse> listOf(List<Salary> salaries) {
+        List<SalaryResponse> salaryResponses = new ArrayList<>(salaries.size());
+        for (Salary salary : salaries) {
+            salaryResponses.add(of(salary));
+        }
+        return salaryResponses;
+    }
+
+    /**
+     * Get salary id
+     *
+     * @return salary id
+     */
+    public Long getId() {
+        return id;
+    }
+
+    /**
+     * Get salary
+     *
+     * @return salary
+     */
+    public Integer getSalary() {
+        return salary;
+    }
+
+    /**
+     * Get created date
+     *
+     * @return issue date of salary
+     */
+    public String getCreatedDate() {
+        return createdDate;
+    }
+
+    /**
+     * Get end date
+     *
+     * @return end date of salary, null if it is current salary
+     */
+    public String getEndDate() {
+        return endDate;
+    }
+
+    /**
+     * Get active
+     *
+     * @return true if it is current salary
+     */
+    public boolean isActive() {
+        return active;
+    }
+
+    /**
+     * Get employee id
+     *
+     * @return employee id
+     */
+    public Long getEmployeeId() {
+        return employeeId;
+    }
+
+    /**
+     * Get employee name
+     *
+     * @return employee full name
+     */
+    public String getEmployeeName() {
+        return employeeName;
+    }
+
+    /**
+     * Get employee email
+     *
+     * @return employee email
+     */
+    public String getEmployeeEmail() {
+        return employeeEmail;
+    }
+}
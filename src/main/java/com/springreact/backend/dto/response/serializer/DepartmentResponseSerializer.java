@@ -0,0 +1,58 @@
+package com.springreact.backend.dto.response.serializer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.springreact.backend.dto.response.DepartmentResponse;
+
+import java.io.IOException;
+
+/**
+ * DepartmentResponseSerializer
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ */
+public class DepartmentResponseSerializer extends ResponseSerializer<DepartmentResponse> {
+
+    private static final SerializableString ID = fieldName("id");
+    private static final SerializableString DEPARTMENT = fieldName("department");
+    private static final SerializableString FULL_NAME = fieldName("fullName");
+    private static final SerializableString CREATED_DATE = fieldName("createdDate");
+    private static final SerializableString ACTIVE = fieldName("active");
+
+    /**
+     * Default constructor
+     */
+    public DepartmentResponseSerializer() {
+        super(DepartmentResponse.class);
+    }
+
+    /**
+     * Write department as {id, department, fullName, createdDate, active}
+     *
+     * @param department department response
+     * @param gen        json generator
+     * @param provider   serializer provider
+     * @throws IOException if writing fails
+     */
+    @Override
+    public void serialize(DepartmentResponse department, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        gen.writeStartObject(department);
+        writeNumber(gen, ID, department.getId());
+        writeString(gen, DEPARTMENT, department.getDepartment());
+        writeString(gen, FULL_NAME, department.getFullName());
+        writeString(gen, CREATED_DATE, department.getCreatedDate());
+        writeBoolean(gen, ACTIVE, department.isActive());
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,91 @@
+package com.springreact.backend.dto.response.serializer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.springreact.backend.dto.response.EmployeeResponse;
+
+import java.io.IOException;
+
+/**
+ * EmployeeResponseSerializer
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ */
+public class EmployeeResponseSerializer extends ResponseSerializer<EmployeeResponse> {
+
+    private static final SerializableString ID = fieldName("id");
+    private static final SerializableString FULL_NAME = fieldName("fullName");
+    private static final SerializableString EMAIL = fieldName("email");
+    private static final SerializableString PHONE = fieldName("phone");
+    private static final SerializableString ADDRESS = fieldName("address");
+    private static final SerializableString GENDER = fieldName("gender");
+    private static final SerializableString IMAGE = fieldName("image");
+    private static final SerializableString ACTIVE = fieldName("active");
+    private static final SerializableString ROLE = fieldName("role");
+    private static final SerializableString DEPARTMENT = fieldName("department");
+
+    /**
+     * Default constructor
+     */
+    public EmployeeResponseSerializer() {
+        super(EmployeeResponse.class);
+    }
+
+    /**
+     * Write employee, role and department are written as {id, role} and {id, department},
+     * image is only written when it is loaded
+     *
+     * @param employee employee response
+     * @param gen      json generator
+     * @param provider serializer provider
+     * @throws IOException if writing fails
+     */
+    @Override
+    public void serialize(EmployeeResponse employee, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        gen.writeStartObject(employee);
+        gen.writeFieldName(ID);
+        gen.writeNumber(employee.getId());
+        writeString(gen, FULL_NAME, employee.getFullName());
+        writeString(gen, EMAIL, employee.getEmail());
+        writeString(gen, PHONE, employee.getPhone());
+        writeString(gen, ADDRESS, employee.getAddress());
+        writeString(gen, GENDER, employee.getGender());
+        if (employee.getImage() != null) {
+            writeString(gen, IMAGE, employee.getImage());
+        }
+        writeBoolean(gen, ACTIVE, employee.isActive());
+
+        gen.writeFieldName(ROLE);
+        if (employee.getRoleId() == null) {
+            gen.writeNull();
+        } else {
+            gen.writeStartObject();
+            writeNumber(gen, ID, employee.getRoleId());
+            writeString(gen, ROLE, employee.getRole());
+            gen.writeEndObject();
+        }
+
+        gen.writeFieldName(DEPARTMENT);
+        if (employee.getDepartmentId() == null) {
+            gen.writeNull();
+        } else {
+            gen.writeStartObject();
+            writeNumber(gen, ID, employee.getDepartmentId());
+            writeString(gen, DEPARTMENT, employee.getDepartment());
+            gen.writeEndObject();
+        }
+
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,112 @@
+package com.springreact.backend.dto.response.serializer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * ResponseSerializer
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ */
+public abstract class ResponseSerializer<T> extends StdSerializer<T> {
+
+    /**
+     * ResponseSerializer constructor(Class)
+     *
+     * @param type response type
+     */
+    protected ResponseSerializer(Class<T> type) {
+        super(type);
+    }
+
+    /**
+     * Encode field name once, so it is copied instead of escaped on every write
+     *
+     * @param name field name
+     * @return encoded field name
+     */
+    protected static SerializableString fieldName(String name) {
+        return new SerializedString(name);
+    }
+
+    /**
+     * Write a string field, null value is written as json null
+     *
+     * @param gen   json generator
+     * @param name  encoded field name
+     * @param value field value
+     * @throws IOException if writing fails
+     */
+    protected static void writeString(JsonGenerator gen, SerializableString name, String value)
+            throws IOException {
+        gen.writeFieldName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(value);
+        }
+    }
+
+    /**
+     * Write a number field, null value is written as json null
+     *
+     * @param gen   json generator
+     * @param name  encoded field name
+     * @param value field value
+     * @throws IOException if writing fails
+     */
+    protected static void writeNumber(JsonGenerator gen, SerializableString name, Long value)
+            throws IOException {
+        gen.writeFieldName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value.longValue());
+        }
+    }
+
+    /**
+     * Write a number field, null value is written as json null
+     *
+     * @param gen   json generator
+     * @param name  encoded field name
+     * @param value field value
+     * @throws IOException if writing fails
+     */
+    protected static void writeNumber(JsonGenerator gen, SerializableString name, Integer value)
+            throws IOException {
+        gen.writeFieldName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value.intValue());
+        }
+    }
+
+    /**
+     * Write a boolean field
+     *
+     * @param gen   json generator
+     * @param name  encoded field name
+     * @param value field value
+     * @throws IOException if writing fails
+     */
+    protected static void writeBoolean(JsonGenerator gen, SerializableString name, boolean value)
+            throws IOException {
+        gen.writeFieldName(name);
+        gen.writeBoolean(value);
+    }
+}
@@ -0,0 +1,56 @@
+package com.springreact.backend.dto.response.serializer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.springreact.backend.dto.response.RoleResponse;
+
+import java.io.IOException;
+
+/**
+ * RoleResponseSerializer
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ */
+public class RoleResponseSerializer extends ResponseSerializer<RoleResponse> {
+
+    private static final SerializableString ID = fieldName("id");
+    private static final SerializableString ROLE = fieldName("role");
+    private static final SerializableString CREATED_DATE = fieldName("createdDate");
+    private static final SerializableString ACTIVE = fieldName("active");
+
+    /**
+     * Default constructor
+     */
+    public RoleResponseSerializer() {
+        super(RoleResponse.class);
+    }
+
+    /**
+     * Write role as {id, role, createdDate, active}
+     *
+     * @param role     role response
+     * @param gen      json generator
+     * @param provider serializer provider
+     * @throws IOException if writing fails
+     */
+    @Override
+    public void serialize(RoleResponse role, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        gen.writeStartObject(role);
+        writeNumber(gen, ID, role.getId());
+        writeString(gen, ROLE, role.getRole());
+        writeString(gen, CREATED_DATE, role.getCreatedDate());
+        writeBoolean(gen, ACTIVE, role.isActive());
+        gen.writeEndObject();
+    }
+}
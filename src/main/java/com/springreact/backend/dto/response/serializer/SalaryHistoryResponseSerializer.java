@@ -0,0 +1,141 @@
+package com.springreact.backend.dto.response.serializer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.springreact.backend.dto.response.SalaryHistoryResponse;
+import com.springreact.backend.repository.SalaryRepository;
+
+import java.io.IOException;
+
+/**
+ * SalaryHistoryResponseSerializer
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ * 19-10-2026       ThanhBT11           Add paginated salary history by employee id
+ */
+public class SalaryHistoryResponseSerializer extends ResponseSerializer<SalaryHistoryResponse> {
+
+    private static final SerializableString EMPLOYEE = fieldName("employee");
+    private static final SerializableString ID = fieldName("id");
+    private static final SerializableString FULL_NAME = fieldName("fullName");
+    private static final SerializableString EMAIL = fieldName("email");
+    private static final SerializableString COLUMNS = fieldName("columns");
+    private static final SerializableString INTERVALS = fieldName("intervals");
+    private static final SerializableString NEXT = fieldName("next");
+    private static final SerializableString HAS_MORE = fieldName("hasMore");
+    private static final SerializableString BEFORE_DATE = fieldName("beforeDate");
+    private static final SerializableString BEFORE_ID = fieldName("beforeId");
+
+    /**
+     * Default constructor
+     */
+    public SalaryHistoryResponseSerializer() {
+        super(SalaryHistoryResponse.class);
+    }
+
+    /**
+     * Write history as {employee: {id, fullName, email}, columns: [...], intervals: [[...], ...]},
+     * each interval is an array in the order of columns. A page also writes
+     * next: {hasMore, beforeDate, beforeId}, the cursor of the next page
+     *
+     * @param history  salary history response
+     * @param gen      json generator
+     * @param provider serializer provider
+     * @throws IOException if writing fails
+     */
+    @Override
+    public void serialize(SalaryHistoryResponse history, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        gen.writeStartObject(history);
+
+        gen.writeFieldName(EMPLOYEE);
+        gen.writeStartObject();
+        writeNumber(gen, ID, history.getEmployeeId());
+        writeString(gen, FULL_NAME, history.getEmployeeName());
+        writeString(gen, EMAIL, history.getEmployeeEmail());
+        gen.writeEndObject();
+
+        gen.writeFieldName(COLUMNS);
+        gen.writeArray(SalaryHistoryResponse.INTERVAL_COLUMNS, 0, SalaryHistoryResponse.INTERVAL_COLUMNS.length);
+
+        gen.writeFieldName(INTERVALS);
+        gen.writeStartArray();
+        for (SalaryRepository.SalaryInterval interval : history.getIntervals()) {
+            gen.writeStartArray();
+            writeValue(gen, interval.getId());
+            writeValue(gen, interval.getSalary());
+            writeValue(gen, interval.getCreatedDate());
+            writeValue(gen, interval.getEndDate());
+            gen.writeBoolean(Boolean.TRUE.equals(interval.getActive()));
+            gen.writeEndArray();
+        }
+        gen.writeEndArray();
+
+        if (history.isPaged()) {
+            gen.writeFieldName(NEXT);
+            gen.writeStartObject();
+            gen.writeFieldName(HAS_MORE);
+            gen.writeBoolean(history.isHasMore());
+            writeString(gen, BEFORE_DATE, history.getNextBeforeDate());
+            writeNumber(gen, BEFORE_ID, history.getNextBeforeId());
+            gen.writeEndObject();
+        }
+
+        gen.writeEndObject();
+    }
+
+    /**
+     * Write an array element, null value is written as json null
+     *
+     * @param gen   json generator
+     * @param value element value
+     * @throws IOException if writing fails
+     */
+    private static void writeValue(JsonGenerator gen, Long value) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value.longValue());
+        }
+    }
+
+    /**
+     * Write an array element, null value is written as json null
+     *
+     * @param gen   json generator
+     * @param value element value
+     * @throws IOException if writing fails
+     */
+    private static void writeValue(JsonGenerator gen, Integer value) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value.intValue());
+        }
+    }
+
+    /**
+     * Write an array element, null value is written as json null
+     *
+     * @param gen   json generator
+     * @param value element value
+     * @throws IOException if writing fails
+     */
+    private static void writeValue(JsonGenerator gen, String value) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(value);
+        }
+    }
+}
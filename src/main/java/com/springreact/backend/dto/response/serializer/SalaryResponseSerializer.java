@@ -0,0 +1,73 @@
+package com.springreact.backend.dto.response.serializer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.springreact.backend.dto.response.SalaryResponse;
+
+import java.io.IOException;
+
+/**
+ * SalaryResponseSerializer
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ */
+public class SalaryResponseSerializer extends ResponseSerializer<SalaryResponse> {
+
+    private static final SerializableString ID = fieldName("id");
+    private static final SerializableString SALARY = fieldName("salary");
+    private static final SerializableString CREATED_DATE = fieldName("createdDate");
+    private static final SerializableString END_DATE = fieldName("endDate");
+    private static final SerializableString ACTIVE = fieldName("active");
+    private static final SerializableString EMPLOYEE = fieldName("employee");
+    private static final SerializableString FULL_NAME = fieldName("fullName");
+    private static final SerializableString EMAIL = fieldName("email");
+
+    /**
+     * Default constructor
+     */
+    public SalaryResponseSerializer() {
+        super(SalaryResponse.class);
+    }
+
+    /**
+     * Write salary, employee is written as {id, fullName, email}
+     *
+     * @param salary   salary response
+     * @param gen      json generator
+     * @param provider serializer provider
+     * @throws IOException if writing fails
+     */
+    @Override
+    public void serialize(SalaryResponse salary, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        gen.writeStartObject(salary);
+        writeNumber(gen, ID, salary.getId());
+        writeNumber(gen, SALARY, salary.getSalary());
+        writeString(gen, CREATED_DATE, salary.getCreatedDate());
+        writeString(gen, END_DATE, salary.getEndDate());
+        writeBoolean(gen, ACTIVE, salary.isActive());
+
+        gen.writeFieldName(EMPLOYEE);
+        if (salary.getEmployeeId() == null) {
+            gen.writeNull();
+        } else {
+            gen.writeStartObject();
+            writeNumber(gen, ID, salary.getEmployeeId());
+            writeString(gen, FULL_NAME, salary.getEmployeeName());
+            writeString(gen, EMAIL, salary.getEmployeeEmail());
+            gen.writeEndObject();
+        }
+
+        gen.writeEndObject();
+    }
+}
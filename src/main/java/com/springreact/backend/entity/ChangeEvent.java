@@ -0,0 +1,150 @@
+package com.springreact.backend.entity;
+
+import javax.persistence.*;
+
+/**
+ * ChangeEvent
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ */
+@Entity
+@Table(name = "change_event")
+public class ChangeEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "aggregate", length = 20)
+    private EChangeAggregate aggregate;
+
+    @Column(name = "aggregateId")
+    private Long aggregateId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "action", length = 20)
+    private EChangeAction action;
+
+    @Column(name = "createdAt")
+    private long createdAt;
+
+    /**
+     * Default constructor
+     */
+    public ChangeEvent() {
+    }
+
+    /**
+     * ChangeEvent constructor(EChangeAggregate, Long, EChangeAction)
+     *
+     * @param aggregate   type of changed entity
+     * @param aggregateId id of changed entity
+     * @param action      what happened to entity
+     */
+    public ChangeEvent(EChangeAggregate aggregate, Long aggregateId, EChangeAction action) {
+        this.aggregate = aggregate;
+        this.aggregateId = aggregateId;
+        this.action = action;
+        this.createdAt = System.currentTimeMillis();
+    }
+
+    /**
+     * Get id, also the offset of event in stream
+     *
+     * @return event id
+     */
+    public Long getId() {
+        return id;
+    }
+
+    /**
+     * Set id
+     *
+     * @param id event id
+     */
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    /**
+     * Get aggregate
+     *
+     * @return type of changed entity
+     */
+    public EChangeAggregate getAggregate() {
+        return aggregate;
+    }
+
+    /**
+     * Set aggregate
+     *
+     * @param aggregate type of changed entity
+     */
+    public void setAggregate(EChangeAggregate aggregate) {
+        this.aggregate = aggregate;
+    }
+
+    /**
+     * Get aggregate id
+     *
+     * @return id of changed entity
+     */
+    public Long getAggregateId() {
+        return aggregateId;
+    }
+
+    /**
+     * Set aggregate id
+     *
+     * @param aggregateId id of changed entity
+     */
+    public void setAggregateId(Long aggregateId) {
+        this.aggregateId = aggregateId;
+    }
+
+    /**
+     * Get action
+     *
+     * @return what happened to entity
+     */
+    public EChangeAction getAction() {
+        return action;
+    }
+
+    /**
+     * Set action
+     *
+     * @param action what happened to entity
+     */
+    public void setAction(EChangeAction action) {
+        this.action = action;
+    }
+
+    /**
+     * Get created time
+     *
+     * @return epoch millisecond when event is recorded
+     */
+    public long getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * Set created time
+     *
+     * @param createdAt epoch millisecond when event is recorded
+     */
+    public void setCreatedAt(long createdAt) {
+        this.createdAt = createdAt;
+    }
+}
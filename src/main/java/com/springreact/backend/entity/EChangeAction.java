@@ -0,0 +1,21 @@
+package com.springreact.backend.entity;
+
+/**
+ * EChangeAction
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ */
+public enum EChangeAction {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -0,0 +1,22 @@
+package com.springreact.backend.entity;
+
+/**
+ * EChangeAggregate
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ */
+public enum EChangeAggregate {
+    EMPLOYEE,
+    ROLE,
+    DEPARTMENT,
+    SALARY
+}
@@ -1,8 +1,11 @@
 package com.springreact.backend.entity;
 
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.UpdateTimestamp;
 import org.hibernate.annotations.Where;
 
 import javax.persistence.*;
+import java.util.Date;
 
 /**
  * Employee
@@ -17,6 +20,9 @@ import javax.persistence.*;
  * DATE             AUTHOR              DESCRIPTION
  * -------------------------------------------------
  * 07-06-2021       ThanhBT11           Create
+ * 19-10-2026       ThanhBT11           Add version and last modified columns
+ * 19-10-2026       ThanhBT11           Lazy associations with named fetch plans
+ * 19-10-2026       ThanhBT11           Move indexes to schema migrations
  */
 @Entity
 @Table(name = "employees",
@@ -24,9 +30,27 @@ import javax.persistence.*;
                 @UniqueConstraint(columnNames = "email")
         }
 )
+@NamedEntityGraphs({
+        @NamedEntityGraph(name = Employee.WITH_ROLE_AND_DEPARTMENT, attributeNodes = {
+                @NamedAttributeNode("role"),
+                @NamedAttributeNode("department")
+        }),
+        @NamedEntityGraph(name = Employee.WITH_ROLE, attributeNodes = @NamedAttributeNode("role"))
+})
+@BatchSize(size = 100)
 @Where(clause = "active != 0")
 public class Employee {
 
+    /**
+     * Fetch plan of employee list and detail
+     */
+    public static final String WITH_ROLE_AND_DEPARTMENT = "Employee.withRoleAndDepartment";
+
+    /**
+     * Fetch plan of authentication
+     */
+    public static final String WITH_ROLE = "Employee.withRole";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private long id;
@@ -58,14 +82,23 @@ public class Employee {
     @Column(name = "reset_password_token")
     private String resetPasswordToken;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "roleId", referencedColumnName = "id")
     private Role role;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "departmentId", referencedColumnName = "id")
     private Department department;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    @UpdateTimestamp
+    @Temporal(TemporalType.TIMESTAMP)
+    @Column(name = "lastModified")
+    private Date lastModified;
+
     /**
      * Default constructor
      */
@@ -350,6 +383,42 @@ public class Employee {
         this.resetPasswordToken = resetPasswordToken;
     }
 
+    /**
+     * Get version, increased by one on every update
+     *
+     * @return employee version
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Set version
+     *
+     * @param version employee version
+     */
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    /**
+     * Get last modified time
+     *
+     * @return time of last insert or update
+     */
+    public Date getLastModified() {
+        return lastModified;
+    }
+
+    /**
+     * Set last modified time
+     *
+     * @param lastModified time of last insert or update
+     */
+    public void setLastModified(Date lastModified) {
+        this.lastModified = lastModified;
+    }
+
     /**
      * Get all information of employee
      *
@@ -367,8 +436,8 @@ public class Employee {
                 ", gender='" + gender + '\'' +
                 ", image='" + image + '\'' +
                 ", active=" + active +
-                ", role=" + role +
-                ", department=" + department +
+                ", roleId=" + (role == null ? null : role.getId()) +
+                ", departmentId=" + (department == null ? null : department.getId()) +
                 '}';
     }
 }
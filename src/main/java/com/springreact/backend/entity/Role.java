@@ -1,8 +1,11 @@
 package com.springreact.backend.entity;
 
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.UpdateTimestamp;
 import org.hibernate.annotations.Where;
 
 import javax.persistence.*;
+import java.util.Date;
 
 /**
  * Role
@@ -17,9 +20,13 @@ import javax.persistence.*;
  * DATE             AUTHOR              DESCRIPTION
  * -------------------------------------------------
  * 07-06-2021       ThanhBT11           Create
+ * 19-10-2026       ThanhBT11           Add version and last modified columns
+ * 19-10-2026       ThanhBT11           Batch load lazy proxies
+ * 19-10-2026       ThanhBT11           Move indexes to schema migrations
  */
 @Entity
 @Table(name = "role")
+@BatchSize(size = 100)
 @Where(clause = "active != 0")
 public class Role {
 
@@ -36,6 +43,15 @@ public class Role {
     @Column(name = "active")
     private boolean active;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    @UpdateTimestamp
+    @Temporal(TemporalType.TIMESTAMP)
+    @Column(name = "lastModified")
+    private Date lastModified;
+
     /**
      * Default constructor
      */
@@ -124,4 +140,40 @@ public class Role {
     public void setActive(boolean active) {
         this.active = active;
     }
+
+    /**
+     * Get version, increased by one on every update
+     *
+     * @return role version
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Set version
+     *
+     * @param version role version
+     */
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    /**
+     * Get last modified time
+     *
+     * @return time of last insert or update
+     */
+    public Date getLastModified() {
+        return lastModified;
+    }
+
+    /**
+     * Set last modified time
+     *
+     * @param lastModified time of last insert or update
+     */
+    public void setLastModified(Date lastModified) {
+        this.lastModified = lastModified;
+    }
 }
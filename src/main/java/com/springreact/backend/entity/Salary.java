@@ -1,6 +1,9 @@
 package com.springreact.backend.entity;
 
+import org.hibernate.annotations.UpdateTimestamp;
+
 import javax.persistence.*;
+import java.util.Date;
 
 /**
  * Salary
@@ -15,11 +18,22 @@ import javax.persistence.*;
  * DATE             AUTHOR              DESCRIPTION
  * -------------------------------------------------
  * 07-06-2021       ThanhBT11           Create
+ * 19-10-2026       ThanhBT11           Add version and last modified columns
+ * 19-10-2026       ThanhBT11           Lazy associations with named fetch plans
+ * 19-10-2026       ThanhBT11           Add paginated salary history by employee id
+ * 19-10-2026       ThanhBT11           Move indexes to schema migrations
+ * 19-10-2026       ThanhBT11           Salary always belongs to an employee
  */
 @Entity
 @Table(name = "salary")
+@NamedEntityGraph(name = Salary.WITH_EMPLOYEE, attributeNodes = @NamedAttributeNode("employee"))
 public class Salary {
 
+    /**
+     * Fetch plan of salary detail and salary history
+     */
+    public static final String WITH_EMPLOYEE = "Salary.withEmployee";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -33,13 +47,23 @@ public class Salary {
     @Column(name = "endDate")
     private String endDate;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    //Every salary belongs to an employee, queries on employee fields join with inner join
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "employeeId", referencedColumnName = "id")
     private Employee employee;
 
     @Column(name = "active")
     private boolean active;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    @UpdateTimestamp
+    @Temporal(TemporalType.TIMESTAMP)
+    @Column(name = "lastModified")
+    private Date lastModified;
+
     /**
      * Salary constructor
      */
@@ -153,4 +177,36 @@ public class Salary {
     public void setActive(boolean active) {
         this.active = active;
     }
+
+    /**
+     * Get version, increased by one on every update
+     * @return salary version
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Set version
+     * @param version salary version
+     */
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    /**
+     * Get last modified time
+     * @return time of last insert or update
+     */
+    public Date getLastModified() {
+        return lastModified;
+    }
+
+    /**
+     * Set last modified time
+     * @param lastModified time of last insert or update
+     */
+    public void setLastModified(Date lastModified) {
+        this.lastModified = lastModified;
+    }
 }
@@ -0,0 +1,46 @@
+package com.springreact.backend.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * DomainException
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ */
+public abstract class DomainException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final HttpStatus status;
+
+    /**
+     * DomainException constructor(String, HttpStatus).
+     * Expected outcomes (not found, invalid input) need no stack trace, so it is never filled
+     * and suppression is disabled, instances with a constant message can be preallocated and shared.
+     *
+     * @param message exception message
+     * @param status  response status
+     */
+    protected DomainException(String message, HttpStatus status) {
+        super(message, null, false, false);
+        this.status = status;
+    }
+
+    /**
+     * Get response status
+     *
+     * @return response status
+     */
+    public HttpStatus getStatus() {
+        return status;
+    }
+}
@@ -1,6 +1,7 @@
 package com.springreact.backend.exception;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -18,30 +19,22 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
  * DATE             AUTHOR              DESCRIPTION
  * -------------------------------------------------
  * 07-06-2021       ThanhBT11           Create
+ * 19-10-2026       ThanhBT11           Handle InvalidFieldException
+ * 19-10-2026       ThanhBT11           Handle domain exceptions with their status
  */
 @RestControllerAdvice
 public class ExceptionHandling {
 
     /**
-     * Custom handle exception to throw ResourceNotFoundException to frontend
-     * @param exception ResourceNotFoundException
+     * Custom handle domain exceptions (ResourceNotFoundException 404, ParseDateException 400,
+     * InvalidFieldException 400) with the status of the exception
+     * @param exception DomainException
      * @return exception response to frontend
      */
-    @ExceptionHandler(ResourceNotFoundException.class)
-    @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
-    public ExceptionRestResponse handleResourceNotFoundException(ResourceNotFoundException exception) {
-        return new ExceptionRestResponse(500, exception.getMessage());
-    }
-
-    /**
-     * Custom handle exception to throw ParseDateException to frontend
-     * @param exception ParseDateException
-     * @return exception response to frontend
-     */
-    @ExceptionHandler(ParseDateException.class)
-    @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
-    public ExceptionRestResponse handleParseDateException(ParseDateException exception) {
-        return new ExceptionRestResponse(500, exception.getMessage());
+    @ExceptionHandler(DomainException.class)
+    public ResponseEntity<ExceptionRestResponse> handleDomainException(DomainException exception) {
+        HttpStatus status = exception.getStatus();
+        return new ResponseEntity<>(new ExceptionRestResponse(status.value(), exception.getMessage()), status);
     }
 
     /**
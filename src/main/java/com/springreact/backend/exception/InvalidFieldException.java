@@ -0,0 +1,32 @@
+package com.springreact.backend.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * InvalidFieldException
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ * 19-10-2026       ThanhBT11           Extend DomainException
+ */
+@ResponseStatus(value = HttpStatus.BAD_REQUEST)
+public class InvalidFieldException extends DomainException {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * InvalidFieldException constructor(String)
+     * @param message exception message
+     */
+    public InvalidFieldException(String message) {
+        super(message, HttpStatus.BAD_REQUEST);
+    }
+}
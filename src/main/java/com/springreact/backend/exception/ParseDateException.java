@@ -1,5 +1,6 @@
 package com.springreact.backend.exception;
 
+import com.springreact.backend.constant.Message;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
@@ -16,16 +17,22 @@ import org.springframework.web.bind.annotation.ResponseStatus;
  * DATE             AUTHOR              DESCRIPTION
  * -------------------------------------------------
  * 07-06-2021       ThanhBT11           Create
+ * 19-10-2026       ThanhBT11           Stackless, 400, preallocated instance
  */
-@ResponseStatus(value = HttpStatus.INTERNAL_SERVER_ERROR)
-public class ParseDateException extends RuntimeException {
+@ResponseStatus(value = HttpStatus.BAD_REQUEST)
+public class ParseDateException extends DomainException {
     private static final long serialVersionUID = 1L;
 
+    /**
+     * Preallocated, date is not yyyy-MM-dd
+     */
+    public final static ParseDateException INVALID_DATE = new ParseDateException(Message.PARSE_DATE_ERROR);
+
     /**
      * ParseDateException constructor(String)
      * @param message exception message
      */
     public ParseDateException(String message) {
-        super(message);
+        super(message, HttpStatus.BAD_REQUEST);
     }
 }
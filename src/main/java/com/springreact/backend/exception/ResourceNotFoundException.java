@@ -1,5 +1,6 @@
 package com.springreact.backend.exception;
 
+import com.springreact.backend.constant.Message;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
@@ -16,17 +17,42 @@ import org.springframework.web.bind.annotation.ResponseStatus;
  * DATE             AUTHOR              DESCRIPTION
  * -------------------------------------------------
  * 07-06-2021       ThanhBT11           Create
+ * 19-10-2026       ThanhBT11           Stackless, 404, preallocated instances
  */
-@ResponseStatus(value = HttpStatus.INTERNAL_SERVER_ERROR)
-public class ResourceNotFoundException extends RuntimeException {
+@ResponseStatus(value = HttpStatus.NOT_FOUND)
+public class ResourceNotFoundException extends DomainException {
 
     private static final long serialVersionUID = 1L;
 
+    /**
+     * Preallocated, messages without id
+     */
+    public final static ResourceNotFoundException EMPLOYEE =
+            new ResourceNotFoundException(Message.NOT_EXIST_EMPLOYEE);
+    public final static ResourceNotFoundException EMPLOYEE_LIST =
+            new ResourceNotFoundException(Message.NOT_EXIST_EMPLOYEE_LIST);
+    public final static ResourceNotFoundException ROLE_LIST =
+            new ResourceNotFoundException(Message.NOT_EXIST_ROLE_LIST);
+    public final static ResourceNotFoundException DEPARTMENT_LIST =
+            new ResourceNotFoundException(Message.NOT_EXIST_DEPARTMENT_LIST);
+    public final static ResourceNotFoundException ROLE_DEPARTMENT_LIST =
+            new ResourceNotFoundException(Message.NOT_EXIST_ROLE_DEPARTMENT_LIST);
+    public final static ResourceNotFoundException ADDRESS_LIST =
+            new ResourceNotFoundException(Message.NOT_EXIST_ADDRESS_LIST);
+    public final static ResourceNotFoundException SALARY =
+            new ResourceNotFoundException(Message.NOT_EXIST_SALARY);
+    public final static ResourceNotFoundException SALARY_LIST =
+            new ResourceNotFoundException(Message.NOT_EXIST_SALARY_LIST);
+    public final static ResourceNotFoundException PREFIX_LIST =
+            new ResourceNotFoundException(Message.NOT_EXIST_PREFIX_LIST);
+    public final static ResourceNotFoundException TOKEN =
+            new ResourceNotFoundException(Message.NOT_EXIST_TOKEN);
+
     /**
      * ResourceNotFoundException constructor(String)
      * @param message exception message
      */
     public ResourceNotFoundException(String message) {
-        super(message);
+        super(message, HttpStatus.NOT_FOUND);
     }
 }
@@ -0,0 +1,68 @@
+package com.springreact.backend.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * AuthTokenEvent
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ */
+@Name("com.springreact.AuthToken")
+@Label("Auth Token Stage")
+@Category({"React CRUD", "Security"})
+@Description("One stage of the JWT filter: parse header, verify token or load principal")
+@Enabled(false)
+@StackTrace(false)
+public class AuthTokenEvent extends Event {
+
+    public final static String PARSE = "parse";
+    public final static String VERIFY = "verify";
+    public final static String PRINCIPAL = "principal";
+
+    @Label("Stage")
+    String stage;
+
+    @Label("Success")
+    boolean success;
+
+    /**
+     * Start timing a stage, cheap when the event is disabled
+     *
+     * @param stage PARSE, VERIFY or PRINCIPAL
+     * @return started event
+     */
+    public static AuthTokenEvent start(String stage) {
+        AuthTokenEvent event = new AuthTokenEvent();
+        event.stage = stage;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Stop timing and commit the event if it is recorded
+     *
+     * @param success result of the stage
+     */
+    public void finish(boolean success) {
+        end();
+        if (shouldCommit()) {
+            this.success = success;
+            commit();
+        }
+    }
+}
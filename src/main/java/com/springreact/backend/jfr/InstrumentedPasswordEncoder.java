@@ -0,0 +1,71 @@
+package com.springreact.backend.jfr;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * InstrumentedPasswordEncoder
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ */
+public class InstrumentedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+
+    /**
+     * InstrumentedPasswordEncoder constructor(PasswordEncoder)
+     *
+     * @param delegate encoder doing the hashing
+     */
+    public InstrumentedPasswordEncoder(PasswordEncoder delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Encode a password, recorded as PasswordHashEvent
+     *
+     * @param rawPassword password to encode
+     * @return encoded password
+     */
+    @Override
+    public String encode(CharSequence rawPassword) {
+        PasswordHashEvent event = PasswordHashEvent.start(PasswordHashEvent.ENCODE);
+        String encodedPassword = delegate.encode(rawPassword);
+        event.finish(false);
+        return encodedPassword;
+    }
+
+    /**
+     * Check a password with its encoded value, recorded as PasswordHashEvent
+     *
+     * @param rawPassword     password to check
+     * @param encodedPassword stored encoded password
+     * @return true if they match
+     */
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        PasswordHashEvent event = PasswordHashEvent.start(PasswordHashEvent.MATCHES);
+        boolean matched = delegate.matches(rawPassword, encodedPassword);
+        event.finish(matched);
+        return matched;
+    }
+
+    /**
+     * Check if encoded password should be encoded again
+     *
+     * @param encodedPassword stored encoded password
+     * @return true if it should be upgraded
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
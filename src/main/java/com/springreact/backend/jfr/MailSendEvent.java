@@ -0,0 +1,67 @@
+package com.springreact.backend.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * MailSendEvent
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ */
+@Name("com.springreact.MailSend")
+@Label("Mail Send")
+@Category({"React CRUD", "Mail"})
+@Description("Sending of one mail through the SMTP server")
+@Enabled(false)
+@StackTrace(false)
+public class MailSendEvent extends Event {
+
+    public final static String RESET_PASSWORD = "reset-password";
+
+    //Purpose of the mail, never the address
+    @Label("Purpose")
+    String purpose;
+
+    @Label("Success")
+    boolean success;
+
+    /**
+     * Start timing a mail, cheap when the event is disabled
+     *
+     * @param purpose purpose of the mail
+     * @return started event
+     */
+    public static MailSendEvent start(String purpose) {
+        MailSendEvent event = new MailSendEvent();
+        event.purpose = purpose;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Stop timing and commit the event if it is recorded
+     *
+     * @param success true if the server accepted the mail
+     */
+    public void finish(boolean success) {
+        end();
+        if (shouldCommit()) {
+            this.success = success;
+            commit();
+        }
+    }
+}
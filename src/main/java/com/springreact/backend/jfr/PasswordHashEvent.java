@@ -0,0 +1,67 @@
+package com.springreact.backend.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * PasswordHashEvent
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ */
+@Name("com.springreact.PasswordHash")
+@Label("Password Hash")
+@Category({"React CRUD", "Security"})
+@Description("BCrypt encode or match of a password")
+@Enabled(false)
+@StackTrace(false)
+public class PasswordHashEvent extends Event {
+
+    public final static String ENCODE = "encode";
+    public final static String MATCHES = "matches";
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Matched")
+    boolean matched;
+
+    /**
+     * Start timing a hash operation, cheap when the event is disabled
+     *
+     * @param operation ENCODE or MATCHES
+     * @return started event
+     */
+    public static PasswordHashEvent start(String operation) {
+        PasswordHashEvent event = new PasswordHashEvent();
+        event.operation = operation;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Stop timing and commit the event if it is recorded
+     *
+     * @param matched result of matches, false for encode
+     */
+    public void finish(boolean matched) {
+        end();
+        if (shouldCommit()) {
+            this.matched = matched;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.springreact.backend.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * SalaryComputationEvent
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ */
+@Name("com.springreact.SalaryComputation")
+@Label("Salary Computation")
+@Category({"React CRUD", "Salary"})
+@Description("Latest salary selection or salary interval update")
+@Enabled(false)
+@StackTrace(false)
+public class SalaryComputationEvent extends Event {
+
+    public final static String LATEST_OF_ALL = "latest-of-all";
+    public final static String LATEST_OF_PAGE = "latest-of-page";
+    public final static String CREATE_INTERVAL = "create-interval";
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Salaries Read")
+    int salariesRead;
+
+    @Label("Salaries Written")
+    @Description("Latest salaries selected, or intervals saved")
+    int salariesWritten;
+
+    /**
+     * Start timing a computation, cheap when the event is disabled
+     *
+     * @param operation LATEST_OF_ALL, LATEST_OF_PAGE or CREATE_INTERVAL
+     * @return started event
+     */
+    public static SalaryComputationEvent start(String operation) {
+        SalaryComputationEvent event = new SalaryComputationEvent();
+        event.operation = operation;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Stop timing and commit the event if it is recorded
+     *
+     * @param salariesRead    salaries read by the computation
+     * @param salariesWritten salaries selected or saved
+     */
+    public void finish(int salariesRead, int salariesWritten) {
+        end();
+        if (shouldCommit()) {
+            this.salariesRead = salariesRead;
+            this.salariesWritten = salariesWritten;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.springreact.backend.jfr;
+
+import com.springreact.backend.dto.response.DeltaResponse;
+import com.springreact.backend.dto.response.MultiGetResponse;
+import com.springreact.backend.dto.response.Outcome;
+import com.springreact.backend.dto.response.SalaryHistoryResponse;
+import jdk.jfr.EventType;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * ServiceEventAspect
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ * 19-10-2026       ThanhBT11           Count outcomes as messages
+ * 19-10-2026       ThanhBT11           Check event type before creating the event
+ */
+@Aspect
+@Component
+public class ServiceEventAspect {
+
+    private static final int NOT_ENTITY = -1;
+
+    //Enabled only while a recording enables the event, checked on every call before allocating it
+    private static final EventType EVENT_TYPE = EventType.getEventType(ServiceMethodEvent.class);
+
+    /**
+     * Record a ServiceMethodEvent around public methods of *Services beans.
+     * When the event is not enabled by a recording, the method is called directly and no event is created
+     *
+     * @param joinPoint service method call
+     * @return result of the method
+     * @throws Throwable exception of the method
+     */
+    @Around("execution(public * com.springreact.backend.services.*Services.*(..))")
+    public Object recordServiceMethod(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!EVENT_TYPE.isEnabled()) {
+            return joinPoint.proceed();
+        }
+
+        ServiceMethodEvent event = new ServiceMethodEvent();
+        event.begin();
+        Object result = null;
+        boolean failed = true;
+        try {
+            result = joinPoint.proceed();
+            failed = false;
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.set(joinPoint.getSignature().getDeclaringType().getSimpleName(),
+                        joinPoint.getSignature().getName(),
+                        failed ? NOT_ENTITY : entityCount(result),
+                        failed);
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Count entities of a service result
+     *
+     * @param result result of service method
+     * @return size of list, map or response, 1 for one entity, -1 for outcomes, messages and flags
+     */
+    private static int entityCount(Object result) {
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof Collection) {
+            return ((Collection<?>) result).size();
+        }
+        if (result instanceof Map) {
+            return ((Map<?, ?>) result).size();
+        }
+        if (result instanceof MultiGetResponse) {
+            return ((MultiGetResponse<?, ?>) result).getItems().size();
+        }
+        if (result instanceof DeltaResponse) {
+            return ((DeltaResponse<?>) result).getItems().size();
+        }
+        if (result instanceof SalaryHistoryResponse) {
+            return ((SalaryHistoryResponse) result).getIntervals().size();
+        }
+        if (result instanceof Optional) {
+            return ((Optional<?>) result).isPresent() ? 1 : 0;
+        }
+        if (result instanceof Outcome || result instanceof String || result instanceof Boolean
+                || result instanceof Number) {
+            return NOT_ENTITY;
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,60 @@
+package com.springreact.backend.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * ServiceMethodEvent
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ */
+@Name("com.springreact.ServiceMethod")
+@Label("Service Method")
+@Category({"React CRUD", "Services"})
+@Description("Call of a public method of a *Services bean")
+@Enabled(false)
+@StackTrace(false)
+public class ServiceMethodEvent extends Event {
+
+    @Label("Service")
+    String service;
+
+    @Label("Method")
+    String method;
+
+    @Label("Entity Count")
+    @Description("Rows or entities returned, -1 if the result is not an entity")
+    int entityCount;
+
+    @Label("Failed")
+    boolean failed;
+
+    /**
+     * Fill fields of a finished call
+     *
+     * @param service     simple class name of service
+     * @param method      method name
+     * @param entityCount rows or entities returned
+     * @param failed      true if the method threw
+     */
+    void set(String service, String method, int entityCount, boolean failed) {
+        this.service = service;
+        this.method = method;
+        this.entityCount = entityCount;
+        this.failed = failed;
+    }
+}
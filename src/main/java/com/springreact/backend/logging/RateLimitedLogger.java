@@ -0,0 +1,272 @@
+package com.springreact.backend.logging;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * RateLimitedLogger
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ * 19-10-2026       ThanhBT11           Flush summaries of ended windows on a timer
+ */
+public final class RateLimitedLogger {
+
+    /**
+     * Level of a rate limited message
+     */
+    private enum Level {
+        ERROR,
+        WARN
+    }
+
+    /**
+     * What to do with one message
+     */
+    private enum Decision {
+        WRITE,
+        SAMPLE,
+        SUPPRESS
+    }
+
+    private static volatile long windowMs = 10000;
+
+    private static volatile int burst = 5;
+
+    private static volatile int sampleEvery = 1000;
+
+    private static final ConcurrentMap<Class<?>, RateLimitedLogger> LOGGERS = new ConcurrentHashMap<>();
+
+    private final Logger logger;
+
+    private final ConcurrentMap<String, AtomicReference<Window>> windows = new ConcurrentHashMap<>();
+
+    /**
+     * RateLimitedLogger constructor(Logger)
+     *
+     * @param logger logger writing the messages
+     */
+    private RateLimitedLogger(Logger logger) {
+        this.logger = logger;
+    }
+
+    /**
+     * Get rate limited logger of a class, one per class so all of them can be flushed
+     *
+     * @param type class of the logger
+     * @return rate limited logger
+     */
+    public static RateLimitedLogger getLogger(Class<?> type) {
+        return LOGGERS.computeIfAbsent(type, t -> new RateLimitedLogger(LoggerFactory.getLogger(t)));
+    }
+
+    /**
+     * Set limits of every rate limited logger.
+     * In each window, the first messages (burst) of a key are written, later ones are suppressed
+     * except one of sampleEvery. Suppressed messages are summarized when the window ends,
+     * by the next message of the key or by {@link #flushExpired()}, whichever comes first.
+     *
+     * @param windowMs    window length in milliseconds
+     * @param burst       messages of a key written per window
+     * @param sampleEvery one of this many suppressed messages is still written, 0 writes none
+     */
+    public static void configure(long windowMs, int burst, int sampleEvery) {
+        RateLimitedLogger.windowMs = windowMs;
+        RateLimitedLogger.burst = burst;
+        RateLimitedLogger.sampleEvery = sampleEvery;
+    }
+
+    /**
+     * Write the summary of every ended window with suppressed messages, so a burst is reported
+     * even if the key is never logged again. Called on a timer
+     */
+    public static void flushExpired() {
+        long now = System.currentTimeMillis();
+        for (RateLimitedLogger rateLimitedLogger : LOGGERS.values()) {
+            for (Map.Entry<String, AtomicReference<Window>> entry : rateLimitedLogger.windows.entrySet()) {
+                Window window = entry.getValue().get();
+                if (now - window.start >= windowMs && window.suppressed.get() > 0
+                        && entry.getValue().compareAndSet(window, new Window(now, window.level))) {
+                    rateLimitedLogger.summarize(entry.getKey(), window, now);
+                }
+            }
+        }
+    }
+
+    /**
+     * Log at ERROR level, rate limited by key
+     *
+     * @param key    message key, messages with the same key are limited together
+     * @param format slf4j format
+     * @param arg    argument
+     */
+    public void error(String key, String format, Object arg) {
+        if (logger.isErrorEnabled()) {
+            Decision decision = acquire(Level.ERROR, key);
+            if (decision != Decision.SUPPRESS) {
+                logger.error(decorate(decision, key, format), arg);
+            }
+        }
+    }
+
+    /**
+     * Log at ERROR level, rate limited by key
+     *
+     * @param key       message key, messages with the same key are limited together
+     * @param format    slf4j format
+     * @param arguments arguments
+     */
+    public void error(String key, String format, Object... arguments) {
+        if (logger.isErrorEnabled()) {
+            Decision decision = acquire(Level.ERROR, key);
+            if (decision != Decision.SUPPRESS) {
+                logger.error(decorate(decision, key, format), arguments);
+            }
+        }
+    }
+
+    /**
+     * Log at WARN level, rate limited by key
+     *
+     * @param key    message key, messages with the same key are limited together
+     * @param format slf4j format
+     * @param arg    argument
+     */
+    public void warn(String key, String format, Object arg) {
+        if (logger.isWarnEnabled()) {
+            Decision decision = acquire(Level.WARN, key);
+            if (decision != Decision.SUPPRESS) {
+                logger.warn(decorate(decision, key, format), arg);
+            }
+        }
+    }
+
+    /**
+     * Log at WARN level, rate limited by key
+     *
+     * @param key       message key, messages with the same key are limited together
+     * @param format    slf4j format
+     * @param arguments arguments
+     */
+    public void warn(String key, String format, Object... arguments) {
+        if (logger.isWarnEnabled()) {
+            Decision decision = acquire(Level.WARN, key);
+            if (decision != Decision.SUPPRESS) {
+                logger.warn(decorate(decision, key, format), arguments);
+            }
+        }
+    }
+
+    /**
+     * Count a message of a key and decide if it is written, sampled or suppressed.
+     * The first message after a window with suppressed messages writes their summary first,
+     * unless {@link #flushExpired()} already did.
+     * Counters are approximate under contention, a message racing with the window switch may be lost from the summary.
+     *
+     * @param level level of the message, also used by the summary
+     * @param key   message key
+     * @return decision
+     */
+    private Decision acquire(Level level, String key) {
+        AtomicReference<Window> current = windows.get(key);
+        if (current == null) {
+            current = windows.computeIfAbsent(key,
+                    k -> new AtomicReference<>(new Window(System.currentTimeMillis(), level)));
+        }
+
+        long now = System.currentTimeMillis();
+        Window window = current.get();
+        if (now - window.start >= windowMs) {
+            if (current.compareAndSet(window, new Window(now, level))) {
+                summarize(key, window, now);
+            }
+            window = current.get();
+        }
+
+        int count = window.count.incrementAndGet();
+        if (count <= burst) {
+            return Decision.WRITE;
+        }
+
+        int every = sampleEvery;
+        if (every > 0 && (count - burst) % every == 0) {
+            return Decision.SAMPLE;
+        }
+        window.suppressed.incrementAndGet();
+        return Decision.SUPPRESS;
+    }
+
+    /**
+     * Write how many messages of an ended window were suppressed, at the level of the key
+     *
+     * @param key    message key
+     * @param window ended window
+     * @param now    end of the window in epoch milliseconds
+     */
+    private void summarize(String key, Window window, long now) {
+        long suppressed = window.suppressed.get();
+        if (suppressed > 0) {
+            String summary = "Suppressed {} similar messages of key '{}' in the last {} ms";
+            if (window.level == Level.ERROR) {
+                logger.error(summary, suppressed, key, now - window.start);
+            } else {
+                logger.warn(summary, suppressed, key, now - window.start);
+            }
+        }
+    }
+
+    /**
+     * Mark sampled messages, so readers know similar ones were left out
+     *
+     * @param decision WRITE or SAMPLE
+     * @param key      message key
+     * @param format   slf4j format
+     * @return format to write
+     */
+    private String decorate(Decision decision, String key, String format) {
+        if (decision == Decision.SAMPLE) {
+            return format + " (sampled 1 of " + sampleEvery + ", key '" + key + "')";
+        }
+        return format;
+    }
+
+    /**
+     * Counters of a key in one window
+     */
+    private static final class Window {
+
+        private final long start;
+
+        private final Level level;
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        private final AtomicLong suppressed = new AtomicLong();
+
+        /**
+         * Window constructor(long, Level)
+         *
+         * @param start window start in epoch milliseconds
+         * @param level level of the summary
+         */
+        private Window(long start, Level level) {
+            this.start = start;
+            this.level = level;
+        }
+    }
+}
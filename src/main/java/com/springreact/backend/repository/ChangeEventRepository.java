@@ -0,0 +1,44 @@
+package com.springreact.backend.repository;
+
+import com.springreact.backend.entity.ChangeEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * ChangeEventRepository
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ */
+@Repository
+public interface ChangeEventRepository extends JpaRepository<ChangeEvent, Long> {
+
+    /**
+     * Find events after an offset order by id (Ascending)
+     *
+     * @param id       offset, id of last event client received
+     * @param pageable max events to return
+     * @return event list
+     */
+    List<ChangeEvent> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    /**
+     * Find id of latest event
+     *
+     * @return latest event id, null if there are no events
+     */
+    @Query("select max(c.id) from ChangeEvent c")
+    Long findLatestId();
+}
@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,6 +22,7 @@ import java.util.Optional;
  * DATE             AUTHOR              DESCRIPTION
  * -------------------------------------------------
  * 07-06-2021       ThanhBT11           Create
+ * 19-10-2026       ThanhBT11           Add changed-since delta query
  */
 @Repository
 public interface DepartmentRepository extends JpaRepository<Department, Long> {
@@ -74,12 +76,17 @@ public interface DepartmentRepository extends JpaRepository<Department, Long> {
     @Query("SELECT d FROM Department d WHERE CONCAT(d.department, d.createdDate, d.fullName) LIKE %?1%  ")
     List<Department> findDepartmentsByKeyword(String keyword);
 
+    /**
+     * Find departments inserted, updated or soft deleted after a cursor order by (lastModified, id).
+     * Native query, so inactive rows are returned too
+     *
+     * @param since   last modified time of cursor
+     * @param afterId id of cursor
+     * @param limit   max rows to return
+     * @return list of departments
+     */
+    @Query(value = "SELECT * FROM department " +
+            "WHERE last_modified >= ?1 AND (last_modified > ?1 OR id > ?2) " +
+            "ORDER BY last_modified, id LIMIT ?3", nativeQuery = true)
+    List<Department> findChangedSince(Date since, Long afterId, int limit);
 }
-
-
-
-
-
-
-
-
@@ -3,10 +3,14 @@ package com.springreact.backend.repository;
 import com.springreact.backend.entity.Department;
 import com.springreact.backend.entity.Employee;
 import com.springreact.backend.entity.Role;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,10 +27,55 @@ import java.util.Optional;
  * DATE             AUTHOR              DESCRIPTION
  * -------------------------------------------------
  * 07-06-2021       ThanhBT11           Create
+ * 19-10-2026       ThanhBT11           Add changed-since delta query
+ * 19-10-2026       ThanhBT11           Add multi-get queries
+ * 19-10-2026       ThanhBT11           Fetch plans per query
+ * 19-10-2026       ThanhBT11           Add header projection
+ * 19-10-2026       ThanhBT11           Add paginated salary history by employee id
  */
 @Repository
 public interface EmployeesRepository extends JpaRepository<Employee, Long> {
 
+    /**
+     * Image column of an employee, only this column is selected
+     */
+    interface ImageOnly {
+
+        /**
+         * Get image
+         *
+         * @return image of employee
+         */
+        String getImage();
+    }
+
+    /**
+     * Id, name and email of an employee, only these columns are selected
+     */
+    interface Header {
+
+        /**
+         * Get id
+         *
+         * @return employee id
+         */
+        Long getId();
+
+        /**
+         * Get fullName
+         *
+         * @return employee name
+         */
+        String getFullName();
+
+        /**
+         * Get email
+         *
+         * @return employee email
+         */
+        String getEmail();
+    }
+
     /**
      * Find employee by email
      *
@@ -48,8 +97,19 @@ public interface EmployeesRepository extends JpaRepository<Employee, Long> {
      *
      * @return list of employees
      */
+    @EntityGraph(Employee.WITH_ROLE_AND_DEPARTMENT)
     List<Employee> findAllByOrderByIdDesc();
 
+    /**
+     * Find next page of employees order by id (Descending), keyset pagination
+     *
+     * @param id       id of last employee in previous page
+     * @param pageable page size
+     * @return list of employees
+     */
+    @EntityGraph(Employee.WITH_ROLE_AND_DEPARTMENT)
+    List<Employee> findByIdLessThanOrderByIdDesc(Long id, Pageable pageable);
+
     /**
      * Find distinct addresses
      *
@@ -64,6 +124,7 @@ public interface EmployeesRepository extends JpaRepository<Employee, Long> {
      * @param keyword to search employee
      * @return list employees by keyword
      */
+    @EntityGraph(Employee.WITH_ROLE_AND_DEPARTMENT)
     @Query("SELECT e FROM Employee e WHERE CONCAT(e.fullName, e.address, e.email, e.gender, e.phone) LIKE %?1%  ")
     List<Employee> findEmployees(String keyword);
 
@@ -75,6 +136,48 @@ public interface EmployeesRepository extends JpaRepository<Employee, Long> {
      */
     Optional<Employee> findByEmail(String email);
 
+    /**
+     * Find employee by email with role and department, fetch plan of employee detail
+     *
+     * @param email to find employee
+     * @return employee optional
+     */
+    @EntityGraph(Employee.WITH_ROLE_AND_DEPARTMENT)
+    Optional<Employee> findWithRoleAndDepartmentByEmail(String email);
+
+    /**
+     * Find employee by email with role only, fetch plan of authentication
+     *
+     * @param email to find employee
+     * @return employee optional
+     */
+    @EntityGraph(Employee.WITH_ROLE)
+    Optional<Employee> findWithRoleByEmail(String email);
+
+    /**
+     * Find image of employee by email without loading the employee
+     *
+     * @param email to find employee
+     * @return image optional, empty if employee does not exist
+     */
+    Optional<ImageOnly> findImageByEmail(String email);
+
+    /**
+     * Find id, name and email of employee by email without loading the employee
+     *
+     * @param email to find employee
+     * @return header optional
+     */
+    Optional<Header> findHeaderByEmail(String email);
+
+    /**
+     * Find id, name and email of employee by id without loading the employee
+     *
+     * @param id to find employee
+     * @return header optional
+     */
+    Optional<Header> findHeaderById(Long id);
+
     /**
      * Check exist employee by email
      *
@@ -92,6 +195,42 @@ public interface EmployeesRepository extends JpaRepository<Employee, Long> {
     @Override
     Optional<Employee> findById(Long aLong);
 
+    /**
+     * Find employee by id with role and department, fetch plan of employee detail
+     *
+     * @param id to find employee
+     * @return employee optional
+     */
+    @EntityGraph(Employee.WITH_ROLE_AND_DEPARTMENT)
+    Optional<Employee> findWithRoleAndDepartmentById(Long id);
+
+    /**
+     * Find all employees with role and department
+     *
+     * @return list of employees
+     */
+    @Override
+    @EntityGraph(Employee.WITH_ROLE_AND_DEPARTMENT)
+    List<Employee> findAll();
+
+    /**
+     * Find employees by ids in one IN query, role and department are fetched by join
+     *
+     * @param ids ids to find
+     * @return found employees, any order
+     */
+    @EntityGraph(Employee.WITH_ROLE_AND_DEPARTMENT)
+    List<Employee> findByIdIn(Collection<Long> ids);
+
+    /**
+     * Find employees by emails in one IN query, role and department are fetched by join
+     *
+     * @param emails emails to find
+     * @return found employees, any order
+     */
+    @EntityGraph(Employee.WITH_ROLE_AND_DEPARTMENT)
+    List<Employee> findByEmailIn(Collection<String> emails);
+
     /**
      * Find employee by reset password token
      *
@@ -138,15 +277,21 @@ public interface EmployeesRepository extends JpaRepository<Employee, Long> {
      * @param keyword to find employee
      * @return employee list by full name and email
      */
+    @EntityGraph(Employee.WITH_ROLE_AND_DEPARTMENT)
     @Query("SELECT e FROM Employee e WHERE CONCAT(e.fullName, e.email) LIKE %?1%  ")
     List<Employee> findEmployeesByFullNameAndEmail(String keyword);
-}
-
-
-
-
-
-
-
-
 
+    /**
+     * Find employees inserted, updated or soft deleted after a cursor order by (lastModified, id).
+     * Native query, so inactive rows are returned too
+     *
+     * @param since   last modified time of cursor
+     * @param afterId id of cursor
+     * @param limit   max rows to return
+     * @return list of employees
+     */
+    @Query(value = "SELECT * FROM employees " +
+            "WHERE last_modified >= ?1 AND (last_modified > ?1 OR id > ?2) " +
+            "ORDER BY last_modified, id LIMIT ?3", nativeQuery = true)
+    List<Employee> findChangedSince(Date since, Long afterId, int limit);
+}
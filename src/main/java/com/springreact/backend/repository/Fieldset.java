@@ -0,0 +1,114 @@
+package com.springreact.backend.repository;
+
+import com.springreact.backend.constant.Message;
+import com.springreact.backend.exception.InvalidFieldException;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Fieldset
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ */
+public final class Fieldset {
+
+    private static final char NESTED_SEPARATOR = '.';
+
+    //Output field name to entity attribute path, "role.id" is written as {"role": {"id": ...}}
+    private final Map<String, String> paths;
+
+    /**
+     * Fieldset constructor(Map<String, String>)
+     *
+     * @param paths ordered output field name to entity attribute path
+     */
+    private Fieldset(Map<String, String> paths) {
+        this.paths = Collections.unmodifiableMap(paths);
+    }
+
+    /**
+     * Define all fields of a response
+     *
+     * @param namesAndPaths output field name followed by its entity attribute path, repeated
+     * @return fieldset
+     */
+    public static Fieldset of(String... namesAndPaths) {
+        Map<String, String> paths = new LinkedHashMap<>();
+        for (int i = 0; i < namesAndPaths.length; i += 2) {
+            paths.put(namesAndPaths[i], namesAndPaths[i + 1]);
+        }
+        return new Fieldset(paths);
+    }
+
+    /**
+     * Select fields requested by client, "role" selects every "role.*" field
+     *
+     * @param fields comma separated field names
+     * @return selected fieldset in definition order, this fieldset if nothing is requested
+     */
+    public Fieldset select(String fields) {
+        if (fields == null || fields.trim().isEmpty()) {
+            return this;
+        }
+
+        Map<String, String> selectedPaths = new LinkedHashMap<>();
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            boolean isFieldExist = false;
+
+            for (Map.Entry<String, String> path : paths.entrySet()) {
+                String outputName = path.getKey();
+                if (outputName.equals(name)
+                        || (outputName.startsWith(name) && outputName.charAt(name.length()) == NESTED_SEPARATOR)) {
+                    selectedPaths.put(outputName, path.getValue());
+                    isFieldExist = true;
+                }
+            }
+
+            if (!isFieldExist) {
+                throw new InvalidFieldException(Message.INVALID_FIELD + name);
+            }
+        }
+
+        //Keep definition order, so the same set of fields always gives the same key
+        Map<String, String> orderedPaths = new LinkedHashMap<>();
+        for (Map.Entry<String, String> path : paths.entrySet()) {
+            if (selectedPaths.containsKey(path.getKey())) {
+                orderedPaths.put(path.getKey(), path.getValue());
+            }
+        }
+        return new Fieldset(orderedPaths);
+    }
+
+    /**
+     * Get selected paths
+     *
+     * @return ordered output field name to entity attribute path
+     */
+    public Map<String, String> getPaths() {
+        return paths;
+    }
+
+    /**
+     * Cache key of selected fields
+     *
+     * @return comma separated output field names
+     */
+    public String key() {
+        return String.join(",", paths.keySet());
+    }
+}
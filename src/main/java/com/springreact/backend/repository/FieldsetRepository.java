@@ -0,0 +1,160 @@
+package com.springreact.backend.repository;
+
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Tuple;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.From;
+import javax.persistence.criteria.JoinType;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Selection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * FieldsetRepository
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ */
+@Repository
+public class FieldsetRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Add where and order by clause to a fieldset query
+     *
+     * @param <T> entity type
+     */
+    public interface Restriction<T> {
+
+        /**
+         * Restrict query
+         *
+         * @param criteriaBuilder criteriaBuilder
+         * @param query           tuple query
+         * @param root            entity root
+         */
+        void apply(CriteriaBuilder criteriaBuilder, CriteriaQuery<Tuple> query, Root<T> root);
+    }
+
+    /**
+     * Select only the fields of a fieldset, so unselected columns and associations are never read
+     *
+     * @param entityType  entity to select from
+     * @param fieldset    selected fields
+     * @param restriction where and order by clause
+     * @param <T>         entity type
+     * @return one map per row, output field name to value
+     */
+    public <T> List<Map<String, Object>> findAll(Class<T> entityType,
+                                                 Fieldset fieldset,
+                                                 Restriction<T> restriction) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<T> root = query.from(entityType);
+
+        //One left join per association, shared by all of its fields
+        Map<String, From<?, ?>> joins = new HashMap<>();
+        List<Selection<?>> selections = new ArrayList<>();
+        for (String attributePath : fieldset.getPaths().values()) {
+            selections.add(path(root, attributePath, joins));
+        }
+
+        query.multiselect(selections);
+        restriction.apply(criteriaBuilder, query, root);
+
+        List<Tuple> tuples = entityManager.createQuery(query).getResultList();
+        List<Map<String, Object>> rows = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            rows.add(toRow(fieldset, tuple));
+        }
+        return rows;
+    }
+
+    /**
+     * Resolve attribute path like "role.role", joining associations on the way
+     *
+     * @param root          entity root
+     * @param attributePath dot separated attribute path
+     * @param joins         joins created so far
+     * @return attribute path expression
+     */
+    private static Path<?> path(Root<?> root, String attributePath, Map<String, From<?, ?>> joins) {
+        String[] attributes = attributePath.split("\\.");
+        From<?, ?> from = root;
+        StringBuilder joinPath = new StringBuilder();
+
+        for (int i = 0; i < attributes.length - 1; i++) {
+            joinPath.append('.').append(attributes[i]);
+            From<?, ?> parent = from;
+            String attribute = attributes[i];
+            from = joins.computeIfAbsent(joinPath.toString(), key -> parent.join(attribute, JoinType.LEFT));
+        }
+        return from.get(attributes[attributes.length - 1]);
+    }
+
+    /**
+     * Convert tuple to map, "role.id" and "role.role" become nested map "role",
+     * nested map is null when the association is null
+     *
+     * @param fieldset selected fields
+     * @param tuple    query row
+     * @return output field name to value
+     */
+    private static Map<String, Object> toRow(Fieldset fieldset, Tuple tuple) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        Map<String, Map<String, Object>> nestedRows = new LinkedHashMap<>();
+        int index = 0;
+
+        for (String outputName : fieldset.getPaths().keySet()) {
+            Object value = tuple.get(index++);
+            int separator = outputName.indexOf('.');
+
+            if (separator < 0) {
+                row.put(outputName, value);
+                continue;
+            }
+
+            String parentName = outputName.substring(0, separator);
+            Map<String, Object> nestedRow = nestedRows.get(parentName);
+            if (nestedRow == null) {
+                nestedRow = new LinkedHashMap<>();
+                nestedRows.put(parentName, nestedRow);
+                row.put(parentName, nestedRow);
+            }
+            nestedRow.put(outputName.substring(separator + 1), value);
+        }
+
+        for (Map.Entry<String, Map<String, Object>> nestedRow : nestedRows.entrySet()) {
+            boolean isNull = true;
+            for (Object value : nestedRow.getValue().values()) {
+                if (value != null) {
+                    isNull = false;
+                    break;
+                }
+            }
+            if (isNull) {
+                row.put(nestedRow.getKey(), null);
+            }
+        }
+        return row;
+    }
+}
@@ -1,9 +1,15 @@
 package com.springreact.backend.repository;
 
+import com.springreact.backend.entity.Employee;
 import com.springreact.backend.entity.Salary;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,10 +26,56 @@ import java.util.Optional;
  * DATE             AUTHOR              DESCRIPTION
  * -------------------------------------------------
  * 07-06-2021       ThanhBT11           Create
+ * 19-10-2026       ThanhBT11           Add changed-since delta query
+ * 19-10-2026       ThanhBT11           Add multi-get queries
+ * 19-10-2026       ThanhBT11           Fetch plans per query
+ * 19-10-2026       ThanhBT11           Add compact salary history
+ * 19-10-2026       ThanhBT11           Add paginated salary history by employee id
  */
 @Repository
 public interface SalaryRepository extends JpaRepository<Salary, Long> {
 
+    /**
+     * Salary columns of a history row, employee is not selected
+     */
+    interface SalaryInterval {
+
+        /**
+         * Get id
+         *
+         * @return salary id
+         */
+        Long getId();
+
+        /**
+         * Get salary
+         *
+         * @return salary amount
+         */
+        Integer getSalary();
+
+        /**
+         * Get createdDate
+         *
+         * @return issue date, yyyy-MM-dd
+         */
+        String getCreatedDate();
+
+        /**
+         * Get endDate
+         *
+         * @return end date, yyyy-MM-dd, null if salary is current
+         */
+        String getEndDate();
+
+        /**
+         * Get active
+         *
+         * @return true if salary is current
+         */
+        Boolean getActive();
+    }
+
     /**
      * Find salaries by full name of employee
      *
@@ -38,6 +90,7 @@ public interface SalaryRepository extends JpaRepository<Salary, Long> {
      * @param email employee email
      * @return salary list
      */
+    @EntityGraph(Salary.WITH_EMPLOYEE)
     List<Salary> findByEmployee_Email(String email);
 
     /**
@@ -46,8 +99,26 @@ public interface SalaryRepository extends JpaRepository<Salary, Long> {
      * @param active salary is available or not
      * @return salary list
      */
+    @EntityGraph(Salary.WITH_EMPLOYEE)
     List<Salary> findAllByActiveEqualsOrderById(Boolean active);
 
+    /**
+     * Find active salaries of some employees
+     *
+     * @param employees employee list
+     * @return salary list
+     */
+    List<Salary> findByActiveTrueAndEmployeeIn(Collection<Employee> employees);
+
+    /**
+     * Find salaries by ids in one IN query, employee is fetched by join
+     *
+     * @param ids ids to find
+     * @return found salaries, any order
+     */
+    @EntityGraph(Salary.WITH_EMPLOYEE)
+    List<Salary> findByIdIn(Collection<Long> ids);
+
     /**
      * Check exist by employee email and issue date of salary
      *
@@ -64,5 +135,72 @@ public interface SalaryRepository extends JpaRepository<Salary, Long> {
      * @param createdDate to find salary
      * @return salary by employee email and create date
      */
+    @EntityGraph(Salary.WITH_EMPLOYEE)
     Salary findByEmployee_EmailAndCreatedDate(String email, String createdDate);
+
+    /**
+     * Find salary by id with its employee, fetch plan of salary detail
+     *
+     * @param id to find salary
+     * @return salary optional
+     */
+    @EntityGraph(Salary.WITH_EMPLOYEE)
+    Optional<Salary> findWithEmployeeById(Long id);
+
+    /**
+     * Find salary history of an employee, only salary columns are selected
+     *
+     * @param employeeId id of employee
+     * @return salary intervals order by created date
+     */
+    @Query("SELECT s.id AS id, s.salary AS salary, s.createdDate AS createdDate, " +
+            "s.endDate AS endDate, s.active AS active FROM Salary s " +
+            "WHERE s.employee.id = ?1 ORDER BY s.createdDate, s.id")
+    List<SalaryInterval> findIntervalsByEmployeeId(Long employeeId);
+
+    /**
+     * Find a page of salary history of an employee order by created date descendant, keyset pagination.
+     * Dates are yyyy-MM-dd strings, so comparing string is comparing date
+     *
+     * @param employeeId      id of employee
+     * @param from            min created date, inclusive
+     * @param to              max created date, inclusive
+     * @param beforeDate      created date of last row in previous page
+     * @param beforeId        id of last row in previous page
+     * @param pageable        page size
+     * @return salary intervals
+     */
+    @Query("SELECT s.id AS id, s.salary AS salary, s.createdDate AS createdDate, " +
+            "s.endDate AS endDate, s.active AS active FROM Salary s " +
+            "WHERE s.employee.id = ?1 AND s.createdDate >= ?2 AND s.createdDate <= ?3 " +
+            "AND (s.createdDate < ?4 OR (s.createdDate = ?4 AND s.id < ?5)) " +
+            "ORDER BY s.createdDate DESC, s.id DESC")
+    List<SalaryInterval> findIntervalPageByEmployeeId(Long employeeId,
+                                                      String from,
+                                                      String to,
+                                                      String beforeDate,
+                                                      Long beforeId,
+                                                      Pageable pageable);
+
+    /**
+     * Find all salaries of an employee by employee id order by created date
+     *
+     * @param employeeId id of employee
+     * @return salary list
+     */
+    List<Salary> findByEmployee_IdOrderByCreatedDateAscIdAsc(Long employeeId);
+
+    /**
+     * Find salaries inserted, updated or soft deleted after a cursor order by (lastModified, id).
+     * Native query, so inactive rows are returned too
+     *
+     * @param since   last modified time of cursor
+     * @param afterId id of cursor
+     * @param limit   max rows to return
+     * @return list of salaries
+     */
+    @Query(value = "SELECT * FROM salary " +
+            "WHERE last_modified >= ?1 AND (last_modified > ?1 OR id > ?2) " +
+            "ORDER BY last_modified, id LIMIT ?3", nativeQuery = true)
+    List<Salary> findChangedSince(Date since, Long afterId, int limit);
 }
@@ -1,5 +1,6 @@
 package com.springreact.backend.security;
 
+import com.springreact.backend.jfr.InstrumentedPasswordEncoder;
 import com.springreact.backend.security.jwt.AuthEntryPointJwt;
 import com.springreact.backend.security.jwt.AuthTokenFilter;
 import com.springreact.backend.security.service.UserDetailsServiceImpl;
@@ -29,6 +30,8 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
  * DATE             AUTHOR              DESCRIPTION
  * -------------------------------------------------
  * 07-06-2021       ThanhBT11           Create
+ * 19-10-2026       ThanhBT11           Add flight recorder events
+ * 19-10-2026       ThanhBT11           Permit health probes
  */
 @Configuration
 @EnableWebSecurity
@@ -89,13 +92,13 @@ public class WebSecurityConfig extends WebSecurityConfigurerAdapter {
     }
 
     /**
-     * BCryptPasswordEncoder
+     * BCryptPasswordEncoder, hashing is recorded as PasswordHashEvent
      *
      * @return new BCryptPasswordEncoder
      */
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new InstrumentedPasswordEncoder(new BCryptPasswordEncoder());
     }
 
     /**
@@ -114,6 +117,8 @@ public class WebSecurityConfig extends WebSecurityConfigurerAdapter {
                 //Permit all authentication api
                 .authorizeRequests().antMatchers("/api/auth/**").permitAll()
                 .antMatchers("/api/v1/**").permitAll()
+                //Liveness and readiness probes can not send a token, other actuator endpoints stay protected
+                .antMatchers("/actuator/health/**").permitAll()
                 .anyRequest().authenticated();
 
         //JWT Filter
@@ -1,7 +1,6 @@
 package com.springreact.backend.security.jwt;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import com.springreact.backend.logging.RateLimitedLogger;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.stereotype.Component;
@@ -24,11 +23,12 @@ import java.io.IOException;
  * DATE             AUTHOR              DESCRIPTION
  * -------------------------------------------------
  * 07-06-2021       ThanhBT11           Create
+ * 19-10-2026       ThanhBT11           Rate limit unauthorized logs
  */
 @Component
 public class AuthEntryPointJwt implements AuthenticationEntryPoint {
 
-    private static final Logger logger = LoggerFactory.getLogger(AuthEntryPointJwt.class);
+    private static final RateLimitedLogger logger = RateLimitedLogger.getLogger(AuthEntryPointJwt.class);
 
     /**
      * Throw HttpStatus 401
@@ -45,7 +45,7 @@ public class AuthEntryPointJwt implements AuthenticationEntryPoint {
                          AuthenticationException authException)
             throws IOException, ServletException {
 
-        logger.error("Unauthorized error: {}", authException.getMessage());
+        logger.error("auth.unauthorized", "Unauthorized error: {}", authException.getMessage());
         response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Error: Unauthorized");
     }
 
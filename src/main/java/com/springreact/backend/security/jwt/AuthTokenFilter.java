@@ -1,8 +1,8 @@
 package com.springreact.backend.security.jwt;
 
+import com.springreact.backend.jfr.AuthTokenEvent;
+import com.springreact.backend.logging.RateLimitedLogger;
 import com.springreact.backend.security.service.UserDetailsServiceImpl;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -30,6 +30,8 @@ import java.io.IOException;
  * DATE             AUTHOR              DESCRIPTION
  * -------------------------------------------------
  * 07-06-2021       ThanhBT11           Create
+ * 19-10-2026       ThanhBT11           Add flight recorder events
+ * 19-10-2026       ThanhBT11           Rate limit authentication error logs
  */
 public class AuthTokenFilter extends OncePerRequestFilter {
 
@@ -39,8 +41,8 @@ public class AuthTokenFilter extends OncePerRequestFilter {
     @Autowired
     private UserDetailsServiceImpl userDetailsService;
 
-    private static final Logger logger =
-            LoggerFactory.getLogger(AuthTokenFilter.class);
+    private static final RateLimitedLogger logger =
+            RateLimitedLogger.getLogger(AuthTokenFilter.class);
 
     /**
      * Doing filter Json Web Token is valid or not
@@ -59,13 +61,30 @@ public class AuthTokenFilter extends OncePerRequestFilter {
             throws ServletException, IOException {
 
         try {
+            AuthTokenEvent parseEvent = AuthTokenEvent.start(AuthTokenEvent.PARSE);
             String jwt = parseJwt(request);
+            parseEvent.finish(jwt != null);
 
             //Check validate jwt or not
-            if (jwt != null && jwtUtils.validateJwtToken(jwt)) {
+            boolean isValid = false;
+            if (jwt != null) {
+                AuthTokenEvent verifyEvent = AuthTokenEvent.start(AuthTokenEvent.VERIFY);
+                isValid = jwtUtils.validateJwtToken(jwt);
+                verifyEvent.finish(isValid);
+            }
+
+            if (isValid) {
                 String username = jwtUtils.getUserNameFromJwtToken(jwt);
 
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+                AuthTokenEvent principalEvent = AuthTokenEvent.start(AuthTokenEvent.PRINCIPAL);
+                UserDetails userDetails;
+                try {
+                    userDetails = userDetailsService.loadUserByUsername(username);
+                } catch (RuntimeException e) {
+                    principalEvent.finish(false);
+                    throw e;
+                }
+                principalEvent.finish(true);
                 //Doing authentication base on userDetails get by jwt
                 UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
                         userDetails, null, userDetails.getAuthorities()
@@ -77,7 +96,7 @@ public class AuthTokenFilter extends OncePerRequestFilter {
                 SecurityContextHolder.getContext().setAuthentication(authentication);
             }
         } catch (Exception e) {
-            logger.error("Cannot set user authentication: {}" + e.getMessage());
+            logger.error("auth.authentication", "Cannot set user authentication: {}", e.getMessage());
         }
         filterChain.doFilter(request, response);
     }
@@ -1,9 +1,8 @@
 package com.springreact.backend.security.jwt;
 
+import com.springreact.backend.logging.RateLimitedLogger;
 import com.springreact.backend.security.service.UserDetailsImpl;
 import io.jsonwebtoken.*;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
@@ -23,12 +22,13 @@ import java.util.Date;
  * DATE             AUTHOR              DESCRIPTION
  * -------------------------------------------------
  * 07-06-2021       ThanhBT11           Create
+ * 19-10-2026       ThanhBT11           Rate limit JWT validation logs
  */
 @Component
 public class JwtUtils {
 
-    private static final Logger logger =
-            LoggerFactory.getLogger(JwtUtils.class);
+    private static final RateLimitedLogger logger =
+            RateLimitedLogger.getLogger(JwtUtils.class);
 
     @Value("${reactCrud.app.jwtSecret}")
     private String jwtSecret;
@@ -67,15 +67,15 @@ public class JwtUtils {
             Jwts.parser().setSigningKey(jwtSecret).parseClaimsJws(authToken);
             return true;
         } catch (SignatureException e) {
-            logger.error("Invalid JWT signature: {}", e.getMessage());
+            logger.error("jwt.signature", "Invalid JWT signature: {}", e.getMessage());
         } catch (MalformedJwtException e) {
-            logger.error("Invalid JWT token: {}", e.getMessage());
+            logger.error("jwt.malformed", "Invalid JWT token: {}", e.getMessage());
         } catch (ExpiredJwtException e) {
-            logger.error("JWT token is expired: {}", e.getMessage());
+            logger.error("jwt.expired", "JWT token is expired: {}", e.getMessage());
         } catch (UnsupportedJwtException e) {
-            logger.error("JWT token is unsupported: {}", e.getMessage());
+            logger.error("jwt.unsupported", "JWT token is unsupported: {}", e.getMessage());
         } catch (IllegalArgumentException e) {
-            logger.error("JWT claims string is empty: {}", e.getMessage());
+            logger.error("jwt.empty", "JWT claims string is empty: {}", e.getMessage());
         }
         return false;
     }
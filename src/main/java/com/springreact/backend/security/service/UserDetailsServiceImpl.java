@@ -23,6 +23,8 @@ import org.springframework.transaction.annotation.Transactional;
  * DATE             AUTHOR              DESCRIPTION
  * -------------------------------------------------
  * 07-06-2021       ThanhBT11           Create
+ * 19-10-2026       ThanhBT11           Add read-only transactions
+ * 19-10-2026       ThanhBT11           Load employee with role only
  */
 @Service
 public class UserDetailsServiceImpl implements UserDetailsService {
@@ -47,11 +49,11 @@ public class UserDetailsServiceImpl implements UserDetailsService {
      * @throws UsernameNotFoundException throw UsernameNotFoundException
      */
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String username)
             throws UsernameNotFoundException {
 
-        Employee employee = employeesRepository.findByEmail(username)
+        Employee employee = employeesRepository.findWithRoleByEmail(username)
                 .orElseThrow(() -> new
                         ResourceNotFoundException("Employee no longer existed" +
                         " with username " + username)
@@ -5,6 +5,8 @@ import com.springreact.backend.dto.request.LoginRequest;
 import com.springreact.backend.dto.request.SignupRequest;
 import com.springreact.backend.dto.response.JwtResponse;
 import com.springreact.backend.dto.response.MessageResponse;
+import com.springreact.backend.entity.EChangeAction;
+import com.springreact.backend.entity.EChangeAggregate;
 import com.springreact.backend.entity.ERole;
 import com.springreact.backend.entity.Employee;
 import com.springreact.backend.entity.Role;
@@ -21,6 +23,7 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.RequestBody;
 
 import java.util.HashSet;
@@ -41,6 +44,8 @@ import java.util.stream.Collectors;
  * DATE             AUTHOR              DESCRIPTION
  * -------------------------------------------------
  * 07-06-2021       ThanhBT11           Create
+ * 19-10-2026       ThanhBT11           Add read-only transactions
+ * 19-10-2026       ThanhBT11           Record change events
  */
 @Service
 public class AuthServices {
@@ -58,6 +63,8 @@ public class AuthServices {
 
     private final JwtUtils jwtUtils;
 
+    private final ChangeEventServices changeEventServices;
+
     /**
      * AutServices controller(AuthenticationManager, EmployeesRepository, RoleRepository, PasswordEncoder)
      *
@@ -66,18 +73,21 @@ public class AuthServices {
      * @param roleRepository        roleRepository
      * @param encoder               encoder
      * @param jwtUtils              jwtUtils
+     * @param changeEventServices   changeEventServices
      */
     @Autowired
     public AuthServices(AuthenticationManager authenticationManager,
                         EmployeesRepository employeesRepository,
                         RoleRepository roleRepository,
                         PasswordEncoder encoder,
-                        JwtUtils jwtUtils) {
+                        JwtUtils jwtUtils,
+                        ChangeEventServices changeEventServices) {
         this.authenticationManager = authenticationManager;
         this.employeesRepository = employeesRepository;
         this.roleRepository = roleRepository;
         this.encoder = encoder;
         this.jwtUtils = jwtUtils;
+        this.changeEventServices = changeEventServices;
     }
 
     /**
@@ -118,6 +128,7 @@ public class AuthServices {
      * @param signUpRequest contains some sign up information
      * @return MessageResponse
      */
+    @Transactional
     public ResponseEntity<?> registerUser(@RequestBody SignupRequest signUpRequest) {
         //Check if password equals to confirm password
         if (signUpRequest.getPassword().equals(signUpRequest.getConfirmPassword())) {
@@ -167,6 +178,7 @@ public class AuthServices {
             employee.setRole(roles.iterator().next());
             employee.setActive(true);
             employeesRepository.save(employee);
+            changeEventServices.record(EChangeAggregate.EMPLOYEE, employee.getId(), EChangeAction.CREATED);
 
             return ResponseEntity.ok(new MessageResponse(Message.REGISTER_SUCCESS));
         } else {
@@ -0,0 +1,383 @@
+package com.springreact.backend.services;
+
+import com.springreact.backend.entity.ChangeEvent;
+import com.springreact.backend.logging.RateLimitedLogger;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * ChangeEventRelay
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ * 19-10-2026       ThanhBT11           Publish past skipped ids and read them again later
+ * 19-10-2026       ThanhBT11           Hold published id below open gaps, publish in id order
+ */
+@Component
+public class ChangeEventRelay {
+
+    private static final int MAX_PENDING_GAPS = 1_000;
+
+    private final ChangeEventServices changeEventServices;
+
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+
+    private final RateLimitedLogger logger = RateLimitedLogger.getLogger(this.getClass());
+
+    private final Counter expiredGapCounter;
+
+    private final Counter untrackedGapCounter;
+
+    @Value("${reactCrud.app.outbox.batchSize:500}")
+    private int batchSize;
+
+    @Value("${reactCrud.app.outbox.gapTimeoutMs:10000}")
+    private long gapTimeoutMs;
+
+    @Value("${reactCrud.app.outbox.streamTimeoutMs:1800000}")
+    private long streamTimeoutMs;
+
+    /**
+     * Highest event id published to subscribers, -1 until resolved from outbox table.
+     * Every id up to it is published or given up, so events are delivered in id order
+     */
+    private volatile long publishedId = -1L;
+
+    /**
+     * Skipped id ranges above published id by first id, an id is skipped when its transaction
+     * has not committed yet, was rolled back, or auto increment jumped over it
+     */
+    private final ConcurrentSkipListMap<Long, Gap> pendingGaps = new ConcurrentSkipListMap<>();
+
+    /**
+     * ChangeEventRelay constructor(ChangeEventServices, MeterRegistry)
+     *
+     * @param changeEventServices changeEventServices
+     * @param meterRegistry       meterRegistry
+     */
+    public ChangeEventRelay(ChangeEventServices changeEventServices, MeterRegistry meterRegistry) {
+        this.changeEventServices = changeEventServices;
+        this.expiredGapCounter = Counter.builder("outbox.gaps")
+                .tag("result", "expired")
+                .description("Skipped outbox ids given up after gapTimeoutMs")
+                .register(meterRegistry);
+        this.untrackedGapCounter = Counter.builder("outbox.gaps")
+                .tag("result", "untracked")
+                .description("Skipped outbox ids not tracked because pending gaps are full")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Subscribe to Server-Sent Events from an offset
+     *
+     * @param offset id of last event client received, negative to start from now
+     * @return sse emitter
+     */
+    public SseEmitter subscribeStream(long offset) {
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+        StreamSubscriber subscriber = new StreamSubscriber(emitter, startOffset(offset));
+
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+
+        return emitter;
+    }
+
+    /**
+     * Long poll events after an offset, return as soon as there are events or when timeout
+     *
+     * @param offset    id of last event client received, negative to start from now
+     * @param timeoutMs max waiting time
+     * @return deferred event list
+     */
+    public DeferredResult<List<ChangeEvent>> poll(long offset, long timeoutMs) {
+        DeferredResult<List<ChangeEvent>> result =
+                new DeferredResult<>(timeoutMs, Collections.emptyList());
+        long startOffset = startOffset(offset);
+
+        //Client is behind, answer right away
+        if (startOffset < publishedId) {
+            result.setResult(readPublished(startOffset));
+            return result;
+        }
+
+        PollSubscriber subscriber = new PollSubscriber(result, startOffset);
+        result.onCompletion(() -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+
+        return result;
+    }
+
+    /**
+     * Read new events from outbox table and push them to subscribers in id order.
+     * Publishing stops below a skipped id until it commits or is skipped for gapTimeoutMs,
+     * a transaction committing after a later id is published in its place, not after it.
+     */
+    @Scheduled(fixedDelayString = "${reactCrud.app.outbox.pollIntervalMs:500}")
+    public void relay() {
+        long previousId = resolvePublishedId();
+
+        List<ChangeEvent> batch = releaseInOrder(previousId,
+                changeEventServices.findEventsAfter(previousId, batchSize));
+
+        if (!batch.isEmpty()) {
+            publishedId = batch.get(batch.size() - 1).getId();
+        }
+
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.getOffset() >= publishedId) {
+                continue;
+            }
+
+            //Subscriber is up to date before this batch, reuse it, otherwise read its next page
+            List<ChangeEvent> events = subscriber.getOffset() == previousId
+                    ? batch
+                    : readPublished(subscriber.getOffset());
+
+            if (!subscriber.deliver(events)) {
+                subscribers.remove(subscriber);
+            }
+        }
+    }
+
+    /**
+     * Leading events of a batch without an open gap before them.
+     * A gap is open until gapTimeoutMs after it was first seen, then its ids are given up
+     *
+     * @param offset id the batch was read after, published id
+     * @param batch  events in id order
+     * @return events to publish
+     */
+    private List<ChangeEvent> releaseInOrder(long offset, List<ChangeEvent> batch) {
+        forgetGapsUpTo(offset);
+
+        long now = System.currentTimeMillis();
+        long expectedId = offset + 1;
+        List<ChangeEvent> released = new ArrayList<>();
+
+        for (ChangeEvent event : batch) {
+            if (event.getId() > expectedId) {
+                Long since = gapSince(expectedId, event.getId() - 1, now);
+                if (since == null || now - since < gapTimeoutMs) {
+                    break;
+                }
+
+                long skipped = event.getId() - expectedId;
+                expiredGapCounter.increment(skipped);
+                logger.warn("outbox.gapExpired", "Give up {} change event ids from {}, skipped for {} ms",
+                        skipped, expectedId, now - since);
+            }
+
+            released.add(event);
+            expectedId = event.getId() + 1;
+        }
+
+        return released;
+    }
+
+    /**
+     * Since when ids of a gap are skipped, the gap is tracked on first sight.
+     * A gap left after part of a tracked gap committed keeps the time of the tracked one
+     *
+     * @param firstId first skipped id
+     * @param lastId  last skipped id
+     * @param now     current time
+     * @return first sight time, null if the gap can not be tracked
+     */
+    private Long gapSince(long firstId, long lastId, long now) {
+        Long since = null;
+        for (Gap gap : pendingGaps.headMap(lastId, true).values()) {
+            if (gap.lastId >= firstId && (since == null || gap.since < since)) {
+                since = gap.since;
+            }
+        }
+        if (since != null) {
+            return since;
+        }
+
+        if (pendingGaps.size() >= MAX_PENDING_GAPS) {
+            untrackedGapCounter.increment(lastId - firstId + 1);
+            logger.warn("outbox.gapsFull", "Pending gaps are full ({}), publishing waits at change event id {}",
+                    MAX_PENDING_GAPS, firstId);
+            return null;
+        }
+
+        pendingGaps.put(firstId, new Gap(lastId, now));
+        return now;
+    }
+
+    /**
+     * Forget gaps below published id, they are filled or given up
+     *
+     * @param offset published id
+     */
+    private void forgetGapsUpTo(long offset) {
+        Iterator<Gap> gaps = pendingGaps.headMap(offset, true).values().iterator();
+        while (gaps.hasNext()) {
+            if (gaps.next().lastId <= offset) {
+                gaps.remove();
+            }
+        }
+    }
+
+    /**
+     * Read one page of published events after an offset
+     *
+     * @param offset id of last event client received
+     * @return event list
+     */
+    private List<ChangeEvent> readPublished(long offset) {
+        long published = publishedId;
+        List<ChangeEvent> events = new ArrayList<>();
+
+        for (ChangeEvent event : changeEventServices.findEventsAfter(offset, batchSize)) {
+            if (event.getId() > published) {
+                break;
+            }
+            events.add(event);
+        }
+
+        return events;
+    }
+
+    /**
+     * Negative offset means start from latest published event
+     *
+     * @param offset requested offset
+     * @return offset to start from
+     */
+    private long startOffset(long offset) {
+        return offset < 0 ? resolvePublishedId() : offset;
+    }
+
+    /**
+     * Read latest event id on first use, so a subscriber arriving before the first relay run
+     * starts from now instead of replaying whole outbox
+     *
+     * @return published id
+     */
+    private long resolvePublishedId() {
+        long published = publishedId;
+        if (published >= 0) {
+            return published;
+        }
+
+        synchronized (this) {
+            if (publishedId < 0) {
+                publishedId = changeEventServices.findLatestEventId();
+            }
+            return publishedId;
+        }
+    }
+
+    /**
+     * Skipped ids up to lastId and since when
+     */
+    private static final class Gap {
+
+        private final long lastId;
+
+        private final long since;
+
+        Gap(long lastId, long since) {
+            this.lastId = lastId;
+            this.since = since;
+        }
+    }
+
+    /**
+     * Subscriber of change events
+     */
+    private abstract static class Subscriber {
+
+        protected volatile long offset;
+
+        Subscriber(long offset) {
+            this.offset = offset;
+        }
+
+        long getOffset() {
+            return offset;
+        }
+
+        /**
+         * Deliver events to subscriber
+         *
+         * @param events events after subscriber offset
+         * @return false if subscriber is gone
+         */
+        abstract boolean deliver(List<ChangeEvent> events);
+    }
+
+    /**
+     * Server-Sent Events subscriber, event id is the offset to resume with Last-Event-ID
+     */
+    private static class StreamSubscriber extends Subscriber {
+
+        private final SseEmitter emitter;
+
+        StreamSubscriber(SseEmitter emitter, long offset) {
+            super(offset);
+            this.emitter = emitter;
+        }
+
+        @Override
+        boolean deliver(List<ChangeEvent> events) {
+            try {
+                for (ChangeEvent event : events) {
+                    emitter.send(SseEmitter.event()
+                            .id(String.valueOf(event.getId()))
+                            .name(event.getAggregate().name())
+                            .data(event));
+                    offset = event.getId();
+                }
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                emitter.completeWithError(e);
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Long poll subscriber, done after first delivery
+     */
+    private static class PollSubscriber extends Subscriber {
+
+        private final DeferredResult<List<ChangeEvent>> result;
+
+        PollSubscriber(DeferredResult<List<ChangeEvent>> result, long offset) {
+            super(offset);
+            this.result = result;
+        }
+
+        @Override
+        boolean deliver(List<ChangeEvent> events) {
+            result.setResult(events);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.springreact.backend.services;
+
+import com.springreact.backend.entity.ChangeEvent;
+import com.springreact.backend.entity.EChangeAction;
+import com.springreact.backend.entity.EChangeAggregate;
+import com.springreact.backend.repository.ChangeEventRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * ChangeEventServices
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ * 19-10-2026       ThanhBT11           Publish recorded events
+ */
+@Service
+public class ChangeEventServices {
+
+    private final ChangeEventRepository changeEventRepository;
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    /**
+     * ChangeEventServices constructor(ChangeEventRepository, ApplicationEventPublisher)
+     *
+     * @param changeEventRepository     changeEventRepository
+     * @param applicationEventPublisher applicationEventPublisher
+     */
+    @Autowired
+    public ChangeEventServices(ChangeEventRepository changeEventRepository,
+                               ApplicationEventPublisher applicationEventPublisher) {
+        this.changeEventRepository = changeEventRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
+    }
+
+    /**
+     * Append a change event in the caller's transaction,
+     * so event is saved if and only if the change is saved.
+     * Event is also published to in-process listeners, e.g. response cache
+     *
+     * @param aggregate   type of changed entity
+     * @param aggregateId id of changed entity
+     * @param action      what happened to entity
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(EChangeAggregate aggregate, Long aggregateId, EChangeAction action) {
+        ChangeEvent changeEvent = changeEventRepository.save(new ChangeEvent(aggregate, aggregateId, action));
+        applicationEventPublisher.publishEvent(changeEvent);
+    }
+
+    /**
+     * Find events after an offset order by id
+     *
+     * @param offset id of last event client received
+     * @param limit  max events to return
+     * @return event list
+     */
+    @Transactional(readOnly = true)
+    public List<ChangeEvent> findEventsAfter(long offset, int limit) {
+        return changeEventRepository.findByIdGreaterThanOrderByIdAsc(offset, PageRequest.of(0, limit));
+    }
+
+    /**
+     * Find id of latest event
+     *
+     * @return latest event id, 0 if there are no events
+     */
+    @Transactional(readOnly = true)
+    public long findLatestEventId() {
+        Long latestId = changeEventRepository.findLatestId();
+        return latestId == null ? 0L : latestId;
+    }
+}
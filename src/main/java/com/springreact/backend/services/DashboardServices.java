@@ -0,0 +1,201 @@
+package com.springreact.backend.services;
+
+import com.springreact.backend.constant.Message;
+import com.springreact.backend.dto.response.DashboardResponse;
+import com.springreact.backend.dto.response.DepartmentResponse;
+import com.springreact.backend.dto.response.EmployeeResponse;
+import com.springreact.backend.dto.response.RoleResponse;
+import com.springreact.backend.logging.RateLimitedLogger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * DashboardServices
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ * 19-10-2026       ThanhBT11           Rate limit error logs
+ * 19-10-2026       ThanhBT11           Time out section queries at the deadline
+ */
+@Service
+public class DashboardServices {
+
+    private final RateLimitedLogger logger = RateLimitedLogger.getLogger(this.getClass());
+
+    //Section name and loader, each loader is a read only service method with its own transaction
+    private final Map<String, Callable<?>> sections = new LinkedHashMap<>();
+
+    private final ExecutorService executorService;
+
+    private final PlatformTransactionManager transactionManager;
+
+    private final long sectionTimeoutMs;
+
+    /**
+     * DashboardServices constructor(EmployeeServices, RoleServices, DepartmentServices, SalaryServices,
+     * PlatformTransactionManager, int, int, long)
+     *
+     * @param employeeServices   employeeServices
+     * @param roleServices       roleServices
+     * @param departmentServices departmentServices
+     * @param salaryServices     salaryServices
+     * @param transactionManager transactionManager
+     * @param parallelism        threads loading sections of all dashboards
+     * @param queueCapacity      sections waiting for a thread, more are answered as busy
+     * @param sectionTimeoutMs   deadline of every section from the start of the request
+     */
+    public DashboardServices(EmployeeServices employeeServices,
+                             RoleServices roleServices,
+                             DepartmentServices departmentServices,
+                             SalaryServices salaryServices,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${reactCrud.app.dashboard.parallelism:5}") int parallelism,
+                             @Value("${reactCrud.app.dashboard.queueCapacity:100}") int queueCapacity,
+                             @Value("${reactCrud.app.dashboard.sectionTimeoutMs:2000}") long sectionTimeoutMs) {
+        this.transactionManager = transactionManager;
+        this.sectionTimeoutMs = sectionTimeoutMs;
+
+        //Sections run with the security context of the caller, replica routing depends on it
+        this.executorService = new DelegatingSecurityContextExecutorService(new ThreadPoolExecutor(
+                parallelism,
+                parallelism,
+                60L,
+                TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("dashboard-"),
+                new ThreadPoolExecutor.AbortPolicy()));
+
+        sections.put("employees", () -> EmployeeResponse.listOf(employeeServices.findAllEmployeeOrderByIdDesc()));
+        sections.put("departments",
+                () -> DepartmentResponse.listOf(departmentServices.findAllByOrderByDepartmentAsc()));
+        sections.put("roles", () -> RoleResponse.listOf(roleServices.findAllByOrderByRoleAsc()));
+        sections.put("salaries", salaryServices::findAllSalaryOrderByIdDesc);
+        sections.put("addresses", employeeServices::findDistinctAddress);
+    }
+
+    /**
+     * Load all sections concurrently, latency is the slowest section instead of the sum.
+     * Sections not loaded before the deadline, failed or rejected because the pool is full
+     * are left out and reported as unavailable
+     *
+     * @return loaded sections and reason of unavailable ones
+     */
+    public DashboardResponse loadDashboard() {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sectionTimeoutMs);
+        Map<String, Future<?>> futures = new LinkedHashMap<>();
+        Map<String, String> unavailable = new LinkedHashMap<>();
+
+        for (Map.Entry<String, Callable<?>> section : sections.entrySet()) {
+            try {
+                Callable<?> loader = section.getValue();
+                futures.put(section.getKey(), executorService.submit(() -> loadBeforeDeadline(loader, deadline)));
+            } catch (RejectedExecutionException e) {
+                unavailable.put(section.getKey(), Message.DASHBOARD_SECTION_BUSY);
+            }
+        }
+
+        Map<String, Object> loaded = new LinkedHashMap<>();
+        for (Map.Entry<String, Future<?>> future : futures.entrySet()) {
+            String name = future.getKey();
+            try {
+                long remaining = Math.max(0L, deadline - System.nanoTime());
+                loaded.put(name, future.getValue().get(remaining, TimeUnit.NANOSECONDS));
+            } catch (TimeoutException e) {
+                future.getValue().cancel(true);
+                unavailable.put(name, Message.DASHBOARD_SECTION_TIMEOUT);
+            } catch (ExecutionException e) {
+                if (isTimeout(e.getCause())) {
+                    unavailable.put(name, Message.DASHBOARD_SECTION_TIMEOUT);
+                    continue;
+                }
+                logger.error("dashboard." + name, "Dashboard section {} failed: {}", name, e.getCause().getMessage());
+                unavailable.put(name, Message.DASHBOARD_SECTION_FAILED);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.getValue().cancel(true);
+                unavailable.put(name, Message.DASHBOARD_SECTION_TIMEOUT);
+            }
+        }
+
+        return new DashboardResponse(loaded, unavailable);
+    }
+
+    /**
+     * Load a section in a read-only transaction which times out at the deadline.
+     * Cancelling the future does not stop a running JDBC statement, the transaction timeout
+     * is applied as query timeout so the database stops it. Timeout is in whole seconds, rounded up
+     *
+     * @param loader   section loader
+     * @param deadline deadline of dashboard (System.nanoTime)
+     * @return loaded section
+     * @throws TimeoutException if deadline passed before the section started
+     */
+    private Object loadBeforeDeadline(Callable<?> loader, long deadline) throws TimeoutException {
+        long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+        if (remainingMs <= 0) {
+            throw new TimeoutException(Message.DASHBOARD_SECTION_TIMEOUT);
+        }
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        transactionTemplate.setTimeout((int) TimeUnit.MILLISECONDS.toSeconds(remainingMs + 999));
+
+        return transactionTemplate.execute(status -> {
+            try {
+                return loader.call();
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new UndeclaredThrowableException(e);
+            }
+        });
+    }
+
+    /**
+     * Whether a section failed because it was stopped at the deadline
+     *
+     * @param cause cause of failure
+     * @return true if deadline passed or the database stopped the query
+     */
+    private static boolean isTimeout(Throwable cause) {
+        return cause instanceof TimeoutException
+                || cause instanceof QueryTimeoutException
+                || cause instanceof TransactionTimedOutException;
+    }
+
+    /**
+     * Stop dashboard threads on shutdown
+     */
+    @PreDestroy
+    public void shutdown() {
+        executorService.shutdown();
+    }
+}
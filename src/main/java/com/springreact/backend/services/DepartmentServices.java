@@ -3,18 +3,26 @@ package com.springreact.backend.services;
 import com.springreact.backend.constant.Message;
 import com.springreact.backend.constant.Pattern;
 import com.springreact.backend.dto.request.DepartmentName;
+import com.springreact.backend.dto.response.DeltaResponse;
+import com.springreact.backend.dto.response.Outcome;
 import com.springreact.backend.entity.Department;
+import com.springreact.backend.entity.EChangeAction;
+import com.springreact.backend.entity.EChangeAggregate;
 import com.springreact.backend.exception.ResourceNotFoundException;
+import com.springreact.backend.logging.RateLimitedLogger;
 import com.springreact.backend.repository.DepartmentRepository;
 import com.springreact.backend.repository.EmployeesRepository;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import com.springreact.backend.repository.Fieldset;
+import com.springreact.backend.repository.FieldsetRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.Calendar;
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
 /**
  * DepartmentServices
@@ -29,41 +37,101 @@ import java.util.List;
  * DATE             AUTHOR              DESCRIPTION
  * -------------------------------------------------
  * 07-06-2021       ThanhBT11           Create
+ * 19-10-2026       ThanhBT11           Add read-only transactions
+ * 19-10-2026       ThanhBT11           Record change events
+ * 19-10-2026       ThanhBT11           Add changed-since delta query
+ * 19-10-2026       ThanhBT11           Add sparse fieldsets
+ * 19-10-2026       ThanhBT11           Rate limit error logs
+ * 19-10-2026       ThanhBT11           Return typed outcome, throw preallocated domain exceptions
  */
 @Service
+@Transactional
 public class DepartmentServices {
 
     private final DepartmentRepository departmentRepository;
     private final EmployeesRepository employeesRepository;
-    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final ChangeEventServices changeEventServices;
+    private final FieldsetRepository fieldsetRepository;
+    private final RateLimitedLogger logger = RateLimitedLogger.getLogger(this.getClass());
 
     /**
-     * DepartmentServices constructor(DepartmentRepository, EmployeesRepository)
+     * DepartmentServices constructor(DepartmentRepository, EmployeesRepository, ChangeEventServices, FieldsetRepository)
      *
      * @param departmentRepository departmentRepository
      * @param employeesRepository  employeesRepository
+     * @param changeEventServices  changeEventServices
+     * @param fieldsetRepository   fieldsetRepository
      */
     public DepartmentServices(DepartmentRepository departmentRepository,
-                              EmployeesRepository employeesRepository) {
+                              EmployeesRepository employeesRepository,
+                              ChangeEventServices changeEventServices,
+                              FieldsetRepository fieldsetRepository) {
         this.departmentRepository = departmentRepository;
         this.employeesRepository = employeesRepository;
+        this.changeEventServices = changeEventServices;
+        this.fieldsetRepository = fieldsetRepository;
     }
 
     /**
      * Find all department order by id desc
      */
+    @Transactional(readOnly = true)
     public List<Department> findAllByOrderByDepartmentAsc() {
         return departmentRepository.findAllByOrderByDepartmentAsc();
     }
 
+    /**
+     * Find selected fields of all departments order by department ascendant, other columns are not read
+     *
+     * @param fieldset selected fields
+     * @return departments fields, output field name to value
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> findAllDepartmentFields(Fieldset fieldset) {
+        return fieldsetRepository.findAll(Department.class, fieldset,
+                (criteriaBuilder, query, root) -> query.orderBy(criteriaBuilder.asc(root.get("department"))));
+    }
+
+    /**
+     * Find selected fields of department by id
+     *
+     * @param id       id of department
+     * @param fieldset selected fields
+     * @return department fields, output field name to value
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> findDepartmentFieldsById(Long id, Fieldset fieldset) {
+        List<Map<String, Object>> rows = fieldsetRepository.findAll(Department.class, fieldset,
+                (criteriaBuilder, query, root) -> query.where(criteriaBuilder.equal(root.get("id"), id)));
+
+        if (rows.isEmpty()) {
+            throw new ResourceNotFoundException(Message.NOT_EXIST_DEPARTMENT + " with id " + id);
+        }
+        return rows.get(0);
+    }
+
+    /**
+     * Find departments changed after a cursor, including soft deleted ones
+     *
+     * @param since   last modified time (epoch millisecond) of cursor
+     * @param afterId id of cursor
+     * @param limit   max rows to return
+     * @return changed departments and next cursor
+     */
+    @Transactional(readOnly = true)
+    public DeltaResponse<Department> findDepartmentsChangedSince(long since, long afterId, int limit) {
+        limit = DeltaResponse.boundedLimit(limit);
+        List<Department> departmentList = departmentRepository.findChangedSince(new Date(since), afterId, limit);
+        return DeltaResponse.of(departmentList, limit, since, afterId, Department::getLastModified, Department::getId);
+    }
+
     /**
      * Create new department
      *
      * @param departmentName contains create information
-     * @return message if success or not
+     * @return outcome, message and status if success or not
      */
-    public String processCreateDepartment(DepartmentName departmentName) {
-        String message = null;
+    public Outcome processCreateDepartment(DepartmentName departmentName) {
         boolean isDepartmentExist = departmentRepository
                 .existsByDepartment(departmentName.getDepartment());
         boolean isDepartmentNameExist = departmentRepository
@@ -71,14 +139,12 @@ public class DepartmentServices {
 
         //Check if already had department by department
         if (isDepartmentExist) {
-            message = Message.EXIST_DEPARTMENT;
-            return message;
+            return Outcome.EXIST_DEPARTMENT;
         }
 
         //Check if already had department by department name
         if (isDepartmentNameExist) {
-            message = Message.EXIST_DEPARTMENT_NAME;
-            return message;
+            return Outcome.EXIST_DEPARTMENT_NAME;
         }
 
         Department department = new Department();
@@ -90,17 +156,17 @@ public class DepartmentServices {
         department.setCreatedDate(dateFormat.format(Calendar.getInstance().getTime()));
 
         departmentRepository.save(department);
-        message = Message.CREATE_SUCCESS;
-        return message;
+        changeEventServices.record(EChangeAggregate.DEPARTMENT, department.getId(), EChangeAction.CREATED);
+        return Outcome.CREATE_SUCCESS;
     }
 
     /**
      * Delete department by department id
      *
      * @param id to delete department
-     * @return message if success or not
+     * @return outcome, message and status if success or not
      */
-    public String processDeleteDepartment(Long id) {
+    public Outcome processDeleteDepartment(Long id) {
         Department department = departmentRepository.findById(id)
                 .orElseThrow(() ->
                         new ResourceNotFoundException(Message.NOT_EXIST_DEPARTMENT + " with id " + id)
@@ -108,7 +174,8 @@ public class DepartmentServices {
 
         department.setActive(false);
         departmentRepository.save(department);
-        return Message.DELETE_SUCCESS;
+        changeEventServices.record(EChangeAggregate.DEPARTMENT, department.getId(), EChangeAction.DELETED);
+        return Outcome.DELETE_SUCCESS;
     }
 
     /**
@@ -117,6 +184,7 @@ public class DepartmentServices {
      * @param id to find department
      * @return department by department id
      */
+    @Transactional(readOnly = true)
     public Department findDepartmentById(Long id) {
         return departmentRepository.findById(id)
                 .orElseThrow(() ->
@@ -129,10 +197,9 @@ public class DepartmentServices {
      *
      * @param departmentUpdate contains update information
      * @param id               to update department
-     * @return message if update success or not
+     * @return outcome, message and status if update success or not
      */
-    public String processUpdateDepartment(Department departmentUpdate, Long id) {
-        String message = null;
+    public Outcome processUpdateDepartment(Department departmentUpdate, Long id) {
 
         Department department = departmentRepository.findById(id)
                 .orElseThrow(() ->
@@ -142,15 +209,13 @@ public class DepartmentServices {
         //Check exist department except its department
         if (!department.getDepartment().equalsIgnoreCase(departmentUpdate.getDepartment()) &&
                 departmentRepository.existsByDepartment(departmentUpdate.getDepartment())) {
-            message = Message.EXIST_DEPARTMENT;
-            return message;
+            return Outcome.EXIST_DEPARTMENT;
         }
 
         //Check exist department except its department name
         if (!department.getFullName().equalsIgnoreCase(departmentUpdate.getFullName()) &&
                 departmentRepository.existsByFullName(departmentUpdate.getFullName())) {
-            message = Message.EXIST_DEPARTMENT_NAME;
-            return message;
+            return Outcome.EXIST_DEPARTMENT_NAME;
         }
 
         department.setDepartment(departmentUpdate.getDepartment().toUpperCase().trim());
@@ -158,9 +223,9 @@ public class DepartmentServices {
         department.setFullName(departmentUpdate.getFullName().trim());
 
         departmentRepository.save(department);
+        changeEventServices.record(EChangeAggregate.DEPARTMENT, department.getId(), EChangeAction.UPDATED);
 
-        message = Message.UPDATE_SUCCESS;
-        return message;
+        return Outcome.UPDATE_SUCCESS;
     }
 
     /**
@@ -169,6 +234,7 @@ public class DepartmentServices {
      * @param id to check exist
      * @return true if exist, false if not
      */
+    @Transactional(readOnly = true)
     public Boolean isEmployeeExistByDepartment(Long id) {
         Department department = findDepartmentById(id);
         return employeesRepository.existsByDepartment(department);
@@ -180,6 +246,7 @@ public class DepartmentServices {
      * @param keyword to search employee list
      * @return employee list base on keyword
      */
+    @Transactional(readOnly = true)
     public List<Department> processSearchDepartments(String keyword) {
         List<Department> departmentList = null;
 
@@ -191,11 +258,11 @@ public class DepartmentServices {
                 departmentList = departmentRepository.findAll();
             }
         } catch (NullPointerException e) {
-            logger.error("An error occur: " + e.getMessage());
-            throw new NullPointerException(Message.NOT_EXIST_DEPARTMENT_LIST);
+            logger.error("processSearchDepartments.NullPointerException", "An error occur: {}", e.getMessage());
+            throw ResourceNotFoundException.DEPARTMENT_LIST;
         } catch (NumberFormatException e) {
-            logger.error("An error occur: " + e.getMessage());
-            throw new NumberFormatException(Message.NOT_EXIST_DEPARTMENT_LIST);
+            logger.error("processSearchDepartments.NumberFormatException", "An error occur: {}", e.getMessage());
+            throw ResourceNotFoundException.DEPARTMENT_LIST;
         }
 
         return departmentList;
@@ -2,23 +2,34 @@ package com.springreact.backend.services;
 
 import com.springreact.backend.constant.Message;
 import com.springreact.backend.dto.request.EmployeeRoleAndDepartment;
+import com.springreact.backend.dto.response.DeltaResponse;
+import com.springreact.backend.dto.response.MultiGetResponse;
+import com.springreact.backend.dto.response.Outcome;
 import com.springreact.backend.entity.Department;
+import com.springreact.backend.entity.EChangeAction;
+import com.springreact.backend.entity.EChangeAggregate;
 import com.springreact.backend.entity.ERole;
 import com.springreact.backend.entity.Employee;
 import com.springreact.backend.entity.Role;
 import com.springreact.backend.exception.ResourceNotFoundException;
+import com.springreact.backend.logging.RateLimitedLogger;
 import com.springreact.backend.repository.DepartmentRepository;
 import com.springreact.backend.repository.EmployeesRepository;
+import com.springreact.backend.repository.Fieldset;
+import com.springreact.backend.repository.FieldsetRepository;
 import com.springreact.backend.repository.RoleRepository;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -34,6 +45,17 @@ import java.util.Optional;
  * DATE             AUTHOR              DESCRIPTION
  * -------------------------------------------------
  * 07-06-2021       ThanhBT11           Create
+ * 19-10-2026       ThanhBT11           Add read-only transactions
+ * 19-10-2026       ThanhBT11           Add page queries for streaming
+ * 19-10-2026       ThanhBT11           Record change events
+ * 19-10-2026       ThanhBT11           Add changed-since delta query
+ * 19-10-2026       ThanhBT11           Add sparse fieldsets
+ * 19-10-2026       ThanhBT11           Add multi-get endpoints
+ * 19-10-2026       ThanhBT11           Use fetch plans of lazy associations
+ * 19-10-2026       ThanhBT11           Add flight recorder events
+ * 19-10-2026       ThanhBT11           Rate limit error logs
+ * 19-10-2026       ThanhBT11           Return typed outcome, throw preallocated domain exceptions
+ * 19-10-2026       ThanhBT11           Match emails case-insensitively, skip query without keys
  */
 @Service
 @Transactional
@@ -42,23 +64,36 @@ public class EmployeeServices {
     private final EmployeesRepository employeesRepository;
     private final RoleRepository roleRepository;
     private final DepartmentRepository departmentRepository;
+    private final ChangeEventServices changeEventServices;
+    private final FieldsetRepository fieldsetRepository;
+    private final PasswordEncoder passwordEncoder;
 
-    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final RateLimitedLogger logger = RateLimitedLogger.getLogger(this.getClass());
 
     /**
-     * EmployeeServices constructor(EmployeesRepository, RoleRepository, DepartmentRepository)
+     * EmployeeServices constructor(EmployeesRepository, RoleRepository, DepartmentRepository, ChangeEventServices,
+     * FieldsetRepository, PasswordEncoder)
      *
      * @param employeesRepository  employeesRepository
      * @param roleRepository       roleRepository
      * @param departmentRepository departmentRepository
+     * @param changeEventServices  changeEventServices
+     * @param fieldsetRepository   fieldsetRepository
+     * @param passwordEncoder      passwordEncoder
      */
     @Autowired
     public EmployeeServices(EmployeesRepository employeesRepository,
                             RoleRepository roleRepository,
-                            DepartmentRepository departmentRepository) {
+                            DepartmentRepository departmentRepository,
+                            ChangeEventServices changeEventServices,
+                            FieldsetRepository fieldsetRepository,
+                            PasswordEncoder passwordEncoder) {
         this.employeesRepository = employeesRepository;
         this.roleRepository = roleRepository;
         this.departmentRepository = departmentRepository;
+        this.changeEventServices = changeEventServices;
+        this.fieldsetRepository = fieldsetRepository;
+        this.passwordEncoder = passwordEncoder;
     }
 
     /**
@@ -70,11 +105,12 @@ public class EmployeeServices {
     public void updateResetPasswordToken(String token, String email) {
         Employee employee = employeesRepository.findByEmail(email)
                 .orElseThrow(
-                        () -> new ResourceNotFoundException(Message.NOT_EXIST_EMPLOYEE)
+                        () -> ResourceNotFoundException.EMPLOYEE
                 );
 
         employee.setResetPasswordToken(token);
         employeesRepository.save(employee);
+        changeEventServices.record(EChangeAggregate.EMPLOYEE, employee.getId(), EChangeAction.UPDATED);
     }
 
     /**
@@ -83,10 +119,11 @@ public class EmployeeServices {
      * @param token get employee by token
      * @return employee if employee's token exist, otherwise throw exception
      */
+    @Transactional(readOnly = true)
     public Employee getByResetPasswordToken(String token) {
         return employeesRepository.findByResetPasswordToken(token)
                 .orElseThrow(() ->
-                        new ResourceNotFoundException(Message.NOT_EXIST_TOKEN)
+                        ResourceNotFoundException.TOKEN
                 );
     }
 
@@ -98,10 +135,10 @@ public class EmployeeServices {
      */
     public void updatePassword(Employee employee, String newPassword) {
         //Encode new password, then set it to employee's password and set reset password token to null
-        BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
         employee.setPassword(passwordEncoder.encode(newPassword));
         employee.setResetPasswordToken(null);
         employeesRepository.save(employee);
+        changeEventServices.record(EChangeAggregate.EMPLOYEE, employee.getId(), EChangeAction.UPDATED);
     }
 
     /**
@@ -110,8 +147,9 @@ public class EmployeeServices {
      * @param email get employee by email
      * @return employee by email
      */
+    @Transactional(readOnly = true)
     public Employee findEmployeeByEmail(String email) {
-        return employeesRepository.findByEmail(email)
+        return employeesRepository.findWithRoleAndDepartmentByEmail(email)
                 .orElseThrow(() ->
                         new ResourceNotFoundException(Message.NOT_EXIST_EMPLOYEE + " with email " + email)
                 );
@@ -123,8 +161,8 @@ public class EmployeeServices {
      * @param employee    employee need to change password
      * @param oldPassword password to check with old password in database
      */
+    @Transactional(readOnly = true)
     public boolean checkValidOldPassword(Employee employee, String oldPassword) {
-        BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
         //Check two password are matched or not
         return passwordEncoder.matches(
                 oldPassword,
@@ -140,23 +178,104 @@ public class EmployeeServices {
      */
     public void changeUserPassword(Employee employee, String password) {
         //Encode new password and save it
-        BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
         employee.setPassword(passwordEncoder.encode(password));
         employeesRepository.save(employee);
+        changeEventServices.record(EChangeAggregate.EMPLOYEE, employee.getId(), EChangeAction.UPDATED);
     }
 
     /**
      * Find Employee List by descendant
      */
+    @Transactional(readOnly = true)
     public List<Employee> findAllEmployeeOrderByIdDesc() {
         return employeesRepository.findAllByOrderByIdDesc();
     }
 
+    /**
+     * Find next page of employees order by id descendant
+     *
+     * @param lastId id of last employee in previous page
+     * @param size   page size
+     * @return employee list
+     */
+    @Transactional(readOnly = true)
+    public List<Employee> findEmployeePageBefore(long lastId, int size) {
+        return employeesRepository.findByIdLessThanOrderByIdDesc(lastId, PageRequest.of(0, size));
+    }
+
+    /**
+     * Find selected fields of all employees order by id descendant, other columns are not read
+     *
+     * @param fieldset selected fields
+     * @return employees fields, output field name to value
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> findAllEmployeeFields(Fieldset fieldset) {
+        return fieldsetRepository.findAll(Employee.class, fieldset,
+                (criteriaBuilder, query, root) -> query.orderBy(criteriaBuilder.desc(root.get("id"))));
+    }
+
+    /**
+     * Find selected fields of employee by id
+     *
+     * @param id       id of employee
+     * @param fieldset selected fields
+     * @return employee fields, output field name to value
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> findEmployeeFieldsById(Long id, Fieldset fieldset) {
+        List<Map<String, Object>> rows = fieldsetRepository.findAll(Employee.class, fieldset,
+                (criteriaBuilder, query, root) -> query.where(criteriaBuilder.equal(root.get("id"), id)));
+
+        if (rows.isEmpty()) {
+            throw new ResourceNotFoundException(Message.NOT_EXIST_EMPLOYEE + " with id " + id);
+        }
+        return rows.get(0);
+    }
+
+    /**
+     * Find selected fields of employee by email
+     *
+     * @param email    email of employee
+     * @param fieldset selected fields
+     * @return employee fields, output field name to value
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> findEmployeeFieldsByEmail(String email, Fieldset fieldset) {
+        List<Map<String, Object>> rows = fieldsetRepository.findAll(Employee.class, fieldset,
+                (criteriaBuilder, query, root) -> query.where(criteriaBuilder.equal(root.get("email"), email)));
+
+        if (rows.isEmpty()) {
+            throw new ResourceNotFoundException(Message.NOT_EXIST_EMPLOYEE + " with email " + email);
+        }
+        return rows.get(0);
+    }
+
+    /**
+     * Find employees changed after a cursor, including soft deleted ones
+     *
+     * @param since   last modified time (epoch millisecond) of cursor
+     * @param afterId id of cursor
+     * @param limit   max rows to return
+     * @return changed employees and next cursor
+     */
+    @Transactional(readOnly = true)
+    public DeltaResponse<Employee> findEmployeesChangedSince(long since, long afterId, int limit) {
+        limit = DeltaResponse.boundedLimit(limit);
+        List<Employee> employeeList = employeesRepository.findChangedSince(new Date(since), afterId, limit);
+
+        //Native query can not use a fetch graph, proxies are loaded by batches of @BatchSize
+        for (Employee employee : employeeList) {
+            Hibernate.initialize(employee.getRole());
+            Hibernate.initialize(employee.getDepartment());
+        }
+        return DeltaResponse.of(employeeList, limit, since, afterId, Employee::getLastModified, Employee::getId);
+    }
+
     /**
      * Create new employee
      */
-    public String processCreateEmployee(Employee employee) {
-        String message = null;
+    public Outcome processCreateEmployee(Employee employee) {
         boolean isEmployeeByEmailExist = employeesRepository
                 .existsEmployeeByEmail(employee.getEmail().trim());
         boolean isEmployeeByPhoneExist = employeesRepository
@@ -164,7 +283,6 @@ public class EmployeeServices {
 
         //Check if email and phone is already in use
         if (!isEmployeeByEmailExist && !isEmployeeByPhoneExist) {
-            BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
             employee.setPassword(passwordEncoder.encode(employee.getPassword()));
             employee.setFullName(employee.getFullName().trim());
             employee.setAddress(employee.getAddress().trim());
@@ -175,38 +293,84 @@ public class EmployeeServices {
             employee.setRole(userRole);
             employee.setActive(true);
             employeesRepository.save(employee);
-            message = Message.CREATE_SUCCESS;
+            changeEventServices.record(EChangeAggregate.EMPLOYEE, employee.getId(), EChangeAction.CREATED);
+            return Outcome.CREATE_SUCCESS;
         } else if (isEmployeeByEmailExist) {
-            message = Message.EXIST_EMAIL;
+            return Outcome.EXIST_EMAIL;
         } else {
-            message = Message.EXIST_PHONE_NUMBER;
+            return Outcome.EXIST_PHONE_NUMBER;
         }
-
-        return message;
     }
 
     /**
      * Find an employee by id
      */
+    @Transactional(readOnly = true)
     public Employee findEmployeeById(Long id) {
-        return employeesRepository.findById(id)
+        return employeesRepository.findWithRoleAndDepartmentById(id)
                 .orElseThrow(
                         () -> new ResourceNotFoundException(
                                 Message.NOT_EXIST_EMPLOYEE + " with id " + id)
                 );
     }
 
+    /**
+     * Find employees by ids with one query
+     *
+     * @param ids ids in request order
+     * @return found employees in request order and ids which are not found
+     */
+    @Transactional(readOnly = true)
+    public MultiGetResponse<Long, Employee> findEmployeesByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return MultiGetResponse.empty();
+        }
+        return MultiGetResponse.of(ids, employeesRepository.findByIdIn(ids), Employee::getId);
+    }
+
+    /**
+     * Find employees by emails with one query
+     *
+     * @param emails emails in request order
+     * @return found employees in request order and emails which are not found
+     */
+    @Transactional(readOnly = true)
+    public MultiGetResponse<String, Employee> findEmployeesByEmails(List<String> emails) {
+        if (emails.isEmpty()) {
+            return MultiGetResponse.empty();
+        }
+
+        //Email column compares case-insensitively, match rows the same way
+        return MultiGetResponse.of(emails, employeesRepository.findByEmailIn(emails), Employee::getEmail,
+                email -> email == null ? null : email.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Find role and department of employees by emails with one query
+     *
+     * @param emails emails in request order
+     * @return role and department of found employees in request order and emails which are not found
+     */
+    @Transactional(readOnly = true)
+    public MultiGetResponse<String, EmployeeRoleAndDepartment> findEmployeeRoleAndDepartmentByEmails(
+            List<String> emails) {
+        return findEmployeesByEmails(emails).map(employee -> new EmployeeRoleAndDepartment(
+                employee.getFullName(),
+                employee.getEmail(),
+                employee.getDepartment() == null ? null : employee.getDepartment().getDepartment(),
+                employee.getRole() == null ? null : employee.getRole().getRole()));
+    }
+
     /**
      * Update employee information
      *
      * @param employeeUpdate get new employee information and pass it to old employee
      */
-    public String processUpdateEmployee(Employee employeeUpdate, Long id) {
+    public Outcome processUpdateEmployee(Employee employeeUpdate, Long id) {
         boolean isEmployeeByEmailExist = employeesRepository
                 .existsEmployeeByEmail(employeeUpdate.getEmail());
         boolean isEmployeeByPhoneExist = employeesRepository
                 .existsEmployeeByPhone(employeeUpdate.getPhone());
-        String message = null;
 
         Employee employee = employeesRepository.findById(id)
                 .orElseThrow(
@@ -217,20 +381,17 @@ public class EmployeeServices {
         //Check email exist except its old email
         if (employee.getEmail() != null && !employee.getEmail().equals(employeeUpdate.getEmail())) {
             if (isEmployeeByEmailExist) {
-                message = Message.EXIST_EMAIL;
-                return message;
+                return Outcome.EXIST_EMAIL;
             }
 
             //If old phone number null and new phone number exist in database
         } else if (employee.getPhone() == null && isEmployeeByPhoneExist) {
-            message = Message.EXIST_PHONE_NUMBER;
-            return message;
+            return Outcome.EXIST_PHONE_NUMBER;
 
             //Check phone exist except its old phone
         } else if (employee.getPhone() != null && !employee.getPhone().equals(employeeUpdate.getPhone())) {
             if (isEmployeeByPhoneExist) {
-                message = Message.EXIST_PHONE_NUMBER;
-                return message;
+                return Outcome.EXIST_PHONE_NUMBER;
             }
         }
 
@@ -242,17 +403,17 @@ public class EmployeeServices {
         employee.setImage(employeeUpdate.getImage());
 
         employeesRepository.save(employee);
-        message = Message.UPDATE_SUCCESS;
-        return message;
+        changeEventServices.record(EChangeAggregate.EMPLOYEE, employee.getId(), EChangeAction.UPDATED);
+        return Outcome.UPDATE_SUCCESS;
     }
 
     /**
      * Delete employee by employee id
      *
      * @param id to delete employee
-     * @return message if delete success or not
+     * @return outcome, message and status if delete success or not
      */
-    public String processDeleteEmployee(Long id) {
+    public Outcome processDeleteEmployee(Long id) {
         Employee employee = employeesRepository.findById(id)
                 .orElseThrow(
                         () -> new ResourceNotFoundException(
@@ -260,12 +421,14 @@ public class EmployeeServices {
                 );
         employee.setActive(false);
         employeesRepository.save(employee);
-        return Message.DELETE_SUCCESS;
+        changeEventServices.record(EChangeAggregate.EMPLOYEE, employee.getId(), EChangeAction.DELETED);
+        return Outcome.DELETE_SUCCESS;
     }
 
     /**
      * Get role and department of all employees
      */
+    @Transactional(readOnly = true)
     public List<EmployeeRoleAndDepartment> listEmployeeRoleAndDepartment() {
         List<Employee> employeeList = employeesRepository.findAllByOrderByIdDesc();
         List<EmployeeRoleAndDepartment> employeeRoleAndDepartmentList = new ArrayList<>();
@@ -289,8 +452,8 @@ public class EmployeeServices {
                 employeeRoleAndDepartmentList.add(employeeRoleAndDepartment);
             }
         } catch (NullPointerException e) {
-            logger.error("An error occur: " + e.getMessage());
-            throw new NullPointerException(Message.NOT_EXIST_EMPLOYEE_LIST);
+            logger.error("listEmployeeRoleAndDepartment.NullPointerException", "An error occur: {}", e.getMessage());
+            throw ResourceNotFoundException.EMPLOYEE_LIST;
         }
 
         return employeeRoleAndDepartmentList;
@@ -301,13 +464,11 @@ public class EmployeeServices {
      *
      * @param employeeRoleAndDepartmentUpdate contains update information
      * @param email                           to update role and department
-     * @return message if update success or not
+     * @return outcome, message and status if update success or not
      */
-    public String processUpdateEmployeeRoleAndDepartment(
+    public Outcome processUpdateEmployeeRoleAndDepartment(
             EmployeeRoleAndDepartment employeeRoleAndDepartmentUpdate,
             String email) {
-
-        String message = null;
         Employee employee = employeesRepository.findByEmail(email)
                 .orElseThrow(
                         () -> new ResourceNotFoundException(
@@ -319,13 +480,11 @@ public class EmployeeServices {
                 .existsByDepartment(employeeRoleAndDepartmentUpdate.getDepartment());
 
         if (!isRoleExist) {
-            message = Message.NOT_EXIST_ROLE;
-            return message;
+            return Outcome.NOT_EXIST_ROLE;
         }
 
         if (!isDepartmentExist) {
-            message = Message.NOT_EXIST_DEPARTMENT;
-            return message;
+            return Outcome.NOT_EXIST_DEPARTMENT;
         }
 
         Optional<Role> role = roleRepository
@@ -337,8 +496,8 @@ public class EmployeeServices {
         department.ifPresent(employee::setDepartment);
 
         employeesRepository.save(employee);
-        message = Message.UPDATE_ROLE_DEPARTMENT_SUCCESS;
-        return message;
+        changeEventServices.record(EChangeAggregate.EMPLOYEE, employee.getId(), EChangeAction.UPDATED);
+        return Outcome.UPDATE_ROLE_DEPARTMENT_SUCCESS;
     }
 
     /**
@@ -347,8 +506,9 @@ public class EmployeeServices {
      * @param email to find role and department
      * @return role and department of an employee
      */
+    @Transactional(readOnly = true)
     public EmployeeRoleAndDepartment findEmployeeRoleAndDepartmentByEmail(String email) {
-        Employee employee = employeesRepository.findByEmail(email)
+        Employee employee = employeesRepository.findWithRoleAndDepartmentByEmail(email)
                 .orElseThrow(
                         () -> new ResourceNotFoundException(
                                 Message.NOT_EXIST_EMPLOYEE + " with email " + email)
@@ -366,8 +526,9 @@ public class EmployeeServices {
                 employeeRoleAndDepartment.setDepartment(employee.getDepartment().getDepartment());
             }
         } catch (NullPointerException e) {
-            logger.error("An error occur: " + e.getMessage());
-            throw new NullPointerException(Message.NOT_EXIST_ROLE_DEPARTMENT_LIST);
+            logger.error("findEmployeeRoleAndDepartmentByEmail.NullPointerException",
+                    "An error occur: {}", e.getMessage());
+            throw ResourceNotFoundException.ROLE_DEPARTMENT_LIST;
         }
 
         return employeeRoleAndDepartment;
@@ -379,6 +540,7 @@ public class EmployeeServices {
      * @param keyword to search employee list
      * @return employee list base on keyword
      */
+    @Transactional(readOnly = true)
     public List<Employee> processSearchEmployees(String keyword) {
         List<Employee> employeeList = null;
 
@@ -389,11 +551,11 @@ public class EmployeeServices {
                 employeeList = employeesRepository.findAll();
             }
         } catch (NullPointerException e) {
-            logger.error("An error occur: " + e.getMessage());
-            throw new NullPointerException(Message.NOT_EXIST_EMPLOYEE_LIST);
+            logger.error("processSearchEmployees.NullPointerException", "An error occur: {}", e.getMessage());
+            throw ResourceNotFoundException.EMPLOYEE_LIST;
         } catch (NumberFormatException e) {
-            logger.error("An error occur: " + e.getMessage());
-            throw new NumberFormatException(Message.NOT_EXIST_EMPLOYEE_LIST);
+            logger.error("processSearchEmployees.NumberFormatException", "An error occur: {}", e.getMessage());
+            throw ResourceNotFoundException.EMPLOYEE_LIST;
         }
 
         return employeeList;
@@ -405,6 +567,7 @@ public class EmployeeServices {
      * @param keyword to search employee list
      * @return employee list base on keyword
      */
+    @Transactional(readOnly = true)
     public List<EmployeeRoleAndDepartment> processSearchEmployeeRoleAndDepartment(String keyword) {
         List<Employee> employeeList = employeesRepository.findEmployeesByFullNameAndEmail(keyword);
         List<EmployeeRoleAndDepartment> employeeRoleAndDepartmentList = new ArrayList<>();
@@ -427,8 +590,9 @@ public class EmployeeServices {
                 employeeRoleAndDepartmentList.add(employeeRoleAndDepartment);
             }
         } catch (NullPointerException e) {
-            logger.error("An error occur: " + e.getMessage());
-            throw new NullPointerException(Message.NOT_EXIST_EMPLOYEE_LIST);
+            logger.error("processSearchEmployeeRoleAndDepartment.NullPointerException",
+                    "An error occur: {}", e.getMessage());
+            throw ResourceNotFoundException.EMPLOYEE_LIST;
         }
 
         return employeeRoleAndDepartmentList;
@@ -440,14 +604,15 @@ public class EmployeeServices {
      * @param email to find employee's image
      * @return image path
      */
+    @Transactional(readOnly = true)
     public String findEmployeeImageByEmail(String email) {
-        Employee employee = employeesRepository.findByEmail(email)
+        EmployeesRepository.ImageOnly employeeImage = employeesRepository.findImageByEmail(email)
                 .orElseThrow(
                         () -> new ResourceNotFoundException(
                                 Message.NOT_EXIST_EMAIL + " with email " + email
                         )
                 );
-        return employee.getImage();
+        return employeeImage.getImage();
     }
 
     /**
@@ -455,14 +620,15 @@ public class EmployeeServices {
      *
      * @return distinct address list
      */
+    @Transactional(readOnly = true)
     public List<String> findDistinctAddress() {
         List<String> addressList = null;
 
         try {
             addressList = employeesRepository.findDistinctAddress();
         } catch (NullPointerException e) {
-            logger.error("An error occur: " + e.getMessage());
-            throw new NullPointerException(Message.NOT_EXIST_ADDRESS_LIST);
+            logger.error("findDistinctAddress.NullPointerException", "An error occur: {}", e.getMessage());
+            throw ResourceNotFoundException.ADDRESS_LIST;
         }
 
         return addressList;
@@ -1,15 +1,18 @@
 package com.springreact.backend.services;
 
-import com.springreact.backend.constant.Message;
 import com.springreact.backend.entity.PrefixPhoneNumber;
 import com.springreact.backend.exception.ResourceNotFoundException;
+import com.springreact.backend.logging.RateLimitedLogger;
 import com.springreact.backend.repository.PrefixPhoneNumberRepository;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 
 /**
  * PrefixService
@@ -24,42 +27,92 @@ import java.util.List;
  * DATE             AUTHOR              DESCRIPTION
  * -------------------------------------------------
  * 07-06-2021       ThanhBT11           Create
+ * 19-10-2026       ThanhBT11           Add read-only transactions
+ * 19-10-2026       ThanhBT11           Rate limit error logs
+ * 19-10-2026       ThanhBT11           Cache prefix titles
+ * 19-10-2026       ThanhBT11           Expire cached prefix titles, do not cache empty titles
  */
 @Service
 public class PrefixService {
 
     private final PrefixPhoneNumberRepository prefixPhoneNumberRepository;
-    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final RateLimitedLogger logger = RateLimitedLogger.getLogger(this.getClass());
+
+    //Titles in lower case like the case-insensitive collation, reloaded after titlesTtlMs
+    private volatile PrefixTitles prefixTitles;
+
+    private final long titlesTtlMs;
 
     /**
-     * PrefixService controller(PrefixPhoNumberRepository)
+     * PrefixService controller(PrefixPhoNumberRepository, long)
      * @param prefixPhoneNumberRepository prefixPhoneNumberRepository
+     * @param titlesTtlMs                 how long checked titles are answered from memory
      */
     @Autowired
-    public PrefixService(PrefixPhoneNumberRepository prefixPhoneNumberRepository) {
+    public PrefixService(PrefixPhoneNumberRepository prefixPhoneNumberRepository,
+                         @Value("${reactCrud.app.prefix.titlesTtlMs:300000}") long titlesTtlMs) {
         this.prefixPhoneNumberRepository = prefixPhoneNumberRepository;
+        this.titlesTtlMs = titlesTtlMs;
     }
 
+    @Transactional(readOnly = true)
     public List<PrefixPhoneNumber> findAllPrefixes(){
         List<PrefixPhoneNumber> prefixPhoneNumbers = null;
 
         try {
             prefixPhoneNumbers = prefixPhoneNumberRepository.findAll();
         } catch (NullPointerException e) {
-            logger.error("An error occur: " + e.getMessage());
-            throw new ResourceNotFoundException(Message.NOT_EXIST_PREFIX_LIST);
+            logger.error("findAllPrefixes.NullPointerException", "An error occur: {}", e.getMessage());
+            throw ResourceNotFoundException.PREFIX_LIST;
         }
 
         return prefixPhoneNumbers;
     }
 
     /**
-     * Check exist prefix title
+     * Check exist prefix title, answered from memory so misses cost at most one query per titlesTtlMs.
+     * An empty prefix table is not kept, so prefixes seeded after startup are found
      *
      * @param title to check text from select box is exist in prefix list or not
      * @return true if prefix exist, false if not
      */
-    public Boolean isPrefixExistByTitle(String title){
-        return prefixPhoneNumberRepository.existsByTitle(title);
+    @Transactional(readOnly = true)
+    public boolean isPrefixExistByTitle(String title) {
+        long now = System.currentTimeMillis();
+        PrefixTitles titles = prefixTitles;
+
+        if (titles == null || now - titles.loadedAt >= titlesTtlMs) {
+            Set<String> loaded = new HashSet<>();
+            for (PrefixPhoneNumber prefixPhoneNumber : prefixPhoneNumberRepository.findAll()) {
+                if (prefixPhoneNumber.getTitle() != null) {
+                    loaded.add(prefixPhoneNumber.getTitle().toLowerCase(Locale.ROOT));
+                }
+            }
+            titles = new PrefixTitles(loaded, now);
+            prefixTitles = loaded.isEmpty() ? null : titles;
+        }
+
+        return title != null && titles.titles.contains(title.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Prefix titles and when they were loaded
+     */
+    private static final class PrefixTitles {
+
+        private final Set<String> titles;
+
+        private final long loadedAt;
+
+        /**
+         * PrefixTitles constructor(Set, long)
+         *
+         * @param titles   lower case titles
+         * @param loadedAt load time in epoch milliseconds
+         */
+        private PrefixTitles(Set<String> titles, long loadedAt) {
+            this.titles = titles;
+            this.loadedAt = loadedAt;
+        }
     }
 }
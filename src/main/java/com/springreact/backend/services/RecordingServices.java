@@ -0,0 +1,147 @@
+package com.springreact.backend.services;
+
+import com.springreact.backend.constant.Message;
+import com.springreact.backend.exception.ResourceNotFoundException;
+import com.springreact.backend.jfr.AuthTokenEvent;
+import com.springreact.backend.jfr.MailSendEvent;
+import com.springreact.backend.jfr.PasswordHashEvent;
+import com.springreact.backend.jfr.SalaryComputationEvent;
+import com.springreact.backend.jfr.ServiceMethodEvent;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * RecordingServices
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ */
+@Service
+public class RecordingServices {
+
+    private final Map<Long, Recording> recordings = new ConcurrentHashMap<>();
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    /**
+     * Start a flight recording with JDK settings ("default" or "profile") and the application events enabled.
+     * Application events are disabled outside such a recording, so they cost nothing when nobody records
+     *
+     * @param settings JDK settings name
+     * @param maxAge   max age of kept data
+     * @return started recording
+     */
+    public Recording startRecording(String settings, Duration maxAge) {
+        Configuration configuration;
+        try {
+            configuration = Configuration.getConfiguration(settings);
+        } catch (IOException | ParseException e) {
+            throw new ResourceNotFoundException(Message.NOT_EXIST_RECORDING_SETTINGS + settings);
+        }
+
+        Recording recording = new Recording(configuration);
+        recording.setName("react-crud-" + settings);
+        recording.setToDisk(true);
+        recording.setMaxAge(maxAge);
+        recording.enable(ServiceMethodEvent.class);
+        recording.enable(AuthTokenEvent.class);
+        recording.enable(PasswordHashEvent.class);
+        recording.enable(MailSendEvent.class);
+        recording.enable(SalaryComputationEvent.class);
+        recording.start();
+
+        recordings.put(recording.getId(), recording);
+        logger.info("Flight recording " + recording.getId() + " started with settings " + settings);
+        return recording;
+    }
+
+    /**
+     * Find recordings started by this service
+     *
+     * @return recordings
+     */
+    public List<Recording> findAllRecordings() {
+        return new ArrayList<>(recordings.values());
+    }
+
+    /**
+     * Dump data of a recording, the recording keeps running
+     *
+     * @param id recording id
+     * @return content of .jfr file
+     */
+    public byte[] dumpRecording(long id) {
+        Recording recording = findRecording(id);
+        try {
+            Path file = Files.createTempFile("recording-" + id + "-", ".jfr");
+            try {
+                recording.dump(file);
+                return Files.readAllBytes(file);
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Stop and close a recording, its data is dropped
+     *
+     * @param id recording id
+     */
+    public void closeRecording(long id) {
+        Recording recording = findRecording(id);
+        recordings.remove(id);
+        recording.close();
+        logger.info("Flight recording " + id + " closed");
+    }
+
+    /**
+     * Close all recordings on shutdown
+     */
+    @PreDestroy
+    public void closeAll() {
+        for (Recording recording : recordings.values()) {
+            recording.close();
+        }
+        recordings.clear();
+    }
+
+    /**
+     * Find a recording started by this service
+     *
+     * @param id recording id
+     * @return recording
+     */
+    private Recording findRecording(long id) {
+        Recording recording = recordings.get(id);
+        if (recording == null) {
+            throw new ResourceNotFoundException(Message.NOT_EXIST_RECORDING + id);
+        }
+        return recording;
+    }
+}
@@ -3,19 +3,27 @@ package com.springreact.backend.services;
 import com.springreact.backend.constant.Message;
 import com.springreact.backend.constant.Pattern;
 import com.springreact.backend.dto.request.RoleName;
+import com.springreact.backend.dto.response.DeltaResponse;
+import com.springreact.backend.dto.response.Outcome;
+import com.springreact.backend.entity.EChangeAction;
+import com.springreact.backend.entity.EChangeAggregate;
 import com.springreact.backend.entity.Role;
 import com.springreact.backend.exception.ResourceNotFoundException;
+import com.springreact.backend.logging.RateLimitedLogger;
 import com.springreact.backend.repository.EmployeesRepository;
+import com.springreact.backend.repository.Fieldset;
+import com.springreact.backend.repository.FieldsetRepository;
 import com.springreact.backend.repository.RoleRepository;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.Calendar;
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
 /**
  * RoleServices
@@ -30,49 +38,109 @@ import java.util.List;
  * DATE             AUTHOR              DESCRIPTION
  * -------------------------------------------------
  * 07-06-2021       ThanhBT11           Create
+ * 19-10-2026       ThanhBT11           Add read-only transactions
+ * 19-10-2026       ThanhBT11           Record change events
+ * 19-10-2026       ThanhBT11           Add changed-since delta query
+ * 19-10-2026       ThanhBT11           Add sparse fieldsets
+ * 19-10-2026       ThanhBT11           Rate limit error logs
+ * 19-10-2026       ThanhBT11           Return typed outcome, throw preallocated domain exceptions
  */
 @Service
+@Transactional
 public class RoleServices {
 
     private final RoleRepository roleRepository;
 
     private final EmployeesRepository employeesRepository;
 
-    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final ChangeEventServices changeEventServices;
+    private final FieldsetRepository fieldsetRepository;
+
+    private final RateLimitedLogger logger = RateLimitedLogger.getLogger(this.getClass());
 
     /**
      * RoleServices constructor
      *
      * @param roleRepository      roleRepository
      * @param employeesRepository employeesRepository
+     * @param changeEventServices changeEventServices
+     * @param fieldsetRepository  fieldsetRepository
      */
     @Autowired
     public RoleServices(RoleRepository roleRepository,
-                        EmployeesRepository employeesRepository) {
+                        EmployeesRepository employeesRepository,
+                        ChangeEventServices changeEventServices,
+                        FieldsetRepository fieldsetRepository) {
         this.roleRepository = roleRepository;
         this.employeesRepository = employeesRepository;
+        this.changeEventServices = changeEventServices;
+        this.fieldsetRepository = fieldsetRepository;
     }
 
     /**
      * Find all roles order by id descendant
      */
+    @Transactional(readOnly = true)
     public List<Role> findAllByOrderByRoleAsc() {
         return roleRepository.findAllByOrderByRoleAsc();
     }
 
+    /**
+     * Find selected fields of all roles order by role ascendant, other columns are not read
+     *
+     * @param fieldset selected fields
+     * @return roles fields, output field name to value
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> findAllRoleFields(Fieldset fieldset) {
+        return fieldsetRepository.findAll(Role.class, fieldset,
+                (criteriaBuilder, query, root) -> query.orderBy(criteriaBuilder.asc(root.get("role"))));
+    }
+
+    /**
+     * Find selected fields of role by id
+     *
+     * @param id       id of role
+     * @param fieldset selected fields
+     * @return role fields, output field name to value
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> findRoleFieldsById(Long id, Fieldset fieldset) {
+        List<Map<String, Object>> rows = fieldsetRepository.findAll(Role.class, fieldset,
+                (criteriaBuilder, query, root) -> query.where(criteriaBuilder.equal(root.get("id"), id)));
+
+        if (rows.isEmpty()) {
+            throw new ResourceNotFoundException(Message.NOT_EXIST_ROLE + " with id " + id);
+        }
+        return rows.get(0);
+    }
+
+    /**
+     * Find roles changed after a cursor, including soft deleted ones
+     *
+     * @param since   last modified time (epoch millisecond) of cursor
+     * @param afterId id of cursor
+     * @param limit   max rows to return
+     * @return changed roles and next cursor
+     */
+    @Transactional(readOnly = true)
+    public DeltaResponse<Role> findRolesChangedSince(long since, long afterId, int limit) {
+        limit = DeltaResponse.boundedLimit(limit);
+        List<Role> roleList = roleRepository.findChangedSince(new Date(since), afterId, limit);
+        return DeltaResponse.of(roleList, limit, since, afterId, Role::getLastModified, Role::getId);
+    }
+
     /**
      * Create new role
      *
      * @param roleName contains create information
-     * @return message if create success or not
+     * @return outcome, message and status if create success or not
      */
-    public String processCreateRole(RoleName roleName) {
+    public Outcome processCreateRole(RoleName roleName) {
         boolean isRoleExist = roleRepository.existsByRole(roleName.getRole());
-        String message = null;
 
         if (isRoleExist) {
-            message = Message.EXIST_ROLE;
-            return message;
+            return Outcome.EXIST_ROLE;
         }
 
         Role role = new Role();
@@ -84,17 +152,17 @@ public class RoleServices {
         role.setCreatedDate(dateFormat.format(Calendar.getInstance().getTime()));
 
         roleRepository.save(role);
-        message = Message.CREATE_SUCCESS;
-        return message;
+        changeEventServices.record(EChangeAggregate.ROLE, role.getId(), EChangeAction.CREATED);
+        return Outcome.CREATE_SUCCESS;
     }
 
     /**
      * Delete role by role id
      *
      * @param id to delete role
-     * @return message if delete success or not
+     * @return outcome, message and status if delete success or not
      */
-    public String processDeleteRole(Long id) {
+    public Outcome processDeleteRole(Long id) {
         Role role = roleRepository.findById(id)
                 .orElseThrow(() ->
                         new ResourceNotFoundException(
@@ -104,7 +172,8 @@ public class RoleServices {
 
         role.setActive(false);
         roleRepository.save(role);
-        return Message.DELETE_SUCCESS;
+        changeEventServices.record(EChangeAggregate.ROLE, role.getId(), EChangeAction.DELETED);
+        return Outcome.DELETE_SUCCESS;
     }
 
     /**
@@ -113,6 +182,7 @@ public class RoleServices {
      * @param id to check exist
      * @return true if exist, false if not
      */
+    @Transactional(readOnly = true)
     public Boolean isEmployeeExistByRole(Long id) {
         Role role = findRoleById(id);
         return employeesRepository.existsByRole(role);
@@ -124,6 +194,7 @@ public class RoleServices {
      * @param id to find role
      * @return role if exist
      */
+    @Transactional(readOnly = true)
     public Role findRoleById(Long id) {
         return roleRepository.findById(id)
                 .orElseThrow(
@@ -137,11 +208,10 @@ public class RoleServices {
      *
      * @param roleUpdate contains update information
      * @param id         to update role
-     * @return message if update success or not
+     * @return outcome, message and status if update success or not
      */
-    public String processUpdateRole(Role roleUpdate, Long id) {
+    public Outcome processUpdateRole(Role roleUpdate, Long id) {
         boolean isExistByRole = roleRepository.existsByRole(roleUpdate.getRole());
-        String message = null;
 
         Role role = roleRepository.findById(id)
                 .orElseThrow(
@@ -152,17 +222,16 @@ public class RoleServices {
         //Check if role is exist or not
         if (!role.getRole().equalsIgnoreCase(roleUpdate.getRole())) {
             if (isExistByRole) {
-                message = Message.EXIST_ROLE;
-                return message;
+                return Outcome.EXIST_ROLE;
             }
         }
 
         role.setRole(roleUpdate.getRole().toUpperCase());
         role.setCreatedDate(roleUpdate.getCreatedDate());
         roleRepository.save(role);
+        changeEventServices.record(EChangeAggregate.ROLE, role.getId(), EChangeAction.UPDATED);
 
-        message = Message.UPDATE_SUCCESS;
-        return message;
+        return Outcome.UPDATE_SUCCESS;
     }
 
     /**
@@ -171,6 +240,7 @@ public class RoleServices {
      * @param keyword to search employee list
      * @return employee list base on keyword
      */
+    @Transactional(readOnly = true)
     public List<Role> processSearchRoles(String keyword) {
         List<Role> roleList = null;
 
@@ -181,11 +251,11 @@ public class RoleServices {
                 roleList = roleRepository.findAll();
             }
         } catch (NumberFormatException e) {
-            logger.error("An error occur: " + e.getMessage());
-            throw new ResourceNotFoundException(Message.NOT_EXIST_DEPARTMENT_LIST);
+            logger.error("processSearchRoles.NumberFormatException", "An error occur: {}", e.getMessage());
+            throw ResourceNotFoundException.ROLE_LIST;
         } catch (NullPointerException e) {
-            logger.error("An error occur: " + e.getMessage());
-            throw new NullPointerException(Message.NOT_EXIST_DEPARTMENT_LIST);
+            logger.error("processSearchRoles.NullPointerException", "An error occur: {}", e.getMessage());
+            throw ResourceNotFoundException.ROLE_LIST;
         }
 
         return roleList;
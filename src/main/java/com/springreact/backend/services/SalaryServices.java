@@ -3,21 +3,36 @@ package com.springreact.backend.services;
 import com.springreact.backend.constant.Message;
 import com.springreact.backend.constant.Pattern;
 import com.springreact.backend.dto.request.EmployeeSalary;
+import com.springreact.backend.dto.response.DeltaResponse;
+import com.springreact.backend.dto.response.MultiGetResponse;
+import com.springreact.backend.dto.response.Outcome;
+import com.springreact.backend.dto.response.SalaryHistoryResponse;
+import com.springreact.backend.entity.EChangeAction;
+import com.springreact.backend.entity.EChangeAggregate;
 import com.springreact.backend.entity.Employee;
 import com.springreact.backend.entity.Salary;
 import com.springreact.backend.exception.ParseDateException;
 import com.springreact.backend.exception.ResourceNotFoundException;
+import com.springreact.backend.jfr.SalaryComputationEvent;
+import com.springreact.backend.logging.RateLimitedLogger;
 import com.springreact.backend.repository.EmployeesRepository;
+import com.springreact.backend.repository.Fieldset;
+import com.springreact.backend.repository.FieldsetRepository;
 import com.springreact.backend.repository.SalaryRepository;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import org.hibernate.Hibernate;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Subquery;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * SalaryServices
@@ -32,25 +47,52 @@ import java.util.List;
  * DATE             AUTHOR              DESCRIPTION
  * -------------------------------------------------
  * 07-06-2021       ThanhBT11           Create
+ * 19-10-2026       ThanhBT11           Add read-only transactions
+ * 19-10-2026       ThanhBT11           Add page queries for streaming
+ * 19-10-2026       ThanhBT11           Record change events
+ * 19-10-2026       ThanhBT11           Add changed-since delta query
+ * 19-10-2026       ThanhBT11           Add sparse fieldsets
+ * 19-10-2026       ThanhBT11           Add multi-get endpoints
+ * 19-10-2026       ThanhBT11           Use fetch plans of lazy associations
+ * 19-10-2026       ThanhBT11           Add compact salary history
+ * 19-10-2026       ThanhBT11           Add paginated salary history by employee id
+ * 19-10-2026       ThanhBT11           Add flight recorder events
+ * 19-10-2026       ThanhBT11           Rate limit error logs
+ * 19-10-2026       ThanhBT11           Return typed outcome, throw preallocated domain exceptions
+ * 19-10-2026       ThanhBT11           Skip multi-get query without keys
+ * 19-10-2026       ThanhBT11           Not found for missing salary on update and delete
  */
 @Service
+@Transactional
 public class SalaryServices {
 
+    //Bounds of created date (yyyy-MM-dd) when history is not filtered
+    private static final String HISTORY_MIN_DATE = "0000-01-01";
+    private static final String HISTORY_MAX_DATE = "9999-12-31";
+
     private final EmployeesRepository employeesRepository;
 
     private final SalaryRepository salaryRepository;
-    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final ChangeEventServices changeEventServices;
+    private final FieldsetRepository fieldsetRepository;
+    private final RateLimitedLogger logger = RateLimitedLogger.getLogger(this.getClass());
 
     /**
-     * SalaryServices constructor(EmployeesRepository, SalaryRepository)
+     * SalaryServices constructor(EmployeesRepository, SalaryRepository, ChangeEventServices, FieldsetRepository)
      *
      * @param employeesRepository
      * @param salaryRepository
+     * @param changeEventServices
+     * @param fieldsetRepository
      */
     public SalaryServices(EmployeesRepository employeesRepository,
-                          SalaryRepository salaryRepository) {
+                          SalaryRepository salaryRepository,
+                          ChangeEventServices changeEventServices,
+                          FieldsetRepository fieldsetRepository) {
         this.employeesRepository = employeesRepository;
         this.salaryRepository = salaryRepository;
+        this.changeEventServices = changeEventServices;
+        this.fieldsetRepository = fieldsetRepository;
     }
 
     /**
@@ -60,6 +102,7 @@ public class SalaryServices {
      * @return EmployeeSalary list
      * @throws ParseException throw ParseException
      */
+    @Transactional(readOnly = true)
     public List<EmployeeSalary> findAllSalaryOrderByIdDesc() throws ParseException {
         List<Salary> salaryList = findLatestSalaryOfEachEmployees();
         List<EmployeeSalary> employeeSalaryList = new ArrayList<>();
@@ -91,8 +134,8 @@ public class SalaryServices {
                 employeeSalaryList.add(employeeSalary);
             }
         } catch (NullPointerException e) {
-            logger.error("An error occurred: " + e.getMessage());
-            throw new NullPointerException(Message.NOT_EXIST_SALARY);
+            logger.error("findAllSalaryOrderByIdDesc.NullPointerException", "An error occurred: {}", e.getMessage());
+            throw ResourceNotFoundException.SALARY;
         }
 
         return employeeSalaryList;
@@ -104,8 +147,10 @@ public class SalaryServices {
      * @return latest salary list of each employee
      * @throws ParseException throw ParseException
      */
+    @Transactional(readOnly = true)
     public List<Salary> findLatestSalaryOfEachEmployees() throws ParseException {
         List<Salary> salaryList = salaryRepository.findAllByActiveEqualsOrderById(true);
+        SalaryComputationEvent event = SalaryComputationEvent.start(SalaryComputationEvent.LATEST_OF_ALL);
         List<Salary> newSalaryList = new ArrayList<>();
         Date dateBefore;
         Date dateAfter;
@@ -145,21 +190,134 @@ public class SalaryServices {
                 }
             }
         } catch (ParseException e) {
-            logger.error("An error occurred: " + e.getMessage());
-            throw new ParseDateException(Message.PARSE_DATE_ERROR);
+            logger.error("findLatestSalaryOfEachEmployees.ParseException",
+                    "An error occurred: {}", e.getMessage());
+            throw ParseDateException.INVALID_DATE;
         }
 
+        event.finish(salaryList.size(), newSalaryList.size());
         return newSalaryList;
     }
 
+    /**
+     * Find latest active salary of each employee in a page of employees
+     * Result keeps the order of employee page, employees without active salary are skipped
+     *
+     * @param employees page of employees
+     * @return EmployeeSalary list
+     */
+    @Transactional(readOnly = true)
+    public List<EmployeeSalary> findLatestSalaryOfEmployees(List<Employee> employees) {
+        List<EmployeeSalary> employeeSalaryList = new ArrayList<>();
+
+        if (employees.isEmpty()) {
+            return employeeSalaryList;
+        }
+
+        List<Salary> salaryList = salaryRepository.findByActiveTrueAndEmployeeIn(employees);
+        SalaryComputationEvent event = SalaryComputationEvent.start(SalaryComputationEvent.LATEST_OF_PAGE);
+        Map<Long, Salary> latestSalaryByEmployeeId = new HashMap<>();
+
+        for (Salary salary : salaryList) {
+            Long employeeId = salary.getEmployee().getId();
+            Salary latestSalary = latestSalaryByEmployeeId.get(employeeId);
+
+            //Dates are saved as yyyy-MM-dd, so comparing string is comparing date
+            if (latestSalary == null || latestSalary.getCreatedDate() == null ||
+                    (salary.getCreatedDate() != null &&
+                            latestSalary.getCreatedDate().compareTo(salary.getCreatedDate()) < 0)) {
+                latestSalaryByEmployeeId.put(employeeId, salary);
+            }
+        }
+
+        for (Employee employee : employees) {
+            Salary salary = latestSalaryByEmployeeId.get(employee.getId());
+
+            if (salary != null) {
+                EmployeeSalary employeeSalary = new EmployeeSalary(
+                        employee.getFullName(),
+                        salary.getSalary(),
+                        salary.getCreatedDate(),
+                        salary.getEndDate()
+                );
+                employeeSalary.setEmail(employee.getEmail());
+                employeeSalaryList.add(employeeSalary);
+            }
+        }
+
+        event.finish(salaryList.size(), employeeSalaryList.size());
+        return employeeSalaryList;
+    }
+
+    /**
+     * Find selected fields of latest active salary of each employee order by salary id.
+     * Latest salary is picked by a MAX(createdDate) subquery instead of comparing in memory,
+     * createdDate is yyyy-MM-dd so string order is date order
+     *
+     * @param fieldset selected fields
+     * @return latest salaries fields, output field name to value
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> findLatestSalaryFields(Fieldset fieldset) {
+        return fieldsetRepository.findAll(Salary.class, fieldset, (criteriaBuilder, query, root) -> {
+            Subquery<String> latestCreatedDate = query.subquery(String.class);
+            Root<Salary> other = latestCreatedDate.from(Salary.class);
+            latestCreatedDate.select(criteriaBuilder.greatest(other.<String>get("createdDate")))
+                    .where(criteriaBuilder.isTrue(other.<Boolean>get("active")),
+                            criteriaBuilder.equal(other.get("employee"), root.get("employee")));
+
+            query.where(criteriaBuilder.isTrue(root.<Boolean>get("active")),
+                    criteriaBuilder.equal(root.get("createdDate"), latestCreatedDate));
+            query.orderBy(criteriaBuilder.asc(root.get("id")));
+        });
+    }
+
+    /**
+     * Find selected fields of salary by id
+     *
+     * @param id       id of salary
+     * @param fieldset selected fields
+     * @return salary fields, output field name to value
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> findSalaryFieldsById(Long id, Fieldset fieldset) {
+        List<Map<String, Object>> rows = fieldsetRepository.findAll(Salary.class, fieldset,
+                (criteriaBuilder, query, root) -> query.where(criteriaBuilder.equal(root.get("id"), id)));
+
+        if (rows.isEmpty()) {
+            throw new ResourceNotFoundException(Message.NOT_EXIST_SALARY + " with id " + id);
+        }
+        return rows.get(0);
+    }
+
+    /**
+     * Find salaries changed after a cursor, including soft deleted ones
+     *
+     * @param since   last modified time (epoch millisecond) of cursor
+     * @param afterId id of cursor
+     * @param limit   max rows to return
+     * @return changed salaries and next cursor
+     */
+    @Transactional(readOnly = true)
+    public DeltaResponse<Salary> findSalariesChangedSince(long since, long afterId, int limit) {
+        limit = DeltaResponse.boundedLimit(limit);
+        List<Salary> salaryList = salaryRepository.findChangedSince(new Date(since), afterId, limit);
+
+        //Native query can not use a fetch graph, proxies are loaded by batches of @BatchSize
+        for (Salary salary : salaryList) {
+            Hibernate.initialize(salary.getEmployee());
+        }
+        return DeltaResponse.of(salaryList, limit, since, afterId, Salary::getLastModified, Salary::getId);
+    }
+
     /**
      * Create new salary
      *
      * @param salary contains create information
      * @param email  to create salary
-     * @return message if create success or not
+     * @return outcome, message and status if create success or not
      */
-    public String processCreateNewSalary(EmployeeSalary salary, String email) {
+    public Outcome processCreateNewSalary(EmployeeSalary salary, String email) {
         Employee employee = employeesRepository.findByEmail(email)
                 .orElseThrow(
                         () -> new ResourceNotFoundException(
@@ -173,6 +331,8 @@ public class SalaryServices {
         List<Salary> salaryList = salaryRepository.findByEmployee_FullName(salary.getEmployee());
 
         Salary oldSalary = findByEmployee_EmailAndCreatedDate(email, formatter.format(issueDate));
+        SalaryComputationEvent event = SalaryComputationEvent.start(SalaryComputationEvent.CREATE_INTERVAL);
+        int savedCount = 1;
 
         //If there are one salary of an employee create today, we will merge it
         if (oldSalary != null) {
@@ -181,6 +341,7 @@ public class SalaryServices {
             oldSalary.setCreatedDate(formatter.format(issueDate));
             oldSalary.setActive(true);
             salaryRepository.save(oldSalary);
+            changeEventServices.record(EChangeAggregate.SALARY, oldSalary.getId(), EChangeAction.UPDATED);
 
         }
         //else create new salary and set older salary's end date to current date and inactive it
@@ -191,24 +352,29 @@ public class SalaryServices {
             newSalary.setCreatedDate(formatter.format(issueDate));
             newSalary.setActive(true);
             salaryRepository.save(newSalary);
+            changeEventServices.record(EChangeAggregate.SALARY, newSalary.getId(), EChangeAction.CREATED);
 
             if (salaryList.size() > 0) {
-                salaryList.get(salaryList.size() - 1).setEndDate(formatter.format(issueDate));
-                salaryList.get(salaryList.size() - 1).setActive(false);
-                salaryRepository.save(salaryList.get(salaryList.size() - 1));
+                Salary previousSalary = salaryList.get(salaryList.size() - 1);
+                previousSalary.setEndDate(formatter.format(issueDate));
+                previousSalary.setActive(false);
+                salaryRepository.save(previousSalary);
+                changeEventServices.record(EChangeAggregate.SALARY, previousSalary.getId(), EChangeAction.UPDATED);
+                savedCount++;
             }
         }
 
-        return Message.CREATE_SUCCESS;
+        event.finish(salaryList.size(), savedCount);
+        return Outcome.CREATE_SUCCESS;
     }
 
     /**
      * Delete salary by id
      *
      * @param id to delete salary
-     * @return message if delete success or not
+     * @return outcome, message and status if delete success or not
      */
-    public String processDeleteSalary(Long id) {
+    public Outcome processDeleteSalary(Long id) {
         Salary salary = salaryRepository.findById(id)
                 .orElseThrow(
                         () -> new ResourceNotFoundException(
@@ -217,8 +383,9 @@ public class SalaryServices {
 
         salary.setActive(false);
         salaryRepository.save(salary);
+        changeEventServices.record(EChangeAggregate.SALARY, salary.getId(), EChangeAction.DELETED);
 
-        return Message.DELETE_SUCCESS;
+        return Outcome.DELETE_SUCCESS;
     }
 
     /***
@@ -226,20 +393,90 @@ public class SalaryServices {
      * @param id to find salary
      * @return salary by salary id
      */
+    @Transactional(readOnly = true)
     public Salary findSalaryById(Long id) {
-        return salaryRepository.findById(id)
+        return salaryRepository.findWithEmployeeById(id)
                 .orElseThrow(
                         () -> new ResourceNotFoundException(
                                 Message.NOT_EXIST_SALARY + " with id " + id)
                 );
     }
 
+    /**
+     * Find salary history of an employee by email with two narrow queries,
+     * employee header is selected once and salaries only select their own columns
+     *
+     * @param email to find employee
+     * @return employee header and salary intervals order by created date
+     */
+    @Transactional(readOnly = true)
+    public SalaryHistoryResponse findSalaryHistoryByEmail(String email) {
+        EmployeesRepository.Header employee = employeesRepository.findHeaderByEmail(email)
+                .orElseThrow(
+                        () -> new ResourceNotFoundException(
+                                Message.NOT_EXIST_EMPLOYEE + " with email " + email)
+                );
+        return SalaryHistoryResponse.of(employee, salaryRepository.findIntervalsByEmployeeId(employee.getId()));
+    }
+
+    /**
+     * Find one page of salary history of an employee, newest first, keyset pagination on
+     * (createdDate, id) so every page is one range read on index (employeeId, createdDate, id)
+     *
+     * @param employeeId id of employee
+     * @param from       min created date (yyyy-MM-dd), null if not filtered
+     * @param to         max created date (yyyy-MM-dd), null if not filtered
+     * @param beforeDate created date cursor of previous page, null for first page
+     * @param beforeId   id cursor of previous page, null for first page
+     * @param limit      max intervals of the page
+     * @return employee header, salary intervals and cursor of next page
+     */
+    @Transactional(readOnly = true)
+    public SalaryHistoryResponse findSalaryHistoryPage(Long employeeId,
+                                                       String from,
+                                                       String to,
+                                                       String beforeDate,
+                                                       Long beforeId,
+                                                       int limit) {
+        EmployeesRepository.Header employee = employeesRepository.findHeaderById(employeeId)
+                .orElseThrow(
+                        () -> new ResourceNotFoundException(
+                                Message.NOT_EXIST_EMPLOYEE + " with id " + employeeId)
+                );
+
+        limit = SalaryHistoryResponse.boundedLimit(limit);
+        //Read one extra row to know if there is a next page
+        List<SalaryRepository.SalaryInterval> intervals = salaryRepository.findIntervalPageByEmployeeId(
+                employeeId,
+                from == null ? HISTORY_MIN_DATE : from,
+                to == null ? HISTORY_MAX_DATE : to,
+                beforeDate == null ? HISTORY_MAX_DATE : beforeDate,
+                beforeId == null ? Long.MAX_VALUE : beforeId,
+                PageRequest.of(0, limit + 1));
+        return SalaryHistoryResponse.page(employee, intervals, limit);
+    }
+
+    /**
+     * Find salaries by ids with one query
+     *
+     * @param ids ids in request order
+     * @return found salaries in request order and ids which are not found
+     */
+    @Transactional(readOnly = true)
+    public MultiGetResponse<Long, Salary> findSalariesByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return MultiGetResponse.empty();
+        }
+        return MultiGetResponse.of(ids, salaryRepository.findByIdIn(ids), Salary::getId);
+    }
+
     /**
      * Find salary list of one employee by employee id
      *
      * @param id to find list
      * @return salary list of an employee by employee id
      */
+    @Transactional(readOnly = true)
     public List<EmployeeSalary> findAllSalariesHistoryByEmployeeId(Long id) {
         Employee employee = employeesRepository.findById(id)
                 .orElseThrow(() -> new
@@ -248,7 +485,8 @@ public class SalaryServices {
                         )
                 );
 
-        List<Salary> salaryList = salaryRepository.findByEmployee_Email(employee.getEmail());
+        //Employee is already in persistence context, salaries do not load it again
+        List<Salary> salaryList = salaryRepository.findByEmployee_IdOrderByCreatedDateAscIdAsc(employee.getId());
         List<EmployeeSalary> employeeSalaryList = new ArrayList<>();
         EmployeeSalary employeeSalary = null;
 
@@ -270,8 +508,9 @@ public class SalaryServices {
                 employeeSalaryList.add(employeeSalary);
             }
         } catch (NullPointerException e) {
-            logger.error("An error occurred: " + e.getMessage());
-            throw new NullPointerException(Message.NOT_EXIST_SALARY);
+            logger.error("findAllSalariesHistoryByEmployeeId.NullPointerException",
+                    "An error occurred: {}", e.getMessage());
+            throw ResourceNotFoundException.SALARY;
         }
 
         return employeeSalaryList;
@@ -284,6 +523,7 @@ public class SalaryServices {
      * @param createdDate to check exist
      * @return true if exist, false if not
      */
+    @Transactional(readOnly = true)
     public Boolean checkExistSalaryByEmployeeEmailAndCreatedDate(String email, String createdDate) {
         return salaryRepository.existsByEmployee_EmailAndCreatedDate(email, createdDate);
     }
@@ -295,6 +535,7 @@ public class SalaryServices {
      * @param createdDate to find salary
      * @return salary by email and create date
      */
+    @Transactional(readOnly = true)
     public Salary findByEmployee_EmailAndCreatedDate(String email, String createdDate) {
         return salaryRepository.findByEmployee_EmailAndCreatedDate(email, createdDate);
     }
@@ -305,15 +546,16 @@ public class SalaryServices {
      * @param employeeSalary contains update information
      * @param email          to update salary
      * @param cdDate         to update salary
-     * @return message if update success or not
-     * @throws ParseException throw ParseException
+     * @return outcome, message and status if update success or not
      */
-    public String processUpdateSalary(EmployeeSalary employeeSalary,
+    public Outcome processUpdateSalary(EmployeeSalary employeeSalary,
                                       String email,
-                                      String cdDate)
-            throws ParseException {
+                                      String cdDate) {
         Salary salary = findByEmployee_EmailAndCreatedDate(
                 email, cdDate);
+        if (salary == null) {
+            throw ResourceNotFoundException.SALARY;
+        }
 
         try {
             Date createdDate = new SimpleDateFormat(Pattern.DATE_PATTERN)
@@ -326,7 +568,7 @@ public class SalaryServices {
 
                 //Check end date is issued after create date or not
                 if (endDate.compareTo(createdDate) < 0) {
-                    return Message.VALID_CREATED_DATE_END_DATE;
+                    return Outcome.VALID_CREATED_DATE_END_DATE;
                 }
 
                 salary.setActive(false);
@@ -337,12 +579,13 @@ public class SalaryServices {
             salary.setEndDate(employeeSalary.getEndDate());
 
             salaryRepository.save(salary);
+            changeEventServices.record(EChangeAggregate.SALARY, salary.getId(), EChangeAction.UPDATED);
         } catch (ParseException e) {
-            logger.error("An error occurred: " + e.getMessage());
-            throw new ParseDateException(Message.PARSE_DATE_ERROR);
+            logger.error("processUpdateSalary.ParseException", "An error occurred: {}", e.getMessage());
+            throw ParseDateException.INVALID_DATE;
         }
 
-        return Message.UPDATE_SUCCESS;
+        return Outcome.UPDATE_SUCCESS;
     }
 
     /**
@@ -350,9 +593,9 @@ public class SalaryServices {
      *
      * @param email       to delete salary
      * @param createdDate to delete salary
-     * @return me
+     * @return outcome, message and status if delete success or not
      */
-    public String processDeleteSalary(
+    public Outcome processDeleteSalary(
             String email,
             String createdDate
     ) {
@@ -360,18 +603,22 @@ public class SalaryServices {
                 email,
                 createdDate
         );
+        if (salary == null) {
+            throw ResourceNotFoundException.SALARY;
+        }
 
         //Check if salary is inactive or not
         if (!salary.isActive()) {
-            return Message.DELETE_SALARY_FAIL;
+            return Outcome.DELETE_SALARY_FAIL;
         }
 
         SimpleDateFormat formatter = new SimpleDateFormat(Pattern.DATE_PATTERN);
         salary.setEndDate(formatter.format(new Date()));
         salary.setActive(false);
         salaryRepository.save(salary);
+        changeEventServices.record(EChangeAggregate.SALARY, salary.getId(), EChangeAction.DELETED);
 
-        return Message.DELETE_SUCCESS;
+        return Outcome.DELETE_SUCCESS;
     }
 
     /**
@@ -380,6 +627,7 @@ public class SalaryServices {
      * @param email to find salary list
      * @return salary list
      */
+    @Transactional(readOnly = true)
     public List<Salary> findAllSalaryByEmail(String email) {
         return salaryRepository.findByEmployee_Email(email);
     }
@@ -0,0 +1,124 @@
+package com.springreact.backend.services;
+
+import com.springreact.backend.dto.request.EmployeeRoleAndDepartment;
+import com.springreact.backend.dto.request.EmployeeSalary;
+import com.springreact.backend.entity.Employee;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+
+/**
+ * StreamServices
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ */
+@Service
+public class StreamServices {
+
+    private static final long NO_MORE_PAGE = 0L;
+
+    private final EmployeeServices employeeServices;
+    private final SalaryServices salaryServices;
+
+    @Value("${reactCrud.app.stream.pageSize:200}")
+    private int pageSize;
+
+    /**
+     * StreamServices constructor(EmployeeServices, SalaryServices)
+     *
+     * @param employeeServices employeeServices
+     * @param salaryServices   salaryServices
+     */
+    public StreamServices(EmployeeServices employeeServices,
+                          SalaryServices salaryServices) {
+        this.employeeServices = employeeServices;
+        this.salaryServices = salaryServices;
+    }
+
+    /**
+     * Stream all employees order by id descendant
+     *
+     * @return employee flux
+     */
+    public Flux<Employee> streamEmployees() {
+        return employeePages()
+                .flatMapIterable(page -> page, 1);
+    }
+
+    /**
+     * Stream role and department of all employees order by employee id descendant
+     *
+     * @return EmployeeRoleAndDepartment flux
+     */
+    public Flux<EmployeeRoleAndDepartment> streamEmployeeRoleAndDepartment() {
+        return streamEmployees()
+                .map(employee -> {
+                    EmployeeRoleAndDepartment employeeRoleAndDepartment = new EmployeeRoleAndDepartment(
+                            employee.getEmail(), employee.getFullName());
+
+                    if (employee.getRole() != null) {
+                        employeeRoleAndDepartment.setRole(employee.getRole().getRole());
+                    }
+                    if (employee.getDepartment() != null) {
+                        employeeRoleAndDepartment.setDepartment(employee.getDepartment().getDepartment());
+                    }
+
+                    return employeeRoleAndDepartment;
+                });
+    }
+
+    /**
+     * Stream latest salary of all employees order by employee id descendant
+     *
+     * @return EmployeeSalary flux
+     */
+    public Flux<EmployeeSalary> streamLatestSalaries() {
+        return employeePages()
+                .map(salaryServices::findLatestSalaryOfEmployees)
+                .flatMapIterable(page -> page, 1);
+    }
+
+    /**
+     * Read employees page by page (keyset on id), a page is only read when subscriber requests it
+     *
+     * @return flux of employee pages
+     */
+    private Flux<List<Employee>> employeePages() {
+        return Flux.<List<Employee>, Long>generate(
+                () -> Long.MAX_VALUE,
+                (lastId, sink) -> {
+                    if (lastId == NO_MORE_PAGE) {
+                        sink.complete();
+                        return lastId;
+                    }
+
+                    List<Employee> page = employeeServices.findEmployeePageBefore(lastId, pageSize);
+
+                    if (page.isEmpty()) {
+                        sink.complete();
+                        return NO_MORE_PAGE;
+                    }
+
+                    sink.next(page);
+
+                    //Last page is not full, no need to query one more time
+                    return page.size() < pageSize
+                            ? NO_MORE_PAGE
+                            : page.get(page.size() - 1).getId();
+                })
+                //Blocking JDBC call must not run on servlet or SSE writer thread
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+}
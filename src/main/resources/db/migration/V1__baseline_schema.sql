@@ -0,0 +1,62 @@
+-- Baseline schema, the tables as ddl-auto=update created them from the entities of the first release.
+-- Existing databases are baselined at version 1 and skip this script, later changes are V2 onwards.
+-- Column names follow SpringPhysicalNamingStrategy (createdDate -> created_date).
+
+CREATE TABLE role
+(
+    id            BIGINT       NOT NULL AUTO_INCREMENT,
+    role          VARCHAR(255),
+    created_date  VARCHAR(255),
+    active        BIT          NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE department
+(
+    id            BIGINT       NOT NULL AUTO_INCREMENT,
+    department    VARCHAR(255),
+    created_date  VARCHAR(255),
+    full_name     VARCHAR(255),
+    active        BIT          NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE employees
+(
+    id                   BIGINT       NOT NULL AUTO_INCREMENT,
+    full_name            VARCHAR(255),
+    email                VARCHAR(255),
+    password             VARCHAR(255),
+    phone                VARCHAR(255),
+    address              VARCHAR(255),
+    gender               VARCHAR(255),
+    image                VARCHAR(255),
+    active               BIT          NOT NULL,
+    reset_password_token VARCHAR(255),
+    role_id              BIGINT,
+    department_id        BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_employees_email UNIQUE (email),
+    CONSTRAINT fk_employees_role FOREIGN KEY (role_id) REFERENCES role (id),
+    CONSTRAINT fk_employees_department FOREIGN KEY (department_id) REFERENCES department (id)
+);
+
+CREATE TABLE salary
+(
+    id            BIGINT       NOT NULL AUTO_INCREMENT,
+    salary        INTEGER,
+    created_date  VARCHAR(255),
+    end_date      VARCHAR(255),
+    employee_id   BIGINT,
+    active        BIT          NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_salary_employee FOREIGN KEY (employee_id) REFERENCES employees (id)
+);
+
+CREATE TABLE prefix
+(
+    id    BIGINT NOT NULL AUTO_INCREMENT,
+    value VARCHAR(255),
+    title VARCHAR(255),
+    PRIMARY KEY (id)
+);
@@ -0,0 +1,31 @@
+-- Indexes of repository lookups.
+-- Employee, role and department are read with @Where(active != 0), so active is the
+-- last column of each lookup index and the filter is checked without reading the row.
+
+-- EmployeesRepository: findEmployeeByPhone, existsEmployeeByPhone
+CREATE INDEX idx_employees_phone ON employees (phone, active);
+
+-- EmployeesRepository: findByResetPasswordToken
+CREATE INDEX idx_employees_reset_password_token ON employees (reset_password_token);
+
+-- EmployeesRepository: existsByRole, existsByDepartment, also serve the foreign keys
+CREATE INDEX idx_employees_role ON employees (role_id, active);
+CREATE INDEX idx_employees_department ON employees (department_id, active);
+
+-- EmployeesRepository: findAllByOrderByIdDesc, findByIdLessThanOrderByIdDesc (keyset pages)
+CREATE INDEX idx_employees_active_id ON employees (active, id);
+
+-- DepartmentRepository: findByDepartment, existsByDepartment, findAllByOrderByDepartmentAsc
+CREATE INDEX idx_department_department ON department (department, active);
+
+-- DepartmentRepository: existsByFullName
+CREATE INDEX idx_department_full_name ON department (full_name, active);
+
+-- RoleRepository: findByRole, existsByRole, findAllByOrderByRoleAsc
+CREATE INDEX idx_role_role ON role (role, active);
+
+-- SalaryRepository: findAllByActiveEqualsOrderById
+CREATE INDEX idx_salary_active_id ON salary (active, id);
+
+-- PrefixPhoneNumberRepository: existsByTitle
+CREATE INDEX idx_prefix_title ON prefix (title);
@@ -0,0 +1,2 @@
+-- SalaryRepository: findByEmployee_FullName, salary creation looks up the employee by name
+CREATE INDEX idx_employees_full_name ON employees (full_name, active);
@@ -0,0 +1,23 @@
+-- Optimistic locking (@Version) and delta sync (@UpdateTimestamp lastModified).
+-- last_modified keeps milliseconds, so rows changed in the same second keep their order in delta cursors.
+-- Existing rows start at version 0 and are stamped with the migration time, the next delta sync sends them once.
+
+ALTER TABLE role ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE role ADD COLUMN last_modified DATETIME(3);
+ALTER TABLE department ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE department ADD COLUMN last_modified DATETIME(3);
+ALTER TABLE employees ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE employees ADD COLUMN last_modified DATETIME(3);
+ALTER TABLE salary ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE salary ADD COLUMN last_modified DATETIME(3);
+
+UPDATE role SET last_modified = CURRENT_TIMESTAMP(3) WHERE last_modified IS NULL;
+UPDATE department SET last_modified = CURRENT_TIMESTAMP(3) WHERE last_modified IS NULL;
+UPDATE employees SET last_modified = CURRENT_TIMESTAMP(3) WHERE last_modified IS NULL;
+UPDATE salary SET last_modified = CURRENT_TIMESTAMP(3) WHERE last_modified IS NULL;
+
+-- Delta sync cursors (last_modified, id)
+CREATE INDEX idx_employees_last_modified ON employees (last_modified, id);
+CREATE INDEX idx_role_last_modified ON role (last_modified, id);
+CREATE INDEX idx_department_last_modified ON department (last_modified, id);
+CREATE INDEX idx_salary_last_modified ON salary (last_modified, id);
@@ -0,0 +1,11 @@
+-- Outbox of changes, relayed to long-poll and SSE subscribers in id order
+
+CREATE TABLE change_event
+(
+    id           BIGINT NOT NULL AUTO_INCREMENT,
+    aggregate    VARCHAR(20),
+    aggregate_id BIGINT,
+    action       VARCHAR(20),
+    created_at   BIGINT NOT NULL,
+    PRIMARY KEY (id)
+);
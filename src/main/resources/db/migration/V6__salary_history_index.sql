@@ -0,0 +1,2 @@
+-- SalaryRepository: salary history of one employee, keyset pages newest first
+CREATE INDEX idx_salary_employee_created_date ON salary (employee_id, created_date DESC, id DESC);
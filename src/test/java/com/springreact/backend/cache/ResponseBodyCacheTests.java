@@ -0,0 +1,91 @@
+package com.springreact.backend.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.springreact.backend.entity.EChangeAggregate;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * ResponseBodyCacheTests
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ */
+class ResponseBodyCacheTests {
+
+    private static final String KEY = ResponseBodyCache.key("/roles");
+
+    private ResponseBodyCache responseBodyCache;
+
+    @BeforeEach
+    void setUp() {
+        responseBodyCache = new ResponseBodyCache(new ObjectMapper(),
+                new MappingJackson2CborHttpMessageConverter(new ObjectMapper(new CBORFactory())),
+                new MappingJackson2SmileHttpMessageConverter(new ObjectMapper(new SmileFactory())),
+                new SingleFlight(new SimpleMeterRegistry(), 5000L),
+                1_048_576L);
+    }
+
+    @Test
+    void gzipAndIdentityBodiesHaveDifferentEntityTags() {
+        String gzipETag = respond(true, null).getHeaders().getETag();
+        String identityETag = respond(false, null).getHeaders().getETag();
+
+        assertNotNull(gzipETag);
+        assertNotNull(identityETag);
+        assertNotEquals(gzipETag, identityETag);
+    }
+
+    @Test
+    void entityTagOnlyMatchesItsOwnEncoding() {
+        String gzipETag = respond(true, null).getHeaders().getETag();
+
+        assertNull(respond(true, gzipETag), "same encoding should be not modified");
+        assertNotNull(respond(false, gzipETag), "gzip tag must not validate identity body");
+    }
+
+    @Test
+    void reloadAfterInvalidationKeepsTagOfSameBody() {
+        String before = respond(false, null).getHeaders().getETag();
+        responseBodyCache.invalidate(EChangeAggregate.ROLE);
+
+        assertNull(respond(false, before), "body did not change, tag is the same");
+    }
+
+    private ResponseEntity<byte[]> respond(boolean gzip, String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/roles");
+        if (gzip) {
+            request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        }
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+
+        return responseBodyCache.respond(KEY, new ServletWebRequest(request, new MockHttpServletResponse()),
+                () -> Collections.singletonList("ROLE_ADMIN"), EChangeAggregate.ROLE);
+    }
+}
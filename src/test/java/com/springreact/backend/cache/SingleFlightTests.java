@@ -0,0 +1,170 @@
+package com.springreact.backend.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * SingleFlightTests
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ */
+class SingleFlightTests {
+
+    private static final String KEY = "/employees|application/json|";
+    private static final int WAITERS = 8;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final ExecutorService callers = Executors.newFixedThreadPool(WAITERS + 1);
+
+    private final CountDownLatch started = new CountDownLatch(1);
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        callers.shutdownNow();
+    }
+
+    @Test
+    void concurrentCallersShareOneLoad() throws Exception {
+        SingleFlight singleFlight = new SingleFlight(meterRegistry, 10000L);
+        Supplier<String> loader = blockingLoader(() -> "body");
+
+        List<Future<String>> results = startCallers(singleFlight, loader);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertEquals("body", result.get(10, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        assertEquals(1, count("leader"));
+        assertEquals(WAITERS, count("coalesced"));
+        assertEquals(0, count("fallback"));
+
+        //Key is released, a later caller runs a new load
+        assertEquals("body", singleFlight.execute(KEY, loader));
+        assertEquals(2, loads.get());
+        assertEquals(2, count("leader"));
+    }
+
+    @Test
+    void failureOfLoadReachesEveryWaiter() throws Exception {
+        SingleFlight singleFlight = new SingleFlight(meterRegistry, 10000L);
+        IllegalStateException failure = new IllegalStateException("database is down");
+
+        List<Future<String>> results = startCallers(singleFlight, blockingLoader(() -> {
+            throw failure;
+        }));
+        release.countDown();
+
+        for (Future<String> result : results) {
+            ExecutionException e = assertThrows(ExecutionException.class, () -> result.get(10, TimeUnit.SECONDS));
+            assertSame(failure, e.getCause());
+        }
+        assertEquals(1, loads.get());
+        assertEquals(1, count("leader"));
+        assertEquals(WAITERS, count("coalesced"));
+    }
+
+    @Test
+    void waiterLoadsOnItsOwnAfterTimeout() throws Exception {
+        SingleFlight singleFlight = new SingleFlight(meterRegistry, 100L);
+        Future<String> leader = callers.submit(() -> singleFlight.execute(KEY, blockingLoader(() -> "leader body")));
+        assertTrue(started.await(5, TimeUnit.SECONDS), "leader never started loading");
+
+        //Leader is stuck, the waiter gives up after 100 ms and gets its own result
+        long start = System.nanoTime();
+        assertEquals("own body", singleFlight.execute(KEY, () -> "own body"));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 5000);
+        assertEquals(1, count("coalesced"));
+        assertEquals(1, count("fallback"));
+
+        release.countDown();
+        assertEquals("leader body", leader.get(10, TimeUnit.SECONDS));
+    }
+
+    /**
+     * Start a leader, wait until it is loading, then start waiters and wait until all of them joined it
+     *
+     * @param singleFlight single flight under test
+     * @param loader       loader of every caller
+     * @return results of leader and waiters
+     */
+    private List<Future<String>> startCallers(SingleFlight singleFlight, Supplier<String> loader)
+            throws InterruptedException {
+        List<Future<String>> results = new ArrayList<>();
+        results.add(callers.submit(() -> singleFlight.execute(KEY, loader)));
+        assertTrue(started.await(5, TimeUnit.SECONDS), "leader never started loading");
+
+        for (int i = 0; i < WAITERS; i++) {
+            results.add(callers.submit(() -> singleFlight.execute(KEY, loader)));
+        }
+        assertTrue(waitFor(() -> count("coalesced") == WAITERS), "waiters never joined the load");
+        return results;
+    }
+
+    /**
+     * Loader which counts its calls and blocks until released
+     *
+     * @param result result of the load
+     * @return loader
+     */
+    private Supplier<String> blockingLoader(Supplier<String> result) {
+        return () -> {
+            loads.incrementAndGet();
+            started.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return result.get();
+        };
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("single.flight.calls").tag("result", result).counter().count();
+    }
+
+    private boolean waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(5);
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                return false;
+            }
+            Thread.sleep(10);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,192 @@
+package com.springreact.backend.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.web.SpringJUnitWebConfig;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * AsyncWebConfigTests
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ * 19-10-2026       ThanhBT11           Add SYNC mode test
+ */
+@SpringJUnitWebConfig(AsyncWebConfigTests.WebConfig.class)
+@TestPropertySource(properties = {
+        "reactCrud.app.async.mode=POOL",
+        "reactCrud.app.async.poolSize=" + AsyncWebConfigTests.POOL_SIZE,
+        "reactCrud.app.async.queueCapacity=100",
+        "reactCrud.app.async.timeoutMs=10000"
+})
+class AsyncWebConfigTests {
+
+    static final int POOL_SIZE = 4;
+    private static final int REQUESTS = 40;
+
+    private static CountDownLatch release;
+    private static final AtomicInteger running = new AtomicInteger();
+
+    @Autowired
+    private WebApplicationContext context;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+        release = new CountDownLatch(1);
+        running.set(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+    }
+
+    @Test
+    void poolModeReleasesServletThreadWhileWorkIsBlocked() throws Exception {
+        List<MvcResult> inFlight = new ArrayList<>();
+
+        //One servlet thread accepts ten times more requests than the pool can run, while every task is blocked
+        for (int i = 0; i < REQUESTS; i++) {
+            inFlight.add(mockMvc.perform(get("/blocking"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn());
+        }
+
+        assertTrue(waitFor(() -> running.get() == POOL_SIZE), "pool threads never picked up work");
+        assertEquals(POOL_SIZE, running.get());
+
+        release.countDown();
+
+        for (MvcResult result : inFlight) {
+            result.getAsyncResult(TimeUnit.SECONDS.toMillis(10));
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(content().string(startsWith("blocking-io-")));
+        }
+    }
+
+    @Nested
+    @TestPropertySource(properties = "reactCrud.app.async.mode=SYNC")
+    class SyncMode {
+
+        @Autowired
+        private WebApplicationContext syncContext;
+
+        private MockMvc syncMockMvc;
+
+        @BeforeEach
+        void setUp() {
+            syncMockMvc = MockMvcBuilders.webAppContextSetup(syncContext).build();
+        }
+
+        @Test
+        void callableRunsOnRequestThreadWithoutAsyncDispatch() throws Exception {
+            syncMockMvc.perform(get("/direct"))
+                    .andExpect(request().asyncNotStarted())
+                    .andExpect(status().isCreated())
+                    .andExpect(content().string(Thread.currentThread().getName()));
+        }
+
+        @Test
+        void callableExceptionReachesExceptionHandler() throws Exception {
+            syncMockMvc.perform(get("/failing"))
+                    .andExpect(request().asyncNotStarted())
+                    .andExpect(status().isConflict())
+                    .andExpect(content().string("failed"));
+        }
+    }
+
+    private boolean waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(5);
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                return false;
+            }
+            Thread.sleep(10);
+        }
+        return true;
+    }
+
+    @Configuration
+    @EnableWebMvc
+    @Import({AsyncWebConfig.class, BlockingController.class})
+    static class WebConfig {
+    }
+
+    @RestController
+    static class BlockingController {
+
+        @GetMapping("/blocking")
+        public Callable<String> blocking() {
+            return () -> {
+                running.incrementAndGet();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                    return Thread.currentThread().getName();
+                } finally {
+                    running.decrementAndGet();
+                }
+            };
+        }
+
+        @GetMapping("/direct")
+        public Callable<ResponseEntity<String>> direct() {
+            return () -> new ResponseEntity<>(Thread.currentThread().getName(), HttpStatus.CREATED);
+        }
+
+        @GetMapping("/failing")
+        public Callable<String> failing() {
+            return () -> {
+                throw new IllegalStateException("failed");
+            };
+        }
+
+        @ExceptionHandler(IllegalStateException.class)
+        public ResponseEntity<String> handleIllegalState(IllegalStateException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.CONFLICT);
+        }
+    }
+}
@@ -0,0 +1,283 @@
+package com.springreact.backend.config.allocation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springreact.backend.cache.ResponseBodyCache;
+import com.springreact.backend.constant.Link;
+import com.springreact.backend.dto.request.LoginRequest;
+import com.springreact.backend.entity.EChangeAggregate;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledOnJre;
+import org.junit.jupiter.api.condition.JRE;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * AllocationBudgetTests
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ * 19-10-2026       ThanhBT11           Read accessToken, set budgets from measured medians
+ * 19-10-2026       ThanhBT11           Run on JDK 11 in allocation-budget profile only
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:allocation_budget;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "reactCrud.app.warmup.enabled=false",
+        "reactCrud.app.async.mode=SYNC",
+        "reactCrud.app.allocation.enabled=true"
+})
+@Tag("allocation-budget")
+@EnabledOnJre(JRE.JAVA_11)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class AllocationBudgetTests {
+
+    private static final int EMPLOYEES = 200;
+    private static final int SALARIES_PER_EMPLOYEE = 5;
+
+    private static final String ADMIN_EMAIL = "admin@mail.com";
+    private static final String ADMIN_PASSWORD = "admin-password";
+
+    //Requests before measuring, so JIT compiled code and filled pools are measured, not class loading
+    private static final int WARM_UP_REQUESTS = 50;
+    private static final int MEASURED_REQUESTS = 15;
+
+    /**
+     * Budgets of bytes allocated on the servlet thread by one request (median),
+     * with the data set above. Lower a budget after an allocation fix, never raise it to hide a regression.
+     * Measured medians on JDK 11: employee list 818 KiB, cached 330 KiB, salary list 865-880 KiB,
+     * login 226 KiB. Budgets leave about 25% for library differences, other JDKs allocate differently
+     * (login about 2 MB on JDK 17) so the class only runs on JDK 11, with mvn -Pallocation-budget test
+     */
+    private static final long EMPLOYEE_LIST_BUDGET = 1024L * 1024;
+    private static final long EMPLOYEE_LIST_CACHED_BUDGET = 416L * 1024;
+    private static final long SALARY_LIST_BUDGET = 1104L * 1024;
+    private static final long LOGIN_BUDGET = 288L * 1024;
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ResponseBodyCache responseBodyCache;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String token;
+
+    /**
+     * Load roles, a department, an admin, employees and their salaries (last one active), then sign in the admin
+     *
+     * @throws Exception throw Exception
+     */
+    @BeforeAll
+    void loadData() throws Exception {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.of(2021, 1, 1, 0, 0));
+
+        jdbcTemplate.batchUpdate("INSERT INTO role (id, role, created_date, active, version, last_modified) " +
+                "VALUES (?, ?, '2021-01-01', TRUE, 0, ?)", Arrays.asList(
+                new Object[]{1L, "ROLE_ADMIN", now},
+                new Object[]{2L, "ROLE_USER", now}));
+        jdbcTemplate.update("INSERT INTO department " +
+                "(id, department, created_date, full_name, active, version, last_modified) " +
+                "VALUES (1, 'IT', '2021-01-01', 'Information Technology', TRUE, 0, ?)", now);
+
+        String password = passwordEncoder.encode(ADMIN_PASSWORD);
+        List<Object[]> employees = new ArrayList<>();
+        for (long i = 1; i <= EMPLOYEES; i++) {
+            employees.add(new Object[]{i, "Employee " + i, i == 1 ? ADMIN_EMAIL : "employee" + i + "@mail.com",
+                    password, String.format("09%08d", i), "District " + i % 30, i % 2 == 0 ? "Male" : "Female",
+                    "image" + i + ".png", i == 1 ? 1L : 2L, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO employees (id, full_name, email, password, phone, address, gender, " +
+                "image, active, role_id, department_id, version, last_modified) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, TRUE, ?, 1, 0, ?)", employees);
+
+        List<Object[]> salaries = new ArrayList<>();
+        long salaryId = 1;
+        for (long employeeId = 1; employeeId <= EMPLOYEES; employeeId++) {
+            for (int period = 0; period < SALARIES_PER_EMPLOYEE; period++) {
+                LocalDate createdDate = LocalDate.of(2019, 1, 1).plusMonths(period * 6L);
+                boolean current = period == SALARIES_PER_EMPLOYEE - 1;
+                salaries.add(new Object[]{salaryId++, 1000 + period * 100, createdDate.toString(),
+                        current ? null : createdDate.plusMonths(6).toString(), employeeId, current, now});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO salary " +
+                "(id, salary, created_date, end_date, employee_id, active, version, last_modified) " +
+                "VALUES (?, ?, ?, ?, ?, ?, 0, ?)", salaries);
+
+        MvcResult login = perform(login());
+        assertEquals(200, login.getResponse().getStatus(), login.getResponse().getContentAsString());
+        token = objectMapper.readTree(login.getResponse().getContentAsByteArray()).get("accessToken").asText();
+    }
+
+    /**
+     * Employee list, response cache is dropped before each request so rows are read, mapped and serialized
+     *
+     * @throws Exception throw Exception
+     */
+    @Test
+    void employeeListStaysInBudget() throws Exception {
+        assertWithinBudget("GET " + Link.EMPLOYEE_URL, EMPLOYEE_LIST_BUDGET, () -> {
+            responseBodyCache.invalidate(EChangeAggregate.EMPLOYEE);
+            return get(Link.BASE_URL + Link.EMPLOYEE_URL).header(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+        });
+    }
+
+    /**
+     * Employee list served from the response cache
+     *
+     * @throws Exception throw Exception
+     */
+    @Test
+    void cachedEmployeeListStaysInBudget() throws Exception {
+        assertWithinBudget("GET " + Link.EMPLOYEE_URL + " (cached)", EMPLOYEE_LIST_CACHED_BUDGET,
+                () -> get(Link.BASE_URL + Link.EMPLOYEE_URL).header(HttpHeaders.AUTHORIZATION, "Bearer " + token));
+    }
+
+    /**
+     * Latest salary list, response cache is dropped before each request
+     *
+     * @throws Exception throw Exception
+     */
+    @Test
+    void salaryListStaysInBudget() throws Exception {
+        assertWithinBudget("GET " + Link.SALARY_URL, SALARY_LIST_BUDGET, () -> {
+            responseBodyCache.invalidate(EChangeAggregate.SALARY);
+            return get(Link.BASE_URL + Link.SALARY_URL).header(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+        });
+    }
+
+    /**
+     * Sign in, password check and token creation included
+     *
+     * @throws Exception throw Exception
+     */
+    @Test
+    void loginStaysInBudget() throws Exception {
+        assertWithinBudget("POST " + Link.SIGN_IN, LOGIN_BUDGET, this::login);
+    }
+
+    /**
+     * Warm up, then fail if the median of allocated bytes of measured requests exceeds the budget
+     *
+     * @param endpoint endpoint name for messages
+     * @param budget   allocated bytes budget
+     * @param request  builds one request, called once per request
+     * @throws Exception throw Exception
+     */
+    private void assertWithinBudget(String endpoint, long budget, RequestSupplier request) throws Exception {
+        for (int i = 0; i < WARM_UP_REQUESTS; i++) {
+            allocatedBytes(perform(request.get()));
+        }
+
+        long[] measured = new long[MEASURED_REQUESTS];
+        for (int i = 0; i < MEASURED_REQUESTS; i++) {
+            measured[i] = allocatedBytes(perform(request.get()));
+        }
+        Arrays.sort(measured);
+        long median = measured[MEASURED_REQUESTS / 2];
+
+        logger.info("{} allocated {} bytes per request (min {}, max {}, budget {})",
+                endpoint, median, measured[0], measured[MEASURED_REQUESTS - 1], budget);
+        assertTrue(median <= budget,
+                endpoint + " allocated " + median + " bytes per request, budget is " + budget);
+    }
+
+    /**
+     * Perform a request, async requests (login) are dispatched again to render the response
+     *
+     * @param request request to perform
+     * @return completed result
+     * @throws Exception throw Exception
+     */
+    private MvcResult perform(RequestBuilder request) throws Exception {
+        MvcResult result = mockMvc.perform(request).andReturn();
+        if (result.getRequest().isAsyncStarted()) {
+            result = mockMvc.perform(asyncDispatch(result)).andReturn();
+        }
+        return result;
+    }
+
+    /**
+     * Allocated bytes counted by allocation filter
+     *
+     * @param result completed result
+     * @return allocated bytes of all dispatches
+     */
+    private long allocatedBytes(MvcResult result) {
+        assertEquals(200, result.getResponse().getStatus());
+        Object allocated = result.getRequest().getAttribute(AllocationFilter.ALLOCATED_BYTES_ATTRIBUTE);
+        assertNotNull(allocated, "Allocation filter did not run, thread allocation counters are not supported");
+        return (Long) allocated;
+    }
+
+    /**
+     * Sign in request of the admin
+     *
+     * @return login request
+     * @throws Exception throw Exception
+     */
+    private RequestBuilder login() throws Exception {
+        LoginRequest loginRequest = new LoginRequest(ADMIN_EMAIL, ADMIN_PASSWORD);
+
+        return post(Link.BASE_URL + Link.SIGN_IN)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsBytes(loginRequest));
+    }
+
+    /**
+     * Builds a new request for every call
+     */
+    @FunctionalInterface
+    private interface RequestSupplier {
+        RequestBuilder get() throws Exception;
+    }
+}
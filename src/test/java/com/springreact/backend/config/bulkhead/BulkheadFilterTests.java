@@ -0,0 +1,77 @@
+package com.springreact.backend.config.bulkhead;
+
+import com.springreact.backend.constant.Link;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * BulkheadFilterTests
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ */
+class BulkheadFilterTests {
+
+    private Bulkhead bulkhead;
+    private BulkheadFilter bulkheadFilter;
+
+    @BeforeEach
+    void setUp() {
+        bulkhead = new Bulkhead("crud", 1, 0, 0L, false, 500L, new SimpleMeterRegistry());
+        bulkheadFilter = new BulkheadFilter(Collections.singletonMap(Link.BASE_URL + "/employees/**", bulkhead));
+    }
+
+    @Test
+    void fullGroupIsRejectedWithBusyResponse() throws Exception {
+        assertTrue(bulkhead.tryAcquire());
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+        bulkheadFilter.doFilter(request(), response, filterChain);
+
+        assertNull(filterChain.getRequest(), "rejected request reached the chain");
+        assertEquals(503, response.getStatus());
+        assertNull(response.getErrorMessage(), "sendError would dispatch to /error");
+        assertEquals("1", response.getHeader(HttpHeaders.RETRY_AFTER));
+        assertEquals(MediaType.APPLICATION_JSON_VALUE, response.getContentType());
+        assertEquals("{\"code\":503,\"message\":\"Service is busy, please try again later!\"}",
+                response.getContentAsString());
+    }
+
+    @Test
+    void permitIsReleasedAfterRequest() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+        bulkheadFilter.doFilter(request(), response, filterChain);
+
+        assertEquals(200, response.getStatus());
+        assertEquals(0, bulkhead.getInFlight());
+        assertTrue(bulkhead.tryAcquire());
+        assertFalse(bulkhead.tryAcquire());
+    }
+
+    private MockHttpServletRequest request() {
+        return new MockHttpServletRequest("GET", Link.BASE_URL + "/employees/1");
+    }
+}
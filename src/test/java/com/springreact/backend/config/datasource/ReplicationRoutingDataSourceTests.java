@@ -0,0 +1,173 @@
+package com.springreact.backend.config.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * ReplicationRoutingDataSourceTests
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ReplicationRoutingDataSourceTests {
+
+    private static final String PRIMARY_URL =
+            "jdbc:h2:mem:routing_primary;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    private static final String REPLICA_URL =
+            "jdbc:h2:mem:routing_replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    private static final long READ_YOUR_WRITES_MS = 300;
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTemplate;
+    private TransactionTemplate readOnlyTemplate;
+
+    @BeforeAll
+    void setUp() throws Exception {
+        //Each database knows its own name, so a read tells which one served it
+        seed(PRIMARY_URL, "PRIMARY");
+        seed(REPLICA_URL, "REPLICA");
+
+        DataSourceProperties properties = new DataSourceProperties();
+        properties.setUrl(PRIMARY_URL);
+        properties.setUsername("sa");
+        properties.setPassword("");
+        properties.setDriverClassName("org.h2.Driver");
+        properties.afterPropertiesSet();
+
+        ReplicaDataSourceConfig config = new ReplicaDataSourceConfig();
+        ReflectionTestUtils.setField(config, "replicaUrl", REPLICA_URL);
+        ReflectionTestUtils.setField(config, "replicaUsername", "sa");
+        ReflectionTestUtils.setField(config, "replicaPassword", "");
+        ReflectionTestUtils.setField(config, "readYourWritesMs", READ_YOUR_WRITES_MS);
+
+        DataSource dataSource = config.dataSource(properties);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        writeTemplate = new TransactionTemplate(transactionManager);
+        readOnlyTemplate = new TransactionTemplate(transactionManager);
+        readOnlyTemplate.setReadOnly(true);
+    }
+
+    @BeforeEach
+    void waitForLag() throws InterruptedException {
+        //Start every test without a pinned caller from the previous one
+        Thread.sleep(READ_YOUR_WRITES_MS + 50);
+    }
+
+    @AfterEach
+    void clearCaller() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransactionGoesToReplica() {
+        login("alice");
+
+        assertEquals("REPLICA", readOnlyTemplate.execute(status -> nodeName()));
+    }
+
+    @Test
+    void writeTransactionGoesToPrimary() {
+        login("alice");
+
+        assertEquals("PRIMARY", writeTemplate.execute(status -> write()));
+    }
+
+    @Test
+    void recentWriterReadsFromPrimaryUntilLagExpires() throws InterruptedException {
+        login("alice");
+        writeTemplate.execute(status -> write());
+
+        assertEquals("PRIMARY", readOnlyTemplate.execute(status -> nodeName()));
+
+        //Other callers are not pinned by alice's write
+        login("bob");
+        assertEquals("REPLICA", readOnlyTemplate.execute(status -> nodeName()));
+
+        login("alice");
+        Thread.sleep(READ_YOUR_WRITES_MS + 50);
+        assertEquals("REPLICA", readOnlyTemplate.execute(status -> nodeName()));
+    }
+
+    @Test
+    void onPrimaryRoutesReadOnlyTransactionToPrimary() {
+        login("alice");
+
+        assertEquals("PRIMARY", ReplicationRoutingDataSource.onPrimary(
+                () -> readOnlyTemplate.execute(status -> nodeName())));
+        assertEquals("REPLICA", readOnlyTemplate.execute(status -> nodeName()));
+    }
+
+    @Test
+    void rolledBackWriteDoesNotPinCaller() {
+        login("alice");
+        writeTemplate.execute(status -> {
+            write();
+            status.setRollbackOnly();
+            return null;
+        });
+
+        assertEquals("REPLICA", readOnlyTemplate.execute(status -> nodeName()));
+    }
+
+    @Test
+    void anonymousWriteDoesNotPinAnonymousReads() {
+        SecurityContextHolder.getContext().setAuthentication(new AnonymousAuthenticationToken(
+                "key", "anonymousUser", AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS")));
+        writeTemplate.execute(status -> write());
+
+        assertEquals("REPLICA", readOnlyTemplate.execute(status -> nodeName()));
+
+        SecurityContextHolder.clearContext();
+        writeTemplate.execute(status -> write());
+
+        assertEquals("REPLICA", readOnlyTemplate.execute(status -> nodeName()));
+    }
+
+    private void seed(String url, String name) {
+        JdbcTemplate template = new JdbcTemplate(new DriverManagerDataSource(url, "sa", ""));
+        template.execute("CREATE TABLE node (name VARCHAR(20) NOT NULL)");
+        template.update("INSERT INTO node (name) VALUES (?)", name);
+    }
+
+    private String nodeName() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private String write() {
+        jdbcTemplate.update("UPDATE node SET name = name");
+        return nodeName();
+    }
+
+    private void login(String username) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(username, null, AuthorityUtils.NO_AUTHORITIES));
+    }
+}
@@ -0,0 +1,120 @@
+package com.springreact.backend.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springreact.backend.constant.Link;
+import com.springreact.backend.constant.Message;
+import com.springreact.backend.dto.request.LoginRequest;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * BatchControllerTests
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:batch;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "reactCrud.app.warmup.enabled=false",
+        "reactCrud.app.async.mode=SYNC"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class BatchControllerTests {
+
+    private static final String ADMIN_EMAIL = "admin@mail.com";
+    private static final String ADMIN_PASSWORD = "admin-password";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String token;
+
+    /**
+     * Load an admin and sign in
+     *
+     * @throws Exception throw Exception
+     */
+    @BeforeAll
+    void loadData() throws Exception {
+        jdbcTemplate.update("INSERT INTO role (id, role, created_date, active, version) " +
+                "VALUES (1, 'ROLE_ADMIN', '2021-01-01', TRUE, 0)");
+        jdbcTemplate.update("INSERT INTO department (id, department, created_date, full_name, active, version) " +
+                "VALUES (1, 'IT', '2021-01-01', 'Information Technology', TRUE, 0)");
+        jdbcTemplate.update("INSERT INTO employees (id, full_name, email, password, active, role_id, " +
+                "department_id, version) VALUES (1, 'Admin', ?, ?, TRUE, 1, 1, 0)",
+                ADMIN_EMAIL, passwordEncoder.encode(ADMIN_PASSWORD));
+
+        MvcResult login = mockMvc.perform(post(Link.BASE_URL + Link.SIGN_IN)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(new LoginRequest(ADMIN_EMAIL, ADMIN_PASSWORD))))
+                .andReturn();
+        if (login.getRequest().isAsyncStarted()) {
+            login = mockMvc.perform(asyncDispatch(login)).andReturn();
+        }
+        token = objectMapper.readTree(login.getResponse().getContentAsByteArray()).get("accessToken").asText();
+    }
+
+    @Test
+    void idWhichIsNotANumberIsBadRequest() throws Exception {
+        mockMvc.perform(batch("{\"operations\":[{\"id\":\"1\",\"method\":\"GET\",\"path\":\"/employees/abc\"},"
+                        + "{\"id\":\"2\",\"method\":\"PUT\",\"path\":\"/roles/abc\",\"body\":{}}]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].status").value(400))
+                .andExpect(jsonPath("$.results[0].body.message").value(Message.INVALID_ID + "abc"))
+                .andExpect(jsonPath("$.results[1].status").value(400));
+    }
+
+    @Test
+    void missingEmployeeIsNotFound() throws Exception {
+        mockMvc.perform(batch("{\"operations\":[{\"id\":\"1\",\"method\":\"GET\",\"path\":\"/employees/999999\"}]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].status").value(404));
+    }
+
+    private MockHttpServletRequestBuilder batch(String body) {
+        return post(Link.BASE_URL + Link.BATCH_URL)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body);
+    }
+}
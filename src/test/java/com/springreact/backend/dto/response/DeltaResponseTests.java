@@ -0,0 +1,87 @@
+package com.springreact.backend.dto.response;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * DeltaResponseTests
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ */
+class DeltaResponseTests {
+
+    private static final long HOUR_MS = 3_600_000L;
+
+    @Test
+    void cursorMovesToLastRowWhenAllRowsAreSettled() {
+        long old = System.currentTimeMillis() - HOUR_MS;
+        List<Row> rows = Arrays.asList(new Row(1L, old), new Row(2L, old + 1000));
+
+        DeltaResponse<Row> delta = DeltaResponse.of(rows, 2, 0L, 0L, Row::getLastModified, Row::getId);
+
+        assertEquals(old + 1000, delta.getNextSince());
+        assertEquals(2L, delta.getNextAfterId());
+        assertTrue(delta.isHasMore());
+    }
+
+    @Test
+    void cursorStaysBehindRowsInSettleWindow() {
+        long now = System.currentTimeMillis();
+        long old = now - HOUR_MS;
+        List<Row> rows = Arrays.asList(new Row(1L, old), new Row(2L, now), new Row(3L, now));
+
+        DeltaResponse<Row> delta = DeltaResponse.of(rows, 3, 0L, 0L, Row::getLastModified, Row::getId);
+
+        assertEquals(3, delta.getItems().size());
+        assertEquals(old, delta.getNextSince());
+        assertEquals(1L, delta.getNextAfterId());
+        assertFalse(delta.isHasMore(), "client would loop on rows it can not pass yet");
+    }
+
+    @Test
+    void cursorIsKeptWhenNothingIsSettled() {
+        long now = System.currentTimeMillis();
+
+        DeltaResponse<Row> delta = DeltaResponse.of(Collections.singletonList(new Row(7L, now)), 10,
+                now - HOUR_MS, 5L, Row::getLastModified, Row::getId);
+
+        assertEquals(now - HOUR_MS, delta.getNextSince());
+        assertEquals(5L, delta.getNextAfterId());
+    }
+
+    private static class Row {
+
+        private final Long id;
+        private final Date lastModified;
+
+        Row(Long id, long lastModified) {
+            this.id = id;
+            this.lastModified = new Date(lastModified);
+        }
+
+        Long getId() {
+            return id;
+        }
+
+        Date getLastModified() {
+            return lastModified;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.springreact.backend.dto.response;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * MultiGetResponseTests
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ */
+class MultiGetResponseTests {
+
+    @Test
+    void rowsAreReturnedInRequestOrder() {
+        MultiGetResponse<Long, Long> response = MultiGetResponse.of(Arrays.asList(3L, 1L, 2L, 3L),
+                Arrays.asList(1L, 3L), id -> id);
+
+        assertEquals(Arrays.asList(3L, 1L), response.getItems());
+        assertEquals(Collections.singletonList(2L), response.getMissing());
+    }
+
+    @Test
+    void emailsAreMatchedCaseInsensitively() {
+        MultiGetResponse<String, String> response = MultiGetResponse.of(
+                Arrays.asList("Admin@Mail.com", "admin@mail.com", "Missing@Mail.com"),
+                Collections.singletonList("admin@mail.com"),
+                email -> email,
+                email -> email.toLowerCase(Locale.ROOT));
+
+        assertEquals(Collections.singletonList("admin@mail.com"), response.getItems());
+        assertEquals(Collections.singletonList("Missing@Mail.com"), response.getMissing());
+    }
+
+    @Test
+    void emptyResponseHasNoItemsAndNoMissingKeys() {
+        MultiGetResponse<Long, Long> response = MultiGetResponse.empty();
+
+        assertTrue(response.getItems().isEmpty());
+        assertTrue(response.getMissing().isEmpty());
+    }
+}
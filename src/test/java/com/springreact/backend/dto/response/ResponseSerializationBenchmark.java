@@ -0,0 +1,206 @@
+package com.springreact.backend.dto.response;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.springreact.backend.entity.Department;
+import com.springreact.backend.entity.Employee;
+import com.springreact.backend.entity.Role;
+import com.springreact.backend.repository.Fieldset;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * ResponseSerializationBenchmark
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ * 19-10-2026       ThanhBT11           Add full versus sparse fieldset case
+ */
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ResponseSerializationBenchmark {
+
+    private static final int EMPLOYEES = 100_000;
+    private static final int IMAGE_BYTES = 2048;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURE_ROUNDS = 10;
+
+    private ObjectMapper jsonMapper;
+    private ObjectMapper cborMapper;
+    private ObjectMapper smileMapper;
+
+    private List<Employee> employees;
+    private List<Employee> employeesWithoutImage;
+    private List<EmployeeResponse> employeeResponses;
+
+    @BeforeAll
+    void setUp() {
+        //Same builder the application uses for json, cbor and smile converters
+        jsonMapper = Jackson2ObjectMapperBuilder.json().build();
+        cborMapper = Jackson2ObjectMapperBuilder.json().factory(new CBORFactory()).build();
+        smileMapper = Jackson2ObjectMapperBuilder.json().factory(new SmileFactory()).build();
+
+        char[] image = new char[IMAGE_BYTES];
+        Arrays.fill(image, 'A');
+
+        List<Role> roles = new ArrayList<>();
+        List<Department> departments = new ArrayList<>();
+        for (long i = 1; i <= 20; i++) {
+            Role role = new Role("ROLE_" + i, "2021-06-07");
+            role.setId(i);
+            roles.add(role);
+
+            Department department = new Department("Department " + i, "2021-06-07", "Manager " + i);
+            department.setId(i);
+            departments.add(department);
+        }
+
+        employees = employees(roles, departments, "data:image/png;base64," + new String(image));
+        employeesWithoutImage = employees(roles, departments, null);
+        employeeResponses = EmployeeResponse.listOf(employees);
+    }
+
+    /**
+     * Employee entities written by bean introspection against the lean response model with its own serializer
+     */
+    @Test
+    void entityVersusResponseModel() throws IOException {
+        report("json entity (before)", jsonMapper, employees, false);
+        report("json entity, no image", jsonMapper, employeesWithoutImage, false);
+        report("json response model", jsonMapper, employeeResponses, false);
+    }
+
+    /**
+     * The same response model in each negotiated encoding: json, cbor and smile
+     */
+    @Test
+    void jsonVersusBinaryFormats() throws IOException {
+        report("json", jsonMapper, employeeResponses, true);
+        report("cbor", cborMapper, employeeResponses, true);
+        report("smile", smileMapper, employeeResponses, true);
+    }
+
+    /**
+     * Full employee list against sparse fieldsets (?fields=), rows shaped as FieldsetRepository returns them
+     */
+    @Test
+    void fullVersusSparseFieldsets() throws IOException {
+        report("json full list", jsonMapper, employeeResponses, true);
+        report("json id,fullName,email,role", jsonMapper,
+                fieldsetRows(EmployeeResponse.FIELDSET.select("id,fullName,email,role")), true);
+        report("json id,fullName", jsonMapper, fieldsetRows(EmployeeResponse.FIELDSET.select("id,fullName")), true);
+    }
+
+    private List<Map<String, Object>> fieldsetRows(Fieldset fieldset) {
+        List<Map<String, Object>> rows = new ArrayList<>(EMPLOYEES);
+        for (Employee employee : employees) {
+            BeanWrapper entity = PropertyAccessorFactory.forBeanPropertyAccess(employee);
+            Map<String, Object> row = new LinkedHashMap<>();
+
+            for (Map.Entry<String, String> path : fieldset.getPaths().entrySet()) {
+                String outputName = path.getKey();
+                Object value = entity.getPropertyValue(path.getValue());
+                int separator = outputName.indexOf('.');
+
+                if (separator < 0) {
+                    row.put(outputName, value);
+                } else {
+                    @SuppressWarnings("unchecked")
+                    Map<String, Object> nestedRow = (Map<String, Object>) row.computeIfAbsent(
+                            outputName.substring(0, separator), key -> new LinkedHashMap<String, Object>());
+                    nestedRow.put(outputName.substring(separator + 1), value);
+                }
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    private List<Employee> employees(List<Role> roles, List<Department> departments, String image) {
+        List<Employee> employeeList = new ArrayList<>(EMPLOYEES);
+        for (int i = 0; i < EMPLOYEES; i++) {
+            Employee employee = new Employee("Employee Full Name " + i, "employee" + i + "@mail.com",
+                    "09" + (10_000_000 + i), "District " + (i % 12) + ", Ho Chi Minh City",
+                    "$2a$10$abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXY",
+                    i % 2 == 0 ? "Male" : "Female", image);
+            employee.setId(i + 1L);
+            employee.setActive(true);
+            employee.setRole(roles.get(i % roles.size()));
+            employee.setDepartment(departments.get(i % departments.size()));
+            employee.setVersion(i % 5);
+            employee.setLastModified(new Date(1_600_000_000_000L + i));
+            employeeList.add(employee);
+        }
+        return employeeList;
+    }
+
+    private void report(String name, ObjectMapper mapper, Object value, boolean decode) throws IOException {
+        byte[] body = mapper.writeValueAsBytes(value);
+        double encodeMs = medianMs(() -> mapper.writeValueAsBytes(value));
+        String decodeMs = decode ? String.format("%8.1f ms", medianMs(() -> mapper.readTree(body))) : "       -";
+
+        if (decode) {
+            assertEquals(EMPLOYEES, mapper.readTree(body).size());
+        }
+
+        System.out.printf("%-28s %d employees: %,12d bytes, gzip %,11d bytes, encode %8.1f ms (%6.1f MB/s)"
+                        + ", decode %s%n",
+                name, EMPLOYEES, body.length, gzipSize(body), encodeMs, body.length / 1e3 / encodeMs, decodeMs);
+    }
+
+    private double medianMs(IoTask task) throws IOException {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            task.run();
+        }
+
+        long[] rounds = new long[MEASURE_ROUNDS];
+        for (int i = 0; i < MEASURE_ROUNDS; i++) {
+            long start = System.nanoTime();
+            task.run();
+            rounds[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(rounds);
+        return rounds[MEASURE_ROUNDS / 2] / 1e6;
+    }
+
+    private int gzipSize(byte[] body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        }
+        return out.size();
+    }
+
+    @FunctionalInterface
+    private interface IoTask {
+        Object run() throws IOException;
+    }
+}
@@ -0,0 +1,140 @@
+package com.springreact.backend.jfr;
+
+import com.springreact.backend.entity.Role;
+import com.springreact.backend.exception.ResourceNotFoundException;
+import com.springreact.backend.repository.EmployeesRepository;
+import com.springreact.backend.repository.FieldsetRepository;
+import com.springreact.backend.repository.RoleRepository;
+import com.springreact.backend.services.ChangeEventServices;
+import com.springreact.backend.services.RecordingServices;
+import com.springreact.backend.services.RoleServices;
+import jdk.jfr.EventType;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * ServiceEventAspectTests
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ */
+class ServiceEventAspectTests {
+
+    private static final String EVENT_NAME = "com.springreact.ServiceMethod";
+
+    private final EventType eventType = EventType.getEventType(ServiceMethodEvent.class);
+
+    private final RecordingServices recordingServices = new RecordingServices();
+
+    private RoleServices roleServices;
+
+    @BeforeEach
+    void setUp() {
+        RoleRepository roleRepository = mock(RoleRepository.class);
+        when(roleRepository.findAllByOrderByRoleAsc()).thenReturn(Arrays.asList(
+                new Role("ROLE_ADMIN", "2021-01-01"), new Role("ROLE_USER", "2021-01-01")));
+        when(roleRepository.findById(42L)).thenReturn(Optional.empty());
+
+        //Same proxy as Spring creates for a *Services bean
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new RoleServices(roleRepository,
+                mock(EmployeesRepository.class), mock(ChangeEventServices.class), mock(FieldsetRepository.class)));
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new ServiceEventAspect());
+        roleServices = proxyFactory.getProxy();
+    }
+
+    @AfterEach
+    void tearDown() {
+        recordingServices.closeAll();
+    }
+
+    @Test
+    void serviceCallsAreCommittedOnlyWhileRecording() throws IOException {
+        //No recording enables the event, the aspect only calls the method
+        assertFalse(eventType.isEnabled());
+        assertEquals(2, roleServices.findAllByOrderByRoleAsc().size());
+
+        Recording recording = recordingServices.startRecording("default", Duration.ofMinutes(1));
+        assertTrue(eventType.isEnabled());
+
+        assertEquals(2, roleServices.findAllByOrderByRoleAsc().size());
+        assertThrows(ResourceNotFoundException.class, () -> roleServices.findRoleById(42L));
+
+        List<RecordedEvent> events = serviceEvents(recordingServices.dumpRecording(recording.getId()));
+        assertEquals(2, events.size(), events.toString());
+
+        RecordedEvent listEvent = events.get(0);
+        assertEquals("RoleServices", listEvent.getString("service"));
+        assertEquals("findAllByOrderByRoleAsc", listEvent.getString("method"));
+        assertEquals(2, listEvent.getInt("entityCount"));
+        assertFalse(listEvent.getBoolean("failed"));
+
+        RecordedEvent failedEvent = events.get(1);
+        assertEquals("findRoleById", failedEvent.getString("method"));
+        assertEquals(-1, failedEvent.getInt("entityCount"));
+        assertTrue(failedEvent.getBoolean("failed"));
+
+        recordingServices.closeRecording(recording.getId());
+        assertFalse(eventType.isEnabled());
+        assertTrue(recordingServices.findAllRecordings().isEmpty());
+    }
+
+    @Test
+    void unknownRecordingIsNotFound() {
+        assertThrows(ResourceNotFoundException.class, () -> recordingServices.dumpRecording(-1L));
+        assertThrows(ResourceNotFoundException.class,
+                () -> recordingServices.startRecording("no-such-settings", Duration.ofMinutes(1)));
+    }
+
+    /**
+     * Read ServiceMethodEvent of a dumped recording committed by the test thread, in commit order.
+     * Scheduled jobs of application contexts started by other tests may call services meanwhile
+     *
+     * @param content content of .jfr file
+     * @return service method events
+     */
+    private static List<RecordedEvent> serviceEvents(byte[] content) throws IOException {
+        String threadName = Thread.currentThread().getName();
+        Path file = Files.createTempFile("service-events-", ".jfr");
+        try {
+            Files.write(file, content);
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> EVENT_NAME.equals(event.getEventType().getName()))
+                    .filter(event -> event.getThread() != null
+                            && threadName.equals(event.getThread().getJavaName()))
+                    .sorted((first, second) -> first.getEndTime().compareTo(second.getEndTime()))
+                    .collect(Collectors.toList());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.springreact.backend.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * RateLimitedLoggerTests
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ */
+class RateLimitedLoggerTests {
+
+    private static final long WINDOW_MS = 50L;
+
+    private final RateLimitedLogger rateLimitedLogger = RateLimitedLogger.getLogger(RateLimitedLoggerTests.class);
+
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    private Logger logger;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitedLogger.configure(WINDOW_MS, 1, 0);
+        logger = (Logger) LoggerFactory.getLogger(RateLimitedLoggerTests.class);
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+        RateLimitedLogger.configure(10000, 5, 1000);
+    }
+
+    @Test
+    void suppressedMessagesAreSummarizedWithoutAnotherMessage() throws InterruptedException {
+        for (int i = 0; i < 5; i++) {
+            rateLimitedLogger.error("burst", "Failure {}", i);
+        }
+        assertEquals(1, appender.list.size());
+
+        Thread.sleep(WINDOW_MS * 2);
+        RateLimitedLogger.flushExpired();
+
+        List<String> messages = appender.list.stream()
+                .map(ILoggingEvent::getFormattedMessage)
+                .collect(Collectors.toList());
+        assertEquals(2, messages.size(), messages.toString());
+        assertTrue(messages.get(1).startsWith("Suppressed 4 similar messages of key 'burst'"), messages.get(1));
+        assertEquals(Level.ERROR, appender.list.get(1).getLevel());
+
+        //Summary is written once, the next message of the key does not repeat it
+        RateLimitedLogger.flushExpired();
+        rateLimitedLogger.error("burst", "Failure {}", 5);
+        assertEquals(3, appender.list.size());
+        assertEquals("Failure 5", appender.list.get(2).getFormattedMessage());
+    }
+}
@@ -0,0 +1,148 @@
+package com.springreact.backend.repository;
+
+import com.springreact.backend.dto.response.EmployeeResponse;
+import com.springreact.backend.entity.Employee;
+import com.springreact.backend.exception.InvalidFieldException;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * FieldsetRepositoryTests
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(FieldsetRepository.class)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:fieldset;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.springreact.backend.repository.QueryRecorder"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class FieldsetRepositoryTests {
+
+    @Autowired
+    private FieldsetRepository fieldsetRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Load a role, a department, an employee with both and one without role
+     */
+    @BeforeAll
+    void loadData() {
+        jdbcTemplate.update("INSERT INTO role (id, role, created_date, active, version) " +
+                "VALUES (1, 'ROLE_ADMIN', '2021-01-01', TRUE, 0)");
+        jdbcTemplate.update("INSERT INTO department (id, department, created_date, full_name, active, version) " +
+                "VALUES (1, 'IT', '2021-01-01', 'Information Technology', TRUE, 0)");
+        jdbcTemplate.update("INSERT INTO employees (id, full_name, email, password, phone, address, gender, " +
+                "image, active, role_id, department_id, version) VALUES " +
+                "(1, 'Employee 1', 'employee1@mail.com', 'password', '0900000001', 'District 1', 'Male', " +
+                "'image1.png', TRUE, 1, 1, 0), " +
+                "(2, 'Employee 2', 'employee2@mail.com', 'password', '0900000002', 'District 2', 'Female', " +
+                "'image2.png', TRUE, NULL, 1, 0)");
+    }
+
+    @Test
+    void onlyRequestedColumnsAreSelected() {
+        List<List<Map<String, Object>>> result = new ArrayList<>();
+        List<String> statements = QueryRecorder.record(() -> result.add(findAll("id,fullName")));
+
+        assertEquals(1, statements.size(), statements.toString());
+        assertEquals(Arrays.asList("id", "full_name"), selectedColumns(statements.get(0)));
+        assertFalse(statements.get(0).toLowerCase(Locale.ROOT).contains(" join "), statements.get(0));
+
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", 2L);
+        row.put("fullName", "Employee 2");
+        assertEquals(row, result.get(0).get(0));
+    }
+
+    @Test
+    void associationIsJoinedOnlyWhenRequested() {
+        List<List<Map<String, Object>>> result = new ArrayList<>();
+        List<String> statements = QueryRecorder.record(() -> result.add(findAll("email,role")));
+
+        assertEquals(1, statements.size(), statements.toString());
+        String sql = statements.get(0).toLowerCase(Locale.ROOT);
+        assertEquals(Arrays.asList("email", "id", "role"), selectedColumns(sql));
+        assertTrue(sql.contains("left outer join role"), sql);
+        assertFalse(sql.contains("department"), sql);
+
+        //Employee without role gets a null role, not a map of nulls
+        assertNull(result.get(0).get(0).get("role"));
+        assertEquals(1L, ((Map<?, ?>) result.get(0).get(1).get("role")).get("id"));
+    }
+
+    @Test
+    void unknownFieldIsBadRequest() {
+        InvalidFieldException exception = assertThrows(InvalidFieldException.class,
+                () -> EmployeeResponse.FIELDSET.select("id,password"));
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatus());
+        assertTrue(exception.getMessage().endsWith("password"), exception.getMessage());
+    }
+
+    private List<Map<String, Object>> findAll(String fields) {
+        return fieldsetRepository.findAll(Employee.class, EmployeeResponse.FIELDSET.select(fields),
+                (criteriaBuilder, query, root) -> query.orderBy(criteriaBuilder.desc(root.get("id"))));
+    }
+
+    /**
+     * Column names of the select list, "employee0_.full_name as col_1_0_" gives "full_name"
+     *
+     * @param sql select statement
+     * @return selected column names in order
+     */
+    private static List<String> selectedColumns(String sql) {
+        String lowerSql = sql.toLowerCase(Locale.ROOT);
+        String selectList = lowerSql.substring(lowerSql.indexOf("select") + "select".length(),
+                lowerSql.indexOf(" from "));
+
+        List<String> columns = new ArrayList<>();
+        for (String selection : selectList.split(",")) {
+            String column = selection.trim().split("\\s+")[0];
+            columns.add(column.substring(column.indexOf('.') + 1));
+        }
+        return columns;
+    }
+}
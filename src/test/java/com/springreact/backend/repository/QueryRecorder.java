@@ -0,0 +1,58 @@
+package com.springreact.backend.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * QueryRecorder
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ * 19-10-2026       ThanhBT11           Open recording to service tests
+ */
+public class QueryRecorder implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> STATEMENTS = new ThreadLocal<>();
+
+    /**
+     * Run a call and return every sql statement Hibernate prepared on this thread during the call
+     *
+     * @param call repository call
+     * @return prepared sql statements in execution order
+     */
+    public static List<String> record(Runnable call) {
+        List<String> statements = new ArrayList<>();
+        STATEMENTS.set(statements);
+        try {
+            call.run();
+        } finally {
+            STATEMENTS.remove();
+        }
+        return statements;
+    }
+
+    /**
+     * Keep the statement when recording, sql is not changed
+     *
+     * @param sql statement prepared by Hibernate
+     * @return the same sql
+     */
+    @Override
+    public String inspect(String sql) {
+        List<String> statements = STATEMENTS.get();
+        if (statements != null) {
+            statements.add(sql);
+        }
+        return sql;
+    }
+}
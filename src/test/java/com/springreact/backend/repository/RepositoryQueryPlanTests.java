@@ -0,0 +1,395 @@
+package com.springreact.backend.repository;
+
+import com.springreact.backend.entity.Employee;
+import com.springreact.backend.entity.Salary;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RepositoryQueryPlanTests
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query_plan;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.springreact.backend.repository.QueryRecorder"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class RepositoryQueryPlanTests {
+
+    private static final int ROLES = 20;
+    private static final int DEPARTMENTS = 50;
+    private static final int EMPLOYEES = 5000;
+    private static final int SALARIES_PER_EMPLOYEE = 10;
+    private static final int PREFIXES = 100;
+
+    //H2 writes "/* table.tableScan */" for a full scan, a lookup on the row id is "/* table.tableScan: id = ?1 */"
+    private static final Pattern FULL_SCAN = Pattern.compile("\\.tableScan\\s*\\*/", Pattern.CASE_INSENSITIVE);
+    private static final String INDEX_SORTED = "/* index sorted */";
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    @Autowired
+    private EmployeesRepository employeesRepository;
+
+    @Autowired
+    private SalaryRepository salaryRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private PrefixPhoneNumberRepository prefixPhoneNumberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    /**
+     * Expected access path of a query
+     */
+    enum Access {
+        /**
+         * Every table is read through an index
+         */
+        INDEX,
+        /**
+         * Read through an index which also gives the order, no sort step
+         */
+        INDEX_SORTED,
+        /**
+         * Query reads every row by design (full list, keyword search), plan is only logged
+         */
+        FULL_READ
+    }
+
+    /**
+     * Load roles, departments, employees, salaries and prefixes, then collect statistics
+     * so the optimizer chooses plans as on a filled database. One row of ten is soft deleted.
+     */
+    @BeforeAll
+    void loadData() {
+        LocalDateTime start = LocalDateTime.of(2021, 1, 1, 0, 0);
+
+        List<Object[]> roles = new ArrayList<>();
+        for (long i = 1; i <= ROLES; i++) {
+            roles.add(new Object[]{i, "ROLE_" + i, "2021-01-01", i % 10 != 0, Timestamp.valueOf(start.plusMinutes(i))});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO role (id, role, created_date, active, version, last_modified) " +
+                "VALUES (?, ?, ?, ?, 0, ?)", roles);
+
+        List<Object[]> departments = new ArrayList<>();
+        for (long i = 1; i <= DEPARTMENTS; i++) {
+            departments.add(new Object[]{i, "Department " + i, "2021-01-01", "Department full name " + i,
+                    i % 10 != 0, Timestamp.valueOf(start.plusMinutes(i))});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO department " +
+                "(id, department, created_date, full_name, active, version, last_modified) " +
+                "VALUES (?, ?, ?, ?, ?, 0, ?)", departments);
+
+        List<Object[]> employees = new ArrayList<>();
+        for (long i = 1; i <= EMPLOYEES; i++) {
+            employees.add(new Object[]{i, "Employee " + i, "employee" + i + "@mail.com", "password",
+                    String.format("09%08d", i), "District " + i % 30, i % 2 == 0 ? "Male" : "Female",
+                    "image" + i + ".png", i % 10 != 0, i % 50 == 0 ? "token-" + i : null,
+                    i % ROLES + 1, i % DEPARTMENTS + 1, Timestamp.valueOf(start.plusMinutes(i))});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO employees (id, full_name, email, password, phone, address, gender, " +
+                "image, active, reset_password_token, role_id, department_id, version, last_modified) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, ?)", employees);
+
+        List<Object[]> salaries = new ArrayList<>();
+        long salaryId = 1;
+        for (long employeeId = 1; employeeId <= EMPLOYEES; employeeId++) {
+            for (int month = 0; month < SALARIES_PER_EMPLOYEE; month++) {
+                LocalDate createdDate = LocalDate.of(2015, 1, 1).plusMonths(month * 6L);
+                boolean current = month == SALARIES_PER_EMPLOYEE - 1;
+                salaries.add(new Object[]{salaryId, 1000 + month * 100, createdDate.toString(),
+                        current ? null : createdDate.plusMonths(6).toString(), employeeId, current,
+                        Timestamp.valueOf(start.plusSeconds(salaryId))});
+                salaryId++;
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO salary " +
+                "(id, salary, created_date, end_date, employee_id, active, version, last_modified) " +
+                "VALUES (?, ?, ?, ?, ?, ?, 0, ?)", salaries);
+
+        List<Object[]> prefixes = new ArrayList<>();
+        for (long i = 1; i <= PREFIXES; i++) {
+            prefixes.add(new Object[]{i, String.format("0%03d", i), "Prefix " + i});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO prefix (id, value, title) VALUES (?, ?, ?)", prefixes);
+
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    /**
+     * Every query of employee, salary, role, department and prefix repositories with its expected access path.
+     * Schema and indexes come from the same Flyway migrations as production
+     *
+     * @return name, expected access and repository call of each query
+     */
+    Stream<Arguments> repositoryQueries() {
+        String email = "employee42@mail.com";
+        Date since = new Date(0);
+        PageRequest page = PageRequest.of(0, 20);
+
+        return Stream.of(
+                //EmployeesRepository
+                query("findEmployeeByEmail", Access.INDEX, () -> employeesRepository.findEmployeeByEmail(email)),
+                query("findEmployeeByPhone", Access.INDEX, () -> employeesRepository.findEmployeeByPhone("0900000042")),
+                query("findAllByOrderByIdDesc", Access.FULL_READ, () -> employeesRepository.findAllByOrderByIdDesc()),
+                query("findByIdLessThanOrderByIdDesc", Access.INDEX,
+                        () -> employeesRepository.findByIdLessThanOrderByIdDesc(100L, page)),
+                query("findDistinctAddress", Access.FULL_READ, () -> employeesRepository.findDistinctAddress()),
+                query("findEmployees", Access.FULL_READ, () -> employeesRepository.findEmployees("Employee 4")),
+                query("findByEmail", Access.INDEX, () -> employeesRepository.findByEmail(email)),
+                query("findWithRoleAndDepartmentByEmail", Access.INDEX,
+                        () -> employeesRepository.findWithRoleAndDepartmentByEmail(email)),
+                query("findWithRoleByEmail", Access.INDEX, () -> employeesRepository.findWithRoleByEmail(email)),
+                query("findImageByEmail", Access.INDEX, () -> employeesRepository.findImageByEmail(email)),
+                query("findHeaderByEmail", Access.INDEX, () -> employeesRepository.findHeaderByEmail(email)),
+                query("findHeaderById", Access.INDEX, () -> employeesRepository.findHeaderById(42L)),
+                query("existsByEmail", Access.INDEX, () -> employeesRepository.existsByEmail(email)),
+                query("Employee.findById", Access.INDEX, () -> employeesRepository.findById(42L)),
+                query("findWithRoleAndDepartmentById", Access.INDEX,
+                        () -> employeesRepository.findWithRoleAndDepartmentById(42L)),
+                query("Employee.findAll", Access.FULL_READ, () -> employeesRepository.findAll()),
+                query("Employee.findByIdIn", Access.INDEX,
+                        () -> employeesRepository.findByIdIn(Arrays.asList(1L, 42L, 4999L))),
+                query("findByEmailIn", Access.INDEX,
+                        () -> employeesRepository.findByEmailIn(Arrays.asList(email, "employee7@mail.com"))),
+                query("findByResetPasswordToken", Access.INDEX,
+                        () -> employeesRepository.findByResetPasswordToken("token-50")),
+                query("Employee.existsByRole", Access.INDEX,
+                        () -> employeesRepository.existsByRole(roleRepository.findById(3L).get())),
+                query("Employee.existsByDepartment", Access.INDEX,
+                        () -> employeesRepository.existsByDepartment(departmentRepository.findById(3L).get())),
+                query("existsEmployeeByEmail", Access.INDEX, () -> employeesRepository.existsEmployeeByEmail(email)),
+                query("existsEmployeeByPhone", Access.INDEX,
+                        () -> employeesRepository.existsEmployeeByPhone("0900000042")),
+                query("findEmployeesByFullNameAndEmail", Access.FULL_READ,
+                        () -> employeesRepository.findEmployeesByFullNameAndEmail("employee4")),
+                query("Employee.findChangedSince", Access.INDEX_SORTED,
+                        () -> employeesRepository.findChangedSince(since, 0L, 500)),
+
+                //SalaryRepository
+                query("findByEmployee_FullName", Access.INDEX,
+                        () -> salaryRepository.findByEmployee_FullName("Employee 42")),
+                query("findByEmployee_Email", Access.INDEX, () -> salaryRepository.findByEmployee_Email(email)),
+                query("findAllByActiveEqualsOrderById", Access.FULL_READ,
+                        () -> salaryRepository.findAllByActiveEqualsOrderById(true)),
+                query("findByActiveTrueAndEmployeeIn", Access.INDEX,
+                        () -> salaryRepository.findByActiveTrueAndEmployeeIn(
+                                employeesRepository.findByIdIn(Arrays.asList(1L, 42L)))),
+                query("Salary.findByIdIn", Access.INDEX,
+                        () -> salaryRepository.findByIdIn(Arrays.asList(1L, 420L, 49999L))),
+                query("existsByEmployee_EmailAndCreatedDate", Access.INDEX,
+                        () -> salaryRepository.existsByEmployee_EmailAndCreatedDate(email, "2016-01-01")),
+                query("findByEmployee_EmailAndCreatedDate", Access.INDEX,
+                        () -> salaryRepository.findByEmployee_EmailAndCreatedDate(email, "2016-01-01")),
+                query("findWithEmployeeById", Access.INDEX, () -> salaryRepository.findWithEmployeeById(420L)),
+                query("findIntervalsByEmployeeId", Access.INDEX,
+                        () -> salaryRepository.findIntervalsByEmployeeId(42L)),
+                query("findIntervalPageByEmployeeId", Access.INDEX,
+                        () -> salaryRepository.findIntervalPageByEmployeeId(42L, "0000-01-01", "9999-12-31",
+                                "9999-12-31", Long.MAX_VALUE, PageRequest.of(0, 51))),
+                query("findByEmployee_IdOrderByCreatedDateAscIdAsc", Access.INDEX,
+                        () -> salaryRepository.findByEmployee_IdOrderByCreatedDateAscIdAsc(42L)),
+                query("Salary.findChangedSince", Access.INDEX_SORTED,
+                        () -> salaryRepository.findChangedSince(since, 0L, 500)),
+
+                //RoleRepository
+                query("Role.findById", Access.INDEX, () -> roleRepository.findById(3L)),
+                query("findByRole", Access.INDEX, () -> roleRepository.findByRole("ROLE_3")),
+                query("Role.existsByRole", Access.INDEX, () -> roleRepository.existsByRole("ROLE_3")),
+                query("findAllByOrderByRoleAsc", Access.INDEX_SORTED, () -> roleRepository.findAllByOrderByRoleAsc()),
+                query("findRolesByKeyword", Access.FULL_READ, () -> roleRepository.findRolesByKeyword("ROLE")),
+                query("Role.findChangedSince", Access.INDEX_SORTED,
+                        () -> roleRepository.findChangedSince(since, 0L, 500)),
+
+                //DepartmentRepository
+                query("Department.findById", Access.INDEX, () -> departmentRepository.findById(3L)),
+                query("findByDepartment", Access.INDEX, () -> departmentRepository.findByDepartment("Department 3")),
+                query("Department.existsByDepartment", Access.INDEX,
+                        () -> departmentRepository.existsByDepartment("Department 3")),
+                query("existsByFullName", Access.INDEX,
+                        () -> departmentRepository.existsByFullName("Department full name 3")),
+                query("findAllByOrderByDepartmentAsc", Access.INDEX_SORTED,
+                        () -> departmentRepository.findAllByOrderByDepartmentAsc()),
+                query("findDepartmentsByKeyword", Access.FULL_READ,
+                        () -> departmentRepository.findDepartmentsByKeyword("Department")),
+                query("Department.findChangedSince", Access.INDEX_SORTED,
+                        () -> departmentRepository.findChangedSince(since, 0L, 500)),
+
+                //PrefixPhoneNumberRepository
+                query("existsByTitle", Access.INDEX, () -> prefixPhoneNumberRepository.existsByTitle("Prefix 3")),
+                query("Prefix.findAll", Access.FULL_READ, () -> prefixPhoneNumberRepository.findAll())
+        );
+    }
+
+    /**
+     * Explain every statement of a repository query and check its access path.
+     * Parameters of the explained statement are null, H2 chooses the index from the
+     * condition, not from the value.
+     *
+     * @param name   repository method
+     * @param access expected access path
+     * @param call   repository call
+     */
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("repositoryQueries")
+    void queryUsesExpectedAccessPath(String name, Access access, Runnable call) {
+        List<String> statements = QueryRecorder.record(call);
+        assertFalse(statements.isEmpty(), name + " prepared no statement");
+
+        for (String sql : statements) {
+            String plan = explain(sql);
+            logger.info("{} ({})\n{}", name, access, plan);
+            if (access == Access.FULL_READ) {
+                continue;
+            }
+
+            assertFalse(FULL_SCAN.matcher(plan).find(), name + " reads a whole table:\n" + plan);
+            if (access == Access.INDEX_SORTED && sql.toLowerCase().contains("order by")) {
+                assertTrue(plan.contains(INDEX_SORTED),
+                        name + " sorts rows instead of reading them in order:\n" + plan);
+            }
+        }
+    }
+
+    /**
+     * Employee list loads role and department with the employees, one statement whatever the row count
+     */
+    @Test
+    void employeeListLoadsAssociationsInOneStatement() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        List<String> statements = QueryRecorder.record(() -> transactionTemplate.execute(status -> {
+            for (Employee employee : employeesRepository.findAllByOrderByIdDesc()) {
+                if (employee.getRole() != null) {
+                    employee.getRole().getRole();
+                }
+                if (employee.getDepartment() != null) {
+                    employee.getDepartment().getDepartment();
+                }
+            }
+            return null;
+        }));
+
+        assertEquals(1, statements.size(), "N+1 queries:\n" + String.join("\n", statements));
+    }
+
+    /**
+     * Salary list of an employee loads the employee with the salaries
+     */
+    @Test
+    void salaryListLoadsEmployeeInOneStatement() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        List<String> statements = QueryRecorder.record(() -> transactionTemplate.execute(status -> {
+            for (Salary salary : salaryRepository.findByEmployee_Email("employee42@mail.com")) {
+                salary.getEmployee().getFullName();
+            }
+            return null;
+        }));
+
+        assertEquals(1, statements.size(), "N+1 queries:\n" + String.join("\n", statements));
+    }
+
+    /**
+     * Fetch plan loads role and department, so they are readable after the transaction is closed
+     */
+    @Test
+    void fetchPlanAssociationsAreReadableOutsideTransaction() {
+        Employee employee = employeesRepository.findWithRoleAndDepartmentByEmail("employee42@mail.com").get();
+
+        assertDoesNotThrow(() -> employee.getRole().getRole());
+        assertDoesNotThrow(() -> employee.getDepartment().getDepartment());
+    }
+
+    /**
+     * Explain a prepared statement, every parameter is bound to null
+     *
+     * @param sql prepared statement
+     * @return query plan
+     */
+    private String explain(String sql) {
+        return jdbcTemplate.execute("EXPLAIN " + sql, (PreparedStatementCallback<String>) statement -> {
+            int parameterCount = statement.getParameterMetaData().getParameterCount();
+            for (int i = 1; i <= parameterCount; i++) {
+                statement.setObject(i, null);
+            }
+
+            StringBuilder plan = new StringBuilder();
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    plan.append(resultSet.getString(1)).append('\n');
+                }
+            }
+            return plan.toString();
+        });
+    }
+
+    /**
+     * Build arguments of one query case
+     *
+     * @param name   repository method
+     * @param access expected access path
+     * @param call   repository call
+     * @return test arguments
+     */
+    private static Arguments query(String name, Access access, Runnable call) {
+        return Arguments.of(name, access, call);
+    }
+}
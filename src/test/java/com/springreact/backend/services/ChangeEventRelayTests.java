@@ -0,0 +1,177 @@
+package com.springreact.backend.services;
+
+import com.springreact.backend.entity.ChangeEvent;
+import com.springreact.backend.entity.EChangeAction;
+import com.springreact.backend.entity.EChangeAggregate;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * ChangeEventRelayTests
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ * 19-10-2026       ThanhBT11           Gaps hold publishing until filled or given up
+ */
+class ChangeEventRelayTests {
+
+    private static final long POLL_TIMEOUT_MS = 60_000L;
+
+    private OutboxStub outbox;
+    private SimpleMeterRegistry meterRegistry;
+    private ChangeEventRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        outbox = new OutboxStub();
+        meterRegistry = new SimpleMeterRegistry();
+        relay = new ChangeEventRelay(outbox, meterRegistry);
+        ReflectionTestUtils.setField(relay, "batchSize", 500);
+        ReflectionTestUtils.setField(relay, "gapTimeoutMs", 60_000L);
+        ReflectionTestUtils.setField(relay, "streamTimeoutMs", 60_000L);
+    }
+
+    @Test
+    void subscriberBeforeFirstRunStartsFromLatestEvent() {
+        for (long id = 1; id <= 100; id++) {
+            outbox.commit(id);
+        }
+
+        DeferredResult<List<ChangeEvent>> result = relay.poll(-1L, POLL_TIMEOUT_MS);
+        assertFalse(result.hasResult(), "whole outbox was replayed");
+
+        outbox.commit(101L);
+        relay.relay();
+
+        assertEquals(Collections.singletonList(101L), ids(result));
+    }
+
+    @Test
+    void eventAfterGapWaitsUntilGapFillsLate() {
+        relay.relay();
+
+        //Id 1 is taken by a transaction not committed yet
+        outbox.commit(2L);
+        DeferredResult<List<ChangeEvent>> result = relay.poll(0L, POLL_TIMEOUT_MS);
+        relay.relay();
+        assertFalse(result.hasResult(), "published past an open gap");
+
+        outbox.commit(1L);
+        relay.relay();
+
+        assertEquals(Arrays.asList(1L, 2L), ids(result));
+    }
+
+    @Test
+    void lateEventIsDeliveredOnceInOrder() {
+        relay.relay();
+        outbox.commit(2L);
+        outbox.commit(3L);
+        relay.relay();
+        outbox.commit(1L);
+        relay.relay();
+
+        assertEquals(Arrays.asList(1L, 2L, 3L), ids(relay.poll(0L, POLL_TIMEOUT_MS)));
+
+        DeferredResult<List<ChangeEvent>> upToDate = relay.poll(3L, POLL_TIMEOUT_MS);
+        relay.relay();
+        assertFalse(upToDate.hasResult(), "late event was sent again");
+
+        outbox.commit(4L);
+        relay.relay();
+        assertEquals(Collections.singletonList(4L), ids(upToDate));
+    }
+
+    @Test
+    void gapIsGivenUpAfterTimeout() throws InterruptedException {
+        ReflectionTestUtils.setField(relay, "gapTimeoutMs", 50L);
+        relay.relay();
+        outbox.commit(2L);
+        DeferredResult<List<ChangeEvent>> result = relay.poll(0L, POLL_TIMEOUT_MS);
+        relay.relay();
+        assertFalse(result.hasResult());
+
+        Thread.sleep(100L);
+        relay.relay();
+
+        assertEquals(Collections.singletonList(2L), ids(result));
+        assertEquals(1.0, meterRegistry.get("outbox.gaps").tag("result", "expired").counter().count());
+    }
+
+    @Test
+    void partlyFilledGapKeepsFirstSightTime() throws InterruptedException {
+        ReflectionTestUtils.setField(relay, "gapTimeoutMs", 200L);
+        relay.relay();
+        outbox.commit(4L);
+        relay.relay();
+
+        Thread.sleep(120L);
+        outbox.commit(2L);
+        relay.relay();
+        Thread.sleep(120L);
+        DeferredResult<List<ChangeEvent>> result = relay.poll(0L, POLL_TIMEOUT_MS);
+        relay.relay();
+
+        //Ids 1 and 3 were skipped since id 4 was first read, both are given up together
+        assertEquals(Arrays.asList(2L, 4L), ids(result));
+    }
+
+    private List<Long> ids(DeferredResult<List<ChangeEvent>> result) {
+        assertTrue(result.hasResult(), "no events delivered");
+        @SuppressWarnings("unchecked")
+        List<ChangeEvent> events = (List<ChangeEvent>) result.getResult();
+        return events.stream().map(ChangeEvent::getId).collect(Collectors.toList());
+    }
+
+    /**
+     * Outbox table in memory, ids are committed in any order
+     */
+    private static class OutboxStub extends ChangeEventServices {
+
+        private final TreeMap<Long, ChangeEvent> committed = new TreeMap<>();
+
+        OutboxStub() {
+            super(null, null);
+        }
+
+        void commit(long id) {
+            ChangeEvent event = new ChangeEvent(EChangeAggregate.EMPLOYEE, id, EChangeAction.UPDATED);
+            event.setId(id);
+            committed.put(id, event);
+        }
+
+        @Override
+        public List<ChangeEvent> findEventsAfter(long offset, int limit) {
+            return committed.values().stream()
+                    .filter(event -> event.getId() > offset)
+                    .limit(limit)
+                    .collect(Collectors.toList());
+        }
+
+        @Override
+        public long findLatestEventId() {
+            return committed.isEmpty() ? 0L : committed.lastKey();
+        }
+    }
+}
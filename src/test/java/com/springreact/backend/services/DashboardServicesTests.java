@@ -0,0 +1,97 @@
+package com.springreact.backend.services;
+
+import com.springreact.backend.constant.Message;
+import com.springreact.backend.dto.response.DashboardResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * DashboardServicesTests
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ */
+class DashboardServicesTests {
+
+    private static final long SECTION_TIMEOUT_MS = 1500L;
+
+    private final List<TransactionDefinition> definitions = new CopyOnWriteArrayList<>();
+
+    private EmployeeServices employeeServices;
+    private DashboardServices dashboardServices;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        employeeServices = mock(EmployeeServices.class);
+        RoleServices roleServices = mock(RoleServices.class);
+        DepartmentServices departmentServices = mock(DepartmentServices.class);
+        SalaryServices salaryServices = mock(SalaryServices.class);
+        when(employeeServices.findAllEmployeeOrderByIdDesc()).thenReturn(Collections.emptyList());
+        when(employeeServices.findDistinctAddress()).thenReturn(Collections.emptyList());
+        when(roleServices.findAllByOrderByRoleAsc()).thenReturn(Collections.emptyList());
+        when(departmentServices.findAllByOrderByDepartmentAsc()).thenReturn(Collections.emptyList());
+        when(salaryServices.findAllSalaryOrderByIdDesc()).thenReturn(Collections.emptyList());
+
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> {
+            definitions.add(invocation.getArgument(0));
+            return new SimpleTransactionStatus();
+        });
+
+        dashboardServices = new DashboardServices(employeeServices, roleServices, departmentServices,
+                salaryServices, transactionManager, 5, 100, SECTION_TIMEOUT_MS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dashboardServices.shutdown();
+    }
+
+    @Test
+    void sectionQueriesTimeOutAtTheDeadline() {
+        DashboardResponse response = dashboardServices.loadDashboard();
+
+        assertFalse(response.isPartial());
+        assertEquals(5, definitions.size());
+        for (TransactionDefinition definition : definitions) {
+            assertTrue(definition.isReadOnly());
+            assertTrue(definition.getTimeout() >= 1 && definition.getTimeout() <= 2,
+                    "timeout " + definition.getTimeout() + "s does not match the section deadline");
+        }
+    }
+
+    @Test
+    void queryStoppedByDatabaseIsReportedAsTimeout() {
+        when(employeeServices.findDistinctAddress()).thenThrow(new QueryTimeoutException("statement cancelled"));
+
+        DashboardResponse response = dashboardServices.loadDashboard();
+
+        assertTrue(response.isPartial());
+        assertEquals(Message.DASHBOARD_SECTION_TIMEOUT, response.getUnavailable().get("addresses"));
+        assertEquals(4, response.getSections().size());
+    }
+}
@@ -0,0 +1,63 @@
+package com.springreact.backend.services;
+
+import com.springreact.backend.entity.PrefixPhoneNumber;
+import com.springreact.backend.repository.PrefixPhoneNumberRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * PrefixServiceTests
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ */
+class PrefixServiceTests {
+
+    private final PrefixPhoneNumberRepository prefixPhoneNumberRepository = mock(PrefixPhoneNumberRepository.class);
+
+    @Test
+    void emptyTableIsNotCached() {
+        PrefixService prefixService = new PrefixService(prefixPhoneNumberRepository, 60_000L);
+        when(prefixPhoneNumberRepository.findAll()).thenReturn(Collections.emptyList());
+        assertFalse(prefixService.isPrefixExistByTitle("Viettel"));
+
+        when(prefixPhoneNumberRepository.findAll()).thenReturn(Collections.singletonList(prefix("Viettel")));
+        assertTrue(prefixService.isPrefixExistByTitle("viettel"));
+    }
+
+    @Test
+    void titlesAreReloadedAfterTtl() throws InterruptedException {
+        PrefixService prefixService = new PrefixService(prefixPhoneNumberRepository, 50L);
+        when(prefixPhoneNumberRepository.findAll()).thenReturn(Collections.singletonList(prefix("Viettel")));
+        assertTrue(prefixService.isPrefixExistByTitle("Viettel"));
+        assertFalse(prefixService.isPrefixExistByTitle("Mobifone"));
+        verify(prefixPhoneNumberRepository, times(1)).findAll();
+
+        when(prefixPhoneNumberRepository.findAll()).thenReturn(Collections.singletonList(prefix("Mobifone")));
+        Thread.sleep(100L);
+        assertTrue(prefixService.isPrefixExistByTitle("Mobifone"));
+        verify(prefixPhoneNumberRepository, times(2)).findAll();
+    }
+
+    private static PrefixPhoneNumber prefix(String title) {
+        PrefixPhoneNumber prefixPhoneNumber = new PrefixPhoneNumber();
+        prefixPhoneNumber.setTitle(title);
+        return prefixPhoneNumber;
+    }
+}
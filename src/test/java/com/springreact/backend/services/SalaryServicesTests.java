@@ -0,0 +1,45 @@
+package com.springreact.backend.services;
+
+import com.springreact.backend.dto.request.EmployeeSalary;
+import com.springreact.backend.exception.ResourceNotFoundException;
+import com.springreact.backend.repository.EmployeesRepository;
+import com.springreact.backend.repository.FieldsetRepository;
+import com.springreact.backend.repository.SalaryRepository;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+/**
+ * SalaryServicesTests
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ */
+class SalaryServicesTests {
+
+    //Repository mocks find no salary
+    private final SalaryServices salaryServices = new SalaryServices(mock(EmployeesRepository.class),
+            mock(SalaryRepository.class), mock(ChangeEventServices.class), mock(FieldsetRepository.class));
+
+    @Test
+    void updateOfMissingSalaryIsNotFound() {
+        assertSame(ResourceNotFoundException.SALARY, assertThrows(ResourceNotFoundException.class,
+                () -> salaryServices.processUpdateSalary(new EmployeeSalary(), "missing@mail.com", "2021-01-01")));
+    }
+
+    @Test
+    void deleteOfMissingSalaryIsNotFound() {
+        assertSame(ResourceNotFoundException.SALARY, assertThrows(ResourceNotFoundException.class,
+                () -> salaryServices.processDeleteSalary("missing@mail.com", "2021-01-01")));
+    }
+}
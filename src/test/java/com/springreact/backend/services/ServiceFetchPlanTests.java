@@ -0,0 +1,197 @@
+package com.springreact.backend.services;
+
+import com.springreact.backend.dto.request.EmployeeSalary;
+import com.springreact.backend.dto.response.EmployeeResponse;
+import com.springreact.backend.dto.response.SalaryHistoryResponse;
+import com.springreact.backend.dto.response.SalaryResponse;
+import com.springreact.backend.entity.Employee;
+import com.springreact.backend.entity.Salary;
+import com.springreact.backend.repository.QueryRecorder;
+import com.springreact.backend.security.service.UserDetailsServiceImpl;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.context.TestPropertySource;
+
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * ServiceFetchPlanTests
+ * <p>
+ * Version 1.0
+ * <p>
+ * Date: 19-10-2026
+ * <p>
+ * Copyright By Thanh
+ * <p>
+ * Modification Logs:
+ * DATE             AUTHOR              DESCRIPTION
+ * -------------------------------------------------
+ * 19-10-2026       ThanhBT11           Create
+ */
+@SpringBootTest
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:fetch_plan;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.springreact.backend.repository.QueryRecorder",
+        "spring.jpa.open-in-view=false",
+        "reactCrud.app.warmup.enabled=false",
+        "reactCrud.app.async.mode=SYNC"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ServiceFetchPlanTests {
+
+    private static final int ROLES = 3;
+    private static final int DEPARTMENTS = 4;
+    private static final int EMPLOYEES = 30;
+    private static final int SALARIES_PER_EMPLOYEE = 3;
+    private static final String EMAIL = "employee7@mail.com";
+
+    @Autowired
+    private EmployeeServices employeeServices;
+
+    @Autowired
+    private SalaryServices salaryServices;
+
+    @Autowired
+    private UserDetailsServiceImpl userDetailsService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Load roles, departments, employees and salaries. Employees are spread over every role
+     * and department, so a lazy load per row would show as extra statements
+     */
+    @BeforeAll
+    void loadData() {
+        List<Object[]> roles = new ArrayList<>();
+        for (long i = 1; i <= ROLES; i++) {
+            roles.add(new Object[]{i, "ROLE_" + i});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO role (id, role, created_date, active, version) " +
+                "VALUES (?, ?, '2021-01-01', TRUE, 0)", roles);
+
+        List<Object[]> departments = new ArrayList<>();
+        for (long i = 1; i <= DEPARTMENTS; i++) {
+            departments.add(new Object[]{i, "Department " + i, "Department full name " + i});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO department (id, department, created_date, full_name, active, version) " +
+                "VALUES (?, ?, '2021-01-01', ?, TRUE, 0)", departments);
+
+        List<Object[]> employees = new ArrayList<>();
+        for (long i = 1; i <= EMPLOYEES; i++) {
+            employees.add(new Object[]{i, "Employee " + i, "employee" + i + "@mail.com",
+                    String.format("09%08d", i), i % ROLES + 1, i % DEPARTMENTS + 1});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO employees (id, full_name, email, password, phone, address, gender, " +
+                "image, active, role_id, department_id, version) " +
+                "VALUES (?, ?, ?, 'password', ?, 'District 1', 'Male', 'image.png', TRUE, ?, ?, 0)", employees);
+
+        List<Object[]> salaries = new ArrayList<>();
+        long salaryId = 1;
+        for (long employeeId = 1; employeeId <= EMPLOYEES; employeeId++) {
+            for (int year = 0; year < SALARIES_PER_EMPLOYEE; year++) {
+                boolean current = year == SALARIES_PER_EMPLOYEE - 1;
+                salaries.add(new Object[]{salaryId++, 1000 + year * 100, (2018 + year) + "-01-01",
+                        current ? null : (2019 + year) + "-01-01", employeeId, current});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO salary (id, salary, created_date, end_date, employee_id, active, " +
+                "version) VALUES (?, ?, ?, ?, ?, ?, 0)", salaries);
+    }
+
+    @Test
+    void employeeListIsOneStatementAndMapsAfterTransaction() {
+        List<Employee> employees = recordStatements(1, () -> employeeServices.findAllEmployeeOrderByIdDesc());
+
+        assertEquals(EMPLOYEES, employees.size());
+        assertDoesNotThrow(() -> EmployeeResponse.listOf(employees));
+    }
+
+    @Test
+    void employeeRoleAndDepartmentListIsOneStatement() {
+        assertEquals(EMPLOYEES, recordStatements(1, () -> employeeServices.listEmployeeRoleAndDepartment()).size());
+    }
+
+    @Test
+    void employeeDetailIsOneStatementAndMapsAfterTransaction() {
+        Employee byId = recordStatements(1, () -> employeeServices.findEmployeeById(7L));
+        Employee byEmail = recordStatements(1, () -> employeeServices.findEmployeeByEmail(EMAIL));
+
+        assertEquals("ROLE_2", assertDoesNotThrow(() -> EmployeeResponse.of(byId)).getRole());
+        assertEquals("Department 4", assertDoesNotThrow(() -> EmployeeResponse.of(byEmail)).getDepartment());
+    }
+
+    @Test
+    void authenticationLoadsRoleInOneStatement() {
+        UserDetails userDetails = recordStatements(1, () -> userDetailsService.loadUserByUsername(EMAIL));
+
+        assertEquals("ROLE_2", userDetails.getAuthorities().iterator().next().getAuthority());
+    }
+
+    @Test
+    void salaryListOfEmailIsOneStatementAndMapsAfterTransaction() {
+        List<Salary> salaries = recordStatements(1, () -> salaryServices.findAllSalaryByEmail(EMAIL));
+
+        assertEquals(SALARIES_PER_EMPLOYEE, salaries.size());
+        List<SalaryResponse> responses = assertDoesNotThrow(() -> SalaryResponse.listOf(salaries));
+        assertEquals(SALARIES_PER_EMPLOYEE, responses.size());
+    }
+
+    @Test
+    void latestSalariesAreOneStatement() {
+        List<EmployeeSalary> salaries = recordStatements(1, () -> {
+            try {
+                return salaryServices.findAllSalaryOrderByIdDesc();
+            } catch (ParseException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        assertEquals(EMPLOYEES, salaries.size());
+    }
+
+    @Test
+    void salaryHistoryStatementsDoNotGrowWithRows() {
+        //Employee header, then salary columns only
+        SalaryHistoryResponse history = recordStatements(2, () -> salaryServices.findSalaryHistoryByEmail(EMAIL));
+        //Employee by id, then salaries, employee is taken from the persistence context
+        List<EmployeeSalary> salaries = recordStatements(2,
+                () -> salaryServices.findAllSalariesHistoryByEmployeeId(7L));
+
+        assertEquals(SALARIES_PER_EMPLOYEE, history.getIntervals().size());
+        assertEquals(SALARIES_PER_EMPLOYEE, salaries.size());
+    }
+
+    /**
+     * Run a service call outside any transaction and check how many statements it prepared
+     *
+     * @param expected expected statement count
+     * @param call     service call
+     * @param <T>      result type
+     * @return result of the call
+     */
+    private static <T> T recordStatements(int expected, Supplier<T> call) {
+        AtomicReference<T> result = new AtomicReference<>();
+        List<String> statements = QueryRecorder.record(() -> result.set(call.get()));
+
+        assertEquals(expected, statements.size(), "N+1 queries:\n" + String.join("\n", statements));
+        return result.get();
+    }
+}